@@ -6,10 +6,15 @@ import gov.hhs.onc.dcdt.utils.ToolCollectionUtils;
 import gov.hhs.onc.dcdt.utils.ToolListUtils;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Nullable;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ArrayUtils;
@@ -21,6 +26,7 @@ import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.AutowireCandidateQualifier;
+import org.springframework.context.ConfigurableApplicationContext;
 
 public abstract class ToolBeanFactoryUtils {
     public static class QualifiedBeanNamePredicate extends AbstractToolPredicate<String> {
@@ -88,6 +94,9 @@ public abstract class ToolBeanFactoryUtils {
 
     public final static Set<String> SCOPE_NAMES_BUILTIN = new HashSet<>(ToolArrayUtils.asList(BeanDefinition.SCOPE_SINGLETON, BeanDefinition.SCOPE_PROTOTYPE));
 
+    private final static Map<ConfigurableListableBeanFactory, ConcurrentMap<Class<?>, List<String>>> PROTOTYPE_BEAN_NAMES_CACHE = Collections
+        .synchronizedMap(new WeakHashMap<>());
+
     @Nullable
     public static Set<AutowireCandidateQualifier> getQualifiers(ConfigurableListableBeanFactory beanFactory, @Nullable String beanName) {
         // noinspection ConstantConditions
@@ -111,7 +120,7 @@ public abstract class ToolBeanFactoryUtils {
     }
 
     public static <T> List<T> createBeansOfType(ListableBeanFactory beanFactory, Class<T> beanClass, @Nullable Object ... beanCreationArgs) {
-        Collection<String> beanNames = CollectionUtils.select(getBeanNamesOfType(beanFactory, beanClass), new PrototypeScopedBeanNamePredicate(beanFactory));
+        List<String> beanNames = getPrototypeBeanNamesOfType(beanFactory, beanClass);
         List<T> beans = new ArrayList<>(beanNames.size());
 
         for (String beanName : beanNames) {
@@ -128,7 +137,7 @@ public abstract class ToolBeanFactoryUtils {
 
     @Nullable
     public static <T> T createBeanOfType(ListableBeanFactory beanFactory, Class<T> beanClass, @Nullable Object ... beanCreationArgs) {
-        String beanName = CollectionUtils.find(getBeanNamesOfType(beanFactory, beanClass), new PrototypeScopedBeanNamePredicate(beanFactory));
+        String beanName = ToolListUtils.getFirst(getPrototypeBeanNamesOfType(beanFactory, beanClass));
 
         return ((beanName != null) ? createBean(beanFactory, beanName, beanClass, beanCreationArgs) : null);
     }
@@ -141,6 +150,24 @@ public abstract class ToolBeanFactoryUtils {
         return beanClass.cast(beanFactory.getBean(beanName, ArrayUtils.nullToEmpty(beanCreationArgs)));
     }
 
+    public static List<String> getPrototypeBeanNamesOfType(ListableBeanFactory beanFactory, Class<?> beanClass) {
+        ConfigurableListableBeanFactory cacheBeanFactory = getCacheableBeanFactory(beanFactory);
+
+        if (cacheBeanFactory == null) {
+            return buildPrototypeBeanNamesOfType(beanFactory, beanClass);
+        }
+
+        ConcurrentMap<Class<?>, List<String>> beanNamesCache = PROTOTYPE_BEAN_NAMES_CACHE.computeIfAbsent(cacheBeanFactory, key -> new ConcurrentHashMap<>());
+
+        List<String> beanNames = beanNamesCache.get(beanClass);
+
+        if (beanNames == null) {
+            beanNamesCache.putIfAbsent(beanClass, (beanNames = buildPrototypeBeanNamesOfType(beanFactory, beanClass)));
+        }
+
+        return beanNames;
+    }
+
     public static <T> boolean containsBeanOfType(ListableBeanFactory beanFactory, Class<T> beanClass) {
         return (getBeanOfType(beanFactory, beanClass) != null);
     }
@@ -203,4 +230,29 @@ public abstract class ToolBeanFactoryUtils {
     public static boolean isBuiltinScope(@Nullable String beanScopeName) {
         return SCOPE_NAMES_BUILTIN.contains(beanScopeName);
     }
+
+    private static List<String> buildPrototypeBeanNamesOfType(ListableBeanFactory beanFactory, Class<?> beanClass) {
+        return Collections.unmodifiableList(new ArrayList<>(CollectionUtils.select(getBeanNamesOfType(beanFactory, beanClass),
+            new PrototypeScopedBeanNamePredicate(beanFactory))));
+    }
+
+    @Nullable
+    private static ConfigurableListableBeanFactory getCacheableBeanFactory(ListableBeanFactory beanFactory) {
+        if (beanFactory instanceof ConfigurableApplicationContext) {
+            ConfigurableApplicationContext appContext = ((ConfigurableApplicationContext) beanFactory);
+
+            if (!appContext.isActive()) {
+                return null;
+            }
+
+            try {
+                beanFactory = appContext.getBeanFactory();
+            } catch (IllegalStateException ignored) {
+                return null;
+            }
+        }
+
+        return (((beanFactory instanceof ConfigurableListableBeanFactory) && ((ConfigurableListableBeanFactory) beanFactory).isConfigurationFrozen())
+            ? ((ConfigurableListableBeanFactory) beanFactory) : null);
+    }
 }
@@ -5,25 +5,70 @@ import gov.hhs.onc.dcdt.compress.ArchiveType;
 import gov.hhs.onc.dcdt.utils.ToolArrayUtils;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
 import javax.annotation.Nullable;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveException;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
 import org.apache.commons.compress.archivers.ArchiveOutputStream;
 import org.apache.commons.compress.archivers.ArchiveStreamFactory;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 
 public abstract class ArchiveUtils {
+    @FunctionalInterface
+    public interface ArchiveEntryDataReader<T extends ArchiveEntry> {
+        public void readEntryData(T entry, InputStream entryInStream) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface ArchiveEntryDataWriter {
+        public void writeEntryData(OutputStream entryOutStream) throws IOException;
+    }
+
     public static class ZipArchiveEntryPairTransformer extends AbstractArchiveEntryPairTransformer<ZipArchiveEntry> {
         public final static ZipArchiveEntryPairTransformer INSTANCE = new ZipArchiveEntryPairTransformer();
 
+        private Predicate<String> storedEntryNamePredicate;
+
+        public ZipArchiveEntryPairTransformer() {
+            this(null);
+        }
+
+        public ZipArchiveEntryPairTransformer(@Nullable Predicate<String> storedEntryNamePredicate) {
+            this.storedEntryNamePredicate = storedEntryNamePredicate;
+        }
+
         @Override
         protected ZipArchiveEntry createEntry(Entry<String, byte[]> entryDescPair) {
-            ZipArchiveEntry entry = new ZipArchiveEntry(entryDescPair.getKey());
-            entry.setSize(entryDescPair.getValue().length);
+            String entryName = entryDescPair.getKey();
+            byte[] entryData = entryDescPair.getValue();
+            ZipArchiveEntry entry = new ZipArchiveEntry(entryName);
+            entry.setSize(entryData.length);
+
+            if ((this.storedEntryNamePredicate != null) && this.storedEntryNamePredicate.test(entryName)) {
+                CRC32 entryCrc = new CRC32();
+                entryCrc.update(entryData);
+
+                entry.setMethod(ZipEntry.STORED);
+                entry.setCompressedSize(entryData.length);
+                entry.setCrc(entryCrc.getValue());
+            }
 
             return entry;
         }
@@ -39,35 +84,42 @@ public abstract class ArchiveUtils {
         protected abstract T createEntry(Entry<String, byte[]> entryDescPair);
     }
 
-    // @formatter:off
-    /*
-    @SuppressWarnings({ "unchecked" })
+    public final static int COMPRESSION_LEVEL_DEFAULT = Deflater.DEFAULT_COMPRESSION;
+    public final static int COMPRESSION_LEVEL_NONE = Deflater.NO_COMPRESSION;
+    public final static int COMPRESSION_LEVEL_BEST_SPEED = Deflater.BEST_SPEED;
+    public final static int COMPRESSION_LEVEL_BEST_COMPRESSION = Deflater.BEST_COMPRESSION;
+
     public static <T extends ArchiveEntry> List<Pair<T, byte[]>> readArchive(ArchiveType type, InputStream inStream) throws ArchiveException {
-        try (ArchiveInputStream archiveInStream = new ArchiveStreamFactory().createArchiveInputStream(type.getType(), inStream)) {
-            List<Pair<T, byte[]>> entryPairs = new ArrayList<>();
+        List<Pair<T, byte[]>> entryPairs = new ArrayList<>();
+
+        ArchiveUtils.<T> readArchiveEntries(type, inStream,
+            ((entry, entryInStream) -> entryPairs.add(new MutablePair<>(entry, IOUtils.toByteArray(entryInStream)))));
+
+        return entryPairs;
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    public static <T extends ArchiveEntry> void readArchiveEntries(ArchiveType type, InputStream inStream, ArchiveEntryDataReader<T> entryDataReader)
+        throws ArchiveException {
+        try (ArchiveInputStream archiveInStream = new ArchiveStreamFactory().createArchiveInputStream(type.getType(), new CloseShieldInputStream(inStream))) {
             T entry;
-            long entrySize;
 
             while ((entry = ((T) archiveInStream.getNextEntry())) != null) {
-                if ((entrySize = entry.getSize()) == ArchiveEntry.SIZE_UNKNOWN) {
+                if (entry.isDirectory() || !archiveInStream.canReadEntryData(entry)) {
                     continue;
                 }
 
                 try {
-                    entryPairs.add(new MutablePair<>(entry, IOUtils.toByteArray(archiveInStream, entrySize)));
+                    entryDataReader.readEntryData(entry, new CloseShieldInputStream(archiveInStream));
                 } catch (IOException e) {
                     throw new ArchiveException(String.format("Unable to read archive (type=%s) entry (name=%s, size=%d).", type.name(), entry.getName(),
                         entry.getSize()), e);
                 }
             }
-
-            return entryPairs;
         } catch (IOException e) {
-            throw new ArchiveException(String.format("Unable to close archive (type=%s) input stream.", type.name()), e);
+            throw new ArchiveException(String.format("Unable to read archive (type=%s) input stream.", type.name()), e);
         }
     }
-    */
-    // @formatter:on
 
     @SafeVarargs
     @SuppressWarnings({ "varargs" })
@@ -96,19 +148,49 @@ public abstract class ArchiveUtils {
 
     public static <T extends ArchiveEntry> void
         writeArchive(ArchiveType type, OutputStream outStream, @Nullable Iterable<? extends Entry<T, byte[]>> entryPairs) throws ArchiveException {
-        try (ArchiveOutputStream archiveOutStream = new ArchiveStreamFactory().createArchiveOutputStream(type.getType(), outStream)) {
-            if (entryPairs == null) {
-                return;
+        writeArchive(type, outStream, COMPRESSION_LEVEL_DEFAULT, entryPairs);
+    }
+
+    public static <T extends ArchiveEntry> void writeArchive(ArchiveType type, OutputStream outStream, int compressionLevel,
+        @Nullable Iterable<? extends Entry<T, byte[]>> entryPairs) throws ArchiveException {
+        if (entryPairs == null) {
+            writeArchiveEntries(type, outStream, compressionLevel, null);
+
+            return;
+        }
+
+        Iterable<ImmutablePair<T, ArchiveEntryDataWriter>> entryWriterPairs =
+            () -> StreamSupport
+                .stream(entryPairs.spliterator(), false)
+                .map(
+                    entryPair -> new ImmutablePair<T, ArchiveEntryDataWriter>(entryPair.getKey(),
+                        (entryOutStream -> entryOutStream.write(entryPair.getValue())))).iterator();
+
+        writeArchiveEntries(type, outStream, compressionLevel, entryWriterPairs);
+    }
+
+    public static <T extends ArchiveEntry> void writeArchiveEntries(ArchiveType type, OutputStream outStream, int compressionLevel,
+        @Nullable Iterable<? extends Entry<T, ? extends ArchiveEntryDataWriter>> entryWriterPairs) throws ArchiveException {
+        try (ArchiveOutputStream archiveOutStream =
+            new ArchiveStreamFactory().createArchiveOutputStream(type.getType(), new CloseShieldOutputStream(outStream))) {
+            if (archiveOutStream instanceof ZipArchiveOutputStream) {
+                ((ZipArchiveOutputStream) archiveOutStream).setLevel(compressionLevel);
             }
 
-            for (Entry<T, byte[]> entryPair : entryPairs) {
-                try {
-                    archiveOutStream.putArchiveEntry(entryPair.getKey());
-                    archiveOutStream.write(entryPair.getValue());
-                    archiveOutStream.closeArchiveEntry();
-                } catch (IOException e) {
-                    throw new ArchiveException(String.format("Unable to write archive (type=%s) entry (name=%s, size=%d).", type.name(), entryPair.getKey()
-                        .getName(), entryPair.getValue().length), e);
+            if (entryWriterPairs != null) {
+                T entry;
+
+                for (Entry<T, ? extends ArchiveEntryDataWriter> entryWriterPair : entryWriterPairs) {
+                    entry = entryWriterPair.getKey();
+
+                    try {
+                        archiveOutStream.putArchiveEntry(entry);
+                        entryWriterPair.getValue().writeEntryData(new CloseShieldOutputStream(archiveOutStream));
+                        archiveOutStream.closeArchiveEntry();
+                    } catch (IOException e) {
+                        throw new ArchiveException(String.format("Unable to write archive (type=%s) entry (name=%s, size=%d).", type.name(), entry.getName(),
+                            entry.getSize()), e);
+                    }
                 }
             }
 
@@ -116,5 +198,11 @@ public abstract class ArchiveUtils {
         } catch (IOException e) {
             throw new ArchiveException(String.format("Unable to close archive (type=%s) output stream.", type.name()), e);
         }
+
+        try {
+            outStream.flush();
+        } catch (IOException e) {
+            throw new ArchiveException(String.format("Unable to flush archive (type=%s) output stream.", type.name()), e);
+        }
     }
 }
@@ -4,13 +4,18 @@ import gov.hhs.onc.dcdt.beans.impl.AbstractToolDomainAddressBean;
 import gov.hhs.onc.dcdt.config.instance.InstanceConfig;
 import java.net.InetAddress;
 import javax.annotation.Nullable;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import javax.persistence.Transient;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.xbill.DNS.Name;
 
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Cacheable
 @Entity(name = "instance_config")
 @Table(name = "instance_configs")
 public class InstanceConfigImpl extends AbstractToolDomainAddressBean implements InstanceConfig {
@@ -5,6 +5,7 @@ public final class ToolProperties {
     public final static String APP_PREFIX = PREFIX + "app.";
     public final static String CATALINA_PREFIX = "catalina.";
     public final static String LOG_PREFIX = PREFIX + "log.";
+    public final static String LOG_ASYNC_PREFIX = LOG_PREFIX + "async.";
     public final static String LOG_CONSOLE_PREFIX = LOG_PREFIX + "console.";
     public final static String LOG_CONTEXT_PREFIX = LOG_PREFIX + "context.";
     public final static String LOG_FILE_PREFIX = LOG_PREFIX + "file.";
@@ -22,6 +23,10 @@ public final class ToolProperties {
     public final static String LOG_CONTEXT_NAME_NAME = LOG_CONTEXT_PREFIX + NAME_SUFFIX;
     public final static String LOG_CONTEXT_INITIALIZED_NAME = LOG_CONTEXT_PREFIX + "initialized";
 
+    public final static String LOG_ASYNC_DISCARD_THRESHOLD_NAME = LOG_ASYNC_PREFIX + "discard.threshold";
+    public final static String LOG_ASYNC_NEVER_BLOCK_NAME = LOG_ASYNC_PREFIX + "never.block";
+    public final static String LOG_ASYNC_QUEUE_SIZE_NAME = LOG_ASYNC_PREFIX + "queue.size";
+
     public final static String LOG_CONSOLE_PATTERN_NAME = LOG_CONSOLE_PREFIX + PATTERN_SUFFIX;
     public final static String LOG_CONSOLE_TARGET_NAME = LOG_CONSOLE_PREFIX + "target";
     public final static String LOG_CONSOLE_TERM_NAME = LOG_CONSOLE_PREFIX + "term";
@@ -5,13 +5,10 @@ import gov.hhs.onc.dcdt.crypto.certs.CertificateException;
 import gov.hhs.onc.dcdt.crypto.certs.CertificateInfo;
 import gov.hhs.onc.dcdt.crypto.certs.CertificateIntervalInfo;
 import gov.hhs.onc.dcdt.crypto.certs.CertificateValidatorContext;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import gov.hhs.onc.dcdt.utils.ToolDateUtils;
 import javax.validation.ConstraintValidatorContext;
 
 public class CertificateActiveIntervalConstraintValidator extends AbstractCertificateConstraintValidator<CertificateActiveInterval> {
-    private final static DateFormat DATE_FORMAT_CERT_INTERVAL_BOUNDARY = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss Z");
-
     @Override
     protected boolean isValidInternal(CertificateValidatorContext certValidInfo, ConstraintValidatorContext validatorContext) throws Exception {
         CertificateInfo certInfo = certValidInfo.getCertificateInfo();
@@ -23,8 +20,8 @@ public class CertificateActiveIntervalConstraintValidator extends AbstractCertif
             throw new CertificateException(String.format(
                 "Certificate (subjDn={%s}, serialNum=%s, issuerDn={%s}) interval (notBefore={%s}, notAfter={%s}) is not currently active.",
                 certInfo.getSubjectDn(), certInfo.getSerialNumber(), certInfo.getIssuerDn(),
-                DATE_FORMAT_CERT_INTERVAL_BOUNDARY.format(certIntervalInfo.getNotBefore()),
-                DATE_FORMAT_CERT_INTERVAL_BOUNDARY.format(certIntervalInfo.getNotAfter())));
+                ToolDateUtils.formatDate(ToolDateUtils.FORMATTER_DISPLAY, certIntervalInfo.getNotBefore()),
+                ToolDateUtils.formatDate(ToolDateUtils.FORMATTER_DISPLAY, certIntervalInfo.getNotAfter())));
         }
 
         return true;
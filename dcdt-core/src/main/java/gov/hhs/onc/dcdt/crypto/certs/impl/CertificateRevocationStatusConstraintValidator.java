@@ -18,20 +18,16 @@ import gov.hhs.onc.dcdt.crypto.utils.CrlUtils.ToolX509Crl;
 import gov.hhs.onc.dcdt.http.HttpTransportProtocol;
 import gov.hhs.onc.dcdt.http.lookup.HttpLookupResult;
 import gov.hhs.onc.dcdt.http.lookup.HttpLookupService;
+import gov.hhs.onc.dcdt.utils.ToolDateUtils;
 import java.math.BigInteger;
 import java.net.URI;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import javax.annotation.Resource;
 import javax.validation.ConstraintValidatorContext;
 import org.apache.commons.lang3.StringUtils;
 
 public class CertificateRevocationStatusConstraintValidator extends AbstractCertificateConstraintValidator<CertificateRevocationStatus> {
-    private final static DateFormat CERT_CRL_DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss Z");
-
     @Resource(name = "httpLookupServiceCombined")
     private HttpLookupService httpLookupService;
 
@@ -134,17 +130,20 @@ public class CertificateRevocationStatusConstraintValidator extends AbstractCert
 
         // noinspection ConstantConditions
         BigInteger certSerialNum = certInfo.getSerialNumber().getValue();
-        Map<BigInteger, CrlEntryInfo> certCrlEntryInfos;
+        CrlEntryInfo certCrlEntryInfo;
 
         for (CrlInfo certCrlInfo : certCrlInfos) {
-            if (!(certCrlEntryInfos = certCrlInfo.getEntries()).containsKey(certSerialNum)) {
+            if ((certCrlEntryInfo = certCrlInfo.getEntry(certSerialNum)) == null) {
                 continue;
             }
 
-            CrlEntryInfo certCrlEntryInfo = certCrlEntryInfos.get(certSerialNum);
             boolean certCrlReasonAvailable = certCrlEntryInfo.hasRevocationReason();
             CrlReasonType certCrlReason = null;
 
+            String certCrlThisUpdateStr = ToolDateUtils.formatDate(ToolDateUtils.FORMATTER_DISPLAY, certCrlInfo.getThisUpdate()), certCrlNextUpdateStr =
+                ToolDateUtils.formatDate(ToolDateUtils.FORMATTER_DISPLAY, certCrlInfo.getNextUpdate()), certCrlRevocationDateStr =
+                ToolDateUtils.formatDate(ToolDateUtils.FORMATTER_DISPLAY, certCrlEntryInfo.getRevocationDate());
+
             // noinspection ConstantConditions
             if (!certCrlReasonAvailable || (certCrlReason = certCrlEntryInfo.getRevocationReason()).isRevoked()) {
                 // noinspection ConstantConditions
@@ -152,10 +151,8 @@ public class CertificateRevocationStatusConstraintValidator extends AbstractCert
                     String
                         .format(
                             "Certificate (subjDn={%s}, serialNum=%s, issuerDn={%s}) CRL instance (thisUpdate={%s}, nextUpdate={%s}) entry is revoked (reason=%s, date={%s}).",
-                            certSubjDn, certInfo.getSerialNumber(), certIssuerDn, CERT_CRL_DATE_FORMAT.format(certCrlInfo.getThisUpdate()), (certCrlInfo
-                                .hasNextUpdate() ? CERT_CRL_DATE_FORMAT.format(certCrlInfo.getNextUpdate()) : null),
-                            (certCrlReasonAvailable ? certCrlReason.name() : null),
-                            (certCrlEntryInfo.hasRevocationDate() ? CERT_CRL_DATE_FORMAT.format(certCrlEntryInfo.getRevocationDate()) : null)));
+                            certSubjDn, certInfo.getSerialNumber(), certIssuerDn, certCrlThisUpdateStr, certCrlNextUpdateStr,
+                            (certCrlReasonAvailable ? certCrlReason.name() : null), certCrlRevocationDateStr));
             } else {
                 certValidatorContext
                     .getMessages()
@@ -165,9 +162,8 @@ public class CertificateRevocationStatusConstraintValidator extends AbstractCert
                             String
                                 .format(
                                     "Certificate (subjDn={%s}, serialNum=%s, issuerDn={%s}) CRL instance (thisUpdate={%s}, nextUpdate={%s}) entry is not revoked (reason=%s, date={%s}).",
-                                    certSubjDn, certInfo.getSerialNumber(), certIssuerDn, CERT_CRL_DATE_FORMAT.format(certCrlInfo.getThisUpdate()),
-                                    (certCrlInfo.hasNextUpdate() ? CERT_CRL_DATE_FORMAT.format(certCrlInfo.getNextUpdate()) : null), certCrlReason.name(),
-                                    (certCrlEntryInfo.hasRevocationDate() ? CERT_CRL_DATE_FORMAT.format(certCrlEntryInfo.getRevocationDate()) : null))));
+                                    certSubjDn, certInfo.getSerialNumber(), certIssuerDn, certCrlThisUpdateStr, certCrlNextUpdateStr, certCrlReason.name(),
+                                    certCrlRevocationDateStr)));
 
                 return true;
             }
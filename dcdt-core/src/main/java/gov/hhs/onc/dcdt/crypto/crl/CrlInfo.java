@@ -2,6 +2,7 @@ package gov.hhs.onc.dcdt.crypto.crl;
 
 import gov.hhs.onc.dcdt.crypto.CryptographyInfo;
 import gov.hhs.onc.dcdt.crypto.utils.CrlUtils.ToolX509Crl;
+import java.math.BigInteger;
 import java.util.Date;
 import javax.annotation.Nullable;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
@@ -16,6 +17,11 @@ public interface CrlInfo extends CrlDescriptor<CrlEntryInfo>, CryptographyInfo {
 
     public void setCrl(@Nullable ToolX509Crl crl) throws CrlException;
 
+    public boolean hasEntry(BigInteger serialNum);
+
+    @Nullable
+    public CrlEntryInfo getEntry(BigInteger serialNum) throws CrlException;
+
     public boolean hasExtension(ASN1ObjectIdentifier oid);
 
     @Nullable
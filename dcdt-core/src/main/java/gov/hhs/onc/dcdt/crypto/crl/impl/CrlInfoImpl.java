@@ -1,5 +1,6 @@
 package gov.hhs.onc.dcdt.crypto.crl.impl;
 
+import gov.hhs.onc.dcdt.ToolRuntimeException;
 import gov.hhs.onc.dcdt.crypto.certs.SignatureAlgorithm;
 import gov.hhs.onc.dcdt.crypto.certs.impl.CertificateDnImpl;
 import gov.hhs.onc.dcdt.crypto.crl.CrlEntryInfo;
@@ -10,7 +11,11 @@ import gov.hhs.onc.dcdt.crypto.utils.CrlUtils.ToolX509Crl;
 import gov.hhs.onc.dcdt.crypto.utils.CrlUtils.ToolX509CrlEntry;
 import gov.hhs.onc.dcdt.crypto.utils.CryptographyUtils;
 import gov.hhs.onc.dcdt.utils.ToolClassUtils;
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Enumeration;
+import java.util.Map;
 import javax.annotation.Nullable;
 import org.bouncycastle.asn1.ASN1Integer;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
@@ -21,7 +26,11 @@ import org.bouncycastle.asn1.x509.Extensions;
 import org.bouncycastle.asn1.x509.TBSCertList.CRLEntry;
 
 public class CrlInfoImpl extends AbstractCrlDescriptor<CrlEntryInfo> implements CrlInfo {
+    private final static BigInteger[] EMPTY_ENTRY_SERIAL_NUMS = new BigInteger[0];
+
     private ToolX509Crl crl;
+    private BigInteger[] entrySerialNums = EMPTY_ENTRY_SERIAL_NUMS;
+    private boolean entriesBuilt;
     private Date nextUpdate;
     private Date thisUpdate;
 
@@ -50,10 +59,20 @@ public class CrlInfoImpl extends AbstractCrlDescriptor<CrlEntryInfo> implements
     protected void reset() {
         super.reset();
 
+        this.entrySerialNums = EMPTY_ENTRY_SERIAL_NUMS;
+        this.entriesBuilt = false;
         this.nextUpdate = null;
         this.thisUpdate = null;
     }
 
+    private CrlEntryInfo buildEntry(CRLEntry crlEntry) throws CrlException {
+        CrlEntryInfo crlEntryInfo = new CrlEntryInfoImpl(new ToolX509CrlEntry(crlEntry));
+        // noinspection ConstantConditions
+        this.entries.put(crlEntryInfo.getSerialNumber(), crlEntryInfo);
+
+        return crlEntryInfo;
+    }
+
     private void processCrl() throws CrlException {
         this.reset();
 
@@ -61,15 +80,18 @@ public class CrlInfoImpl extends AbstractCrlDescriptor<CrlEntryInfo> implements
             return;
         }
 
-        CRLEntry[] crlEntries = this.crl.getCertificateList().getRevokedCertificates();
-        CrlEntryInfo crlEntryInfo;
+        try {
+            CRLEntry[] crlEntries = this.crl.getCertificateList().getRevokedCertificates();
+            BigInteger[] entrySerialNums = new BigInteger[crlEntries.length];
 
-        for (CRLEntry crlEntry : crlEntries) {
-            // noinspection ConstantConditions
-            this.entries.put((crlEntryInfo = new CrlEntryInfoImpl(new ToolX509CrlEntry(crlEntry))).getSerialNumber(), crlEntryInfo);
-        }
+            for (int a = 0; a < crlEntries.length; a++) {
+                entrySerialNums[a] = crlEntries[a].getUserCertificate().getValue();
+            }
+
+            Arrays.sort(entrySerialNums);
+
+            this.entrySerialNums = entrySerialNums;
 
-        try {
             this.crlType = CrlType.X509;
             this.issuerDn = new CertificateDnImpl(X500Name.getInstance(BCStyle.INSTANCE, this.crl.getIssuerX500Principal().getEncoded()));
             // noinspection ConstantConditions
@@ -85,6 +107,56 @@ public class CrlInfoImpl extends AbstractCrlDescriptor<CrlEntryInfo> implements
         }
     }
 
+    @Override
+    public boolean hasEntry(BigInteger serialNum) {
+        return (Arrays.binarySearch(this.entrySerialNums, serialNum) >= 0);
+    }
+
+    @Nullable
+    @Override
+    public CrlEntryInfo getEntry(BigInteger serialNum) throws CrlException {
+        if (!this.hasEntry(serialNum)) {
+            return null;
+        } else if (this.entries.containsKey(serialNum)) {
+            return this.entries.get(serialNum);
+        }
+
+        Enumeration<?> crlEntryEnum = this.crl.getCertificateList().getRevokedCertificateEnumeration();
+        CRLEntry crlEntry;
+
+        while (crlEntryEnum.hasMoreElements()) {
+            if ((crlEntry = ((CRLEntry) crlEntryEnum.nextElement())).getUserCertificate().getValue().equals(serialNum)) {
+                return this.buildEntry(crlEntry);
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean hasEntries() {
+        return (this.entrySerialNums.length > 0);
+    }
+
+    @Override
+    public Map<BigInteger, CrlEntryInfo> getEntries() {
+        if (!this.entriesBuilt && this.hasCrl()) {
+            try {
+                for (CRLEntry crlEntry : this.crl.getCertificateList().getRevokedCertificates()) {
+                    if (!this.entries.containsKey(crlEntry.getUserCertificate().getValue())) {
+                        this.buildEntry(crlEntry);
+                    }
+                }
+            } catch (CrlException e) {
+                throw new ToolRuntimeException(String.format("Unable to build CRL (issuerDn={%s}) entries.", this.issuerDn), e);
+            }
+
+            this.entriesBuilt = true;
+        }
+
+        return this.entries;
+    }
+
     @Override
     public boolean hasCrl() {
         return (this.crl != null);
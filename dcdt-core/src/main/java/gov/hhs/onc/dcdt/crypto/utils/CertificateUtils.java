@@ -2,8 +2,11 @@ package gov.hhs.onc.dcdt.crypto.utils;
 
 import gov.hhs.onc.dcdt.crypto.CryptographyException;
 import gov.hhs.onc.dcdt.crypto.DataEncoding;
+import gov.hhs.onc.dcdt.crypto.DigestAlgorithm;
 import gov.hhs.onc.dcdt.crypto.PemType;
+import gov.hhs.onc.dcdt.crypto.certs.CertificateInfo;
 import gov.hhs.onc.dcdt.crypto.certs.CertificateType;
+import gov.hhs.onc.dcdt.crypto.certs.impl.CertificateInfoImpl;
 import gov.hhs.onc.dcdt.crypto.utils.CryptographyUtils.ToolProviderJcaJceHelper;
 import gov.hhs.onc.dcdt.utils.ToolClassUtils;
 import gov.hhs.onc.dcdt.utils.ToolEnumUtils;
@@ -15,17 +18,95 @@ import java.security.cert.CertificateEncodingException;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.collections4.map.LRUMap;
 import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.util.encoders.Hex;
 
 public abstract class CertificateUtils {
+    public static class ToolCertificateCache<T> {
+        private Map<String, T> cache;
+        private AtomicLong hits = new AtomicLong();
+        private AtomicLong misses = new AtomicLong();
+
+        public ToolCertificateCache(@Nonnegative int maxSize) {
+            this.cache = MapUtils.synchronizedMap(new LRUMap<>(maxSize));
+        }
+
+        public void clear() {
+            this.cache.clear();
+            this.hits.set(0L);
+            this.misses.set(0L);
+        }
+
+        @Nullable
+        public T get(String key) {
+            T value = this.cache.get(key);
+
+            if (value != null) {
+                this.hits.incrementAndGet();
+            } else {
+                this.misses.incrementAndGet();
+            }
+
+            return value;
+        }
+
+        public T put(String key, T value) {
+            this.cache.put(key, value);
+
+            return value;
+        }
+
+        @Nonnegative
+        public long getHits() {
+            return this.hits.get();
+        }
+
+        @Nonnegative
+        public long getMisses() {
+            return this.misses.get();
+        }
+
+        @Nonnegative
+        public int getSize() {
+            return this.cache.size();
+        }
+    }
+
     public final static JcaX509CertificateConverter CERT_CONV = new JcaX509CertificateConverter() {
         {
             this.setProvider(CryptographyUtils.PROVIDER);
         }
     };
 
+    public final static int CERT_CACHE_SIZE_MAX = 1000;
+
+    public final static ToolCertificateCache<X509Certificate> CERT_CACHE = new ToolCertificateCache<>(CERT_CACHE_SIZE_MAX);
+
+    private final static ThreadLocal<Map<String, CertificateFactory>> CERT_FACTORIES = ThreadLocal.withInitial(HashMap::new);
+
+    public static CertificateInfo readCertificateInfo(byte[] data, CertificateType certType, DataEncoding dataEnc) throws CryptographyException {
+        return readCertificateInfo(CryptographyUtils.PROVIDER_HELPER, data, certType, dataEnc);
+    }
+
+    public static CertificateInfo readCertificateInfo(ToolProviderJcaJceHelper provHelper, byte[] data, CertificateType certType, DataEncoding dataEnc)
+        throws CryptographyException {
+        return readCertificateInfo(provHelper, data, certType, dataEnc, CERT_CACHE);
+    }
+
+    public static CertificateInfo readCertificateInfo(ToolProviderJcaJceHelper provHelper, byte[] data, CertificateType certType, DataEncoding dataEnc,
+        ToolCertificateCache<X509Certificate> certCache) throws CryptographyException {
+        return new CertificateInfoImpl(readCertificate(provHelper, data, certType, dataEnc, certCache));
+    }
+
     public static List<X509Certificate> readCertificates(byte[] data, CertificateType certType) throws CryptographyException {
         return readCertificates(CryptographyUtils.PROVIDER_HELPER, data, certType);
     }
@@ -47,13 +128,25 @@ public abstract class CertificateUtils {
 
     public static X509Certificate readCertificate(ToolProviderJcaJceHelper provHelper, byte[] data, CertificateType certType, DataEncoding dataEnc)
         throws CryptographyException {
+        return readCertificate(provHelper, data, certType, dataEnc, CERT_CACHE);
+    }
+
+    public static X509Certificate readCertificate(ToolProviderJcaJceHelper provHelper, byte[] data, CertificateType certType, DataEncoding dataEnc,
+        ToolCertificateCache<X509Certificate> certCache) throws CryptographyException {
+        String certCacheKey = buildCertificateCacheKey(provHelper, data, certType, dataEnc);
+        X509Certificate cert = certCache.get(certCacheKey);
+
+        if (cert != null) {
+            return cert;
+        }
+
         try {
             if (dataEnc == DataEncoding.PEM) {
                 data = PemUtils.writePemContent(ToolEnumUtils.findByType(PemType.class, certType.getType()), data);
             }
 
             try (InputStream certInStream = new ByteArrayInputStream(data)) {
-                return ((X509Certificate) getCertificateFactory(provHelper, certType).generateCertificate(certInStream));
+                return certCache.put(certCacheKey, ((X509Certificate) getCertificateFactory(provHelper, certType).generateCertificate(certInStream)));
             }
         } catch (CertificateException | IOException e) {
             throw new gov.hhs.onc.dcdt.crypto.certs.CertificateException(String.format(
@@ -77,12 +170,29 @@ public abstract class CertificateUtils {
     }
 
     public static CertificateFactory getCertificateFactory(ToolProviderJcaJceHelper provHelper, CertificateType certType) throws CryptographyException {
+        String certTypeId = certType.getId();
+        Map<String, CertificateFactory> certFactories = CERT_FACTORIES.get();
+        String certFactoryKey = (provHelper.getProvider().getName() + ":" + certTypeId);
+        CertificateFactory certFactory = certFactories.get(certFactoryKey);
+
+        if (certFactory != null) {
+            return certFactory;
+        }
+
         try {
-            return provHelper.createCertificateFactory(certType.getId());
+            certFactories.put(certFactoryKey, (certFactory = provHelper.createCertificateFactory(certTypeId)));
+
+            return certFactory;
         } catch (CertificateException e) {
             throw new gov.hhs.onc.dcdt.crypto.certs.CertificateException(String.format(
                 "Unable to get certificate factory instance for certificate type (id=%s, providerName=%s).", certType.getId(), provHelper.getProvider()
                     .getName()), e);
         }
     }
+
+    private static String buildCertificateCacheKey(ToolProviderJcaJceHelper provHelper, byte[] data, CertificateType certType, DataEncoding dataEnc)
+        throws CryptographyException {
+        return (provHelper.getProvider().getName() + ":" + certType.getId() + ":" + dataEnc.name() + ":" + Hex.toHexString(DigestUtils.digest(
+            DigestAlgorithm.SHA256, data)));
+    }
 }
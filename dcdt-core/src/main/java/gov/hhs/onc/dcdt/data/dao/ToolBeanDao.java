@@ -2,8 +2,16 @@ package gov.hhs.onc.dcdt.data.dao;
 
 import gov.hhs.onc.dcdt.beans.ToolBean;
 import gov.hhs.onc.dcdt.data.ToolBeanDataAccessor;
+import javax.annotation.Nullable;
+import org.hibernate.stat.SecondLevelCacheStatistics;
 import org.springframework.context.ApplicationContextAware;
 
 public interface ToolBeanDao<T extends ToolBean> extends ApplicationContextAware, ToolBeanDataAccessor<T> {
     public boolean hasSession();
+
+    @Nullable
+    public SecondLevelCacheStatistics getBeanCacheStatistics();
+
+    @Nullable
+    public SecondLevelCacheStatistics getQueryCacheStatistics();
 }
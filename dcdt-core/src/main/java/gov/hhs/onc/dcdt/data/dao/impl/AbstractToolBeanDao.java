@@ -11,24 +11,36 @@ import gov.hhs.onc.dcdt.utils.ToolClassUtils;
 import gov.hhs.onc.dcdt.utils.ToolListUtils;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
 import javax.annotation.Nullable;
 import javax.annotation.Resource;
+import org.hibernate.Cache;
 import org.hibernate.Criteria;
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.criterion.Criterion;
 import org.hibernate.criterion.DetachedCriteria;
+import org.hibernate.criterion.Projections;
 import org.hibernate.criterion.Restrictions;
+import org.hibernate.stat.SecondLevelCacheStatistics;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.format.support.FormattingConversionService;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @SuppressWarnings({ "SpringJavaAutowiringInspection" })
 public abstract class AbstractToolBeanDao<T extends ToolBean> extends AbstractToolBean implements ToolBeanDao<T> {
+    protected final static String QUERY_CACHE_REGION_NAME_SUFFIX = ".query";
+
     @Resource(name = "conversionService")
     protected FormattingConversionService convService;
 
@@ -38,10 +50,14 @@ public abstract class AbstractToolBeanDao<T extends ToolBean> extends AbstractTo
     protected AbstractApplicationContext appContext;
     protected Class<T> beanClass;
     protected Class<? extends T> beanImplClass;
+    protected String beanCacheRegionName;
+    protected String queryCacheRegionName;
 
     protected AbstractToolBeanDao(Class<T> beanClass, Class<? extends T> beanImplClass) {
         this.beanClass = beanClass;
         this.beanImplClass = beanImplClass;
+        this.beanCacheRegionName = ToolClassUtils.getName(beanImplClass);
+        this.queryCacheRegionName = (this.beanCacheRegionName + QUERY_CACHE_REGION_NAME_SUFFIX);
     }
 
     @Override
@@ -154,18 +170,16 @@ public abstract class AbstractToolBeanDao<T extends ToolBean> extends AbstractTo
     @Override
     public List<T> setBeans(Iterable<T> beans) throws ToolBeanDataAccessException {
         Session session = this.getCheckedSession();
-        List<T> beansSet = new ArrayList<>();
-
-        for (T bean : beans) {
-            beansSet.add(this.setBean(session, bean));
-        }
+        List<T> beansUnique = this.getUniqueBeans(beans);
+        Set<Serializable> beanIdsPersistent = this.getPersistentBeanIds(session, beansUnique);
 
-        return beansSet;
+        return this.writeBeans(session, beansUnique, (beanSession, bean) -> (beanIdsPersistent.contains(this.getBeanId(bean))
+            ? this.updateBean(beanSession, bean) : this.addBean(beanSession, bean)));
     }
 
     @Override
     public T setBean(T bean) throws ToolBeanDataAccessException {
-        return this.setBean(this.getCheckedSession(), bean);
+        return this.evictBeanCaches(this.setBean(this.getCheckedSession(), bean));
     }
 
     @Override
@@ -176,19 +190,12 @@ public abstract class AbstractToolBeanDao<T extends ToolBean> extends AbstractTo
 
     @Override
     public List<T> addBeans(Iterable<T> beans) throws ToolBeanDataAccessException {
-        Session session = this.getCheckedSession();
-        List<T> beansAdded = new ArrayList<>();
-
-        for (T bean : beans) {
-            beansAdded.add(this.addBean(session, bean));
-        }
-
-        return beansAdded;
+        return this.writeBeans(this.getCheckedSession(), beans, this::addBean);
     }
 
     @Override
     public T addBean(T bean) throws ToolBeanDataAccessException {
-        return this.addBean(this.getCheckedSession(), bean);
+        return this.evictBeanCaches(this.addBean(this.getCheckedSession(), bean));
     }
 
     @Override
@@ -199,24 +206,19 @@ public abstract class AbstractToolBeanDao<T extends ToolBean> extends AbstractTo
 
     @Override
     public List<T> updateBeans(Iterable<T> beans) throws ToolBeanDataAccessException {
-        Session session = this.getCheckedSession();
-        List<T> beansUpdated = new ArrayList<>();
-
-        for (T bean : beans) {
-            beansUpdated.add(this.updateBean(session, bean));
-        }
-
-        return beansUpdated;
+        return this.writeBeans(this.getCheckedSession(), beans, this::updateBean);
     }
 
     @Override
     public T updateBean(T bean) throws ToolBeanDataAccessException {
-        return this.updateBean(this.getCheckedSession(), bean);
+        return this.evictBeanCaches(this.updateBean(this.getCheckedSession(), bean));
     }
 
     @Override
     public T removeBeanById(Serializable beanIdValue) throws ToolBeanDataAccessException {
-        return this.removeBeanById(this.getCheckedSession(), beanIdValue);
+        T bean = this.removeBeanById(this.getCheckedSession(), beanIdValue);
+
+        return ((bean != null) ? this.evictBeanCaches(bean) : null);
     }
 
     @Override
@@ -227,19 +229,12 @@ public abstract class AbstractToolBeanDao<T extends ToolBean> extends AbstractTo
 
     @Override
     public List<T> removeBeans(Iterable<T> beans) throws ToolBeanDataAccessException {
-        Session session = this.getCheckedSession();
-        List<T> beansRemoved = new ArrayList<>();
-
-        for (T bean : beans) {
-            beansRemoved.add(this.removeBean(session, bean));
-        }
-
-        return beansRemoved;
+        return this.writeBeans(this.getCheckedSession(), beans, this::removeBean);
     }
 
     @Override
     public T removeBean(T bean) throws ToolBeanDataAccessException {
-        return this.removeBean(this.getCheckedSession(), bean);
+        return this.evictBeanCaches(this.removeBean(this.getCheckedSession(), bean));
     }
 
     @Override
@@ -247,12 +242,25 @@ public abstract class AbstractToolBeanDao<T extends ToolBean> extends AbstractTo
         return this.getSession() != null;
     }
 
+    @Nullable
+    @Override
+    public SecondLevelCacheStatistics getBeanCacheStatistics() {
+        return this.getCacheStatistics(this.beanCacheRegionName);
+    }
+
+    @Nullable
+    @Override
+    public SecondLevelCacheStatistics getQueryCacheStatistics() {
+        return this.getCacheStatistics(this.queryCacheRegionName);
+    }
+
     protected boolean containsBean(Session session, @Nullable Serializable beanIdValue) throws ToolBeanDataAccessException {
         return this.getBeanById(session, beanIdValue) != null;
     }
 
+    @SuppressWarnings({ "unchecked" })
     protected T getBeanById(Session session, @Nullable Serializable beanIdValue) throws ToolBeanDataAccessException {
-        return (beanIdValue != null) ? this.getBeanBy(session, ToolArrayUtils.asList(Restrictions.idEq(beanIdValue))) : null;
+        return (beanIdValue != null) ? ((T) session.get(this.beanImplClass, beanIdValue)) : null;
     }
 
     protected T getBeanBy(Session session, @Nullable Iterable<Criterion> beanCriterions) throws ToolBeanDataAccessException {
@@ -265,20 +273,15 @@ public abstract class AbstractToolBeanDao<T extends ToolBean> extends AbstractTo
 
     @SuppressWarnings({ "unchecked" })
     protected List<T> getBeansBy(Criteria beanCriteria) throws ToolBeanDataAccessException {
-        return (List<T>) beanCriteria.list();
+        return (List<T>) beanCriteria.setCacheable(true).setCacheRegion(this.queryCacheRegionName).list();
     }
 
-    @SuppressWarnings({ "unchecked" })
     protected T loadBean(Session session, T bean) throws ToolBeanDataAccessException {
-        Serializable beanId = ToolBeanUtils.getId(ToolBeanUtils.wrap(bean, this.convService));
-
-        if (this.containsBeanOfId(beanId)) {
-            T beanPersistent = this.getBeanById(beanId);
-
-            if (beanPersistent != null) {
-                session.evict(beanPersistent);
-            }
+        Serializable beanId = this.getBeanId(bean);
+        T beanPersistent = this.getBeanById(session, beanId);
 
+        if (beanPersistent != null) {
+            session.evict(beanPersistent);
             session.load(bean, beanId);
         }
 
@@ -286,7 +289,7 @@ public abstract class AbstractToolBeanDao<T extends ToolBean> extends AbstractTo
     }
 
     protected T refreshBean(Session session, T bean) throws ToolBeanDataAccessException {
-        if (this.containsBean(session, ToolBeanUtils.getId(ToolBeanUtils.wrap(bean, this.convService)))) {
+        if (this.containsBean(session, this.getBeanId(bean))) {
             session.refresh(bean);
         }
 
@@ -317,12 +320,11 @@ public abstract class AbstractToolBeanDao<T extends ToolBean> extends AbstractTo
         return (bean != null) ? this.removeBean(session, bean) : null;
     }
 
-    @SuppressWarnings({ "unchecked" })
     protected T removeBean(Session session, T bean) throws ToolBeanDataAccessException {
         if (session.contains(bean)) {
             session.delete(bean);
         } else {
-            T beanPersistent = this.getBeanById(ToolBeanUtils.getId(ToolBeanUtils.wrap(bean, this.convService)));
+            T beanPersistent = this.getBeanById(session, this.getBeanId(bean));
 
             if (beanPersistent != null) {
                 session.delete(beanPersistent);
@@ -332,30 +334,156 @@ public abstract class AbstractToolBeanDao<T extends ToolBean> extends AbstractTo
         return bean;
     }
 
+    protected List<T> writeBeans(Session session, Iterable<T> beans, BiFunction<Session, T, T> beanWriter) throws ToolBeanDataAccessException {
+        int batchSize = this.getBatchSize();
+        List<T> beansWritten = new ArrayList<>(), beansBatch = new ArrayList<>(Math.max(batchSize, 0));
+
+        for (T bean : beans) {
+            beansWritten.add(beanWriter.apply(session, bean));
+            beansBatch.add(bean);
+
+            if ((batchSize > 0) && (beansBatch.size() == batchSize)) {
+                this.flushBeans(session, beansBatch);
+            }
+        }
+
+        if ((batchSize > 0) && !beansBatch.isEmpty()) {
+            this.flushBeans(session, beansBatch);
+        }
+
+        return this.evictBeanCaches(beansWritten);
+    }
+
+    protected void flushBeans(Session session, List<T> beansBatch) {
+        session.flush();
+
+        // Only the batch's own beans are evicted - clearing the whole session would also detach any other entities the caller's transaction holds.
+        for (T bean : beansBatch) {
+            if (session.contains(bean)) {
+                session.evict(bean);
+            }
+        }
+
+        beansBatch.clear();
+    }
+
+    protected List<T> getUniqueBeans(Iterable<T> beans) {
+        Map<Object, T> beansById = new LinkedHashMap<>();
+        Serializable beanId;
+
+        for (T bean : beans) {
+            // The last bean given for an identifier wins (in the position of the first), as it would have if each bean was set in turn.
+            beansById.put((((beanId = this.getBeanId(bean)) != null) ? beanId : new Object()), bean);
+        }
+
+        return new ArrayList<>(beansById.values());
+    }
+
+    protected Set<Serializable> getPersistentBeanIds(Session session, Iterable<T> beans) throws ToolBeanDataAccessException {
+        List<Serializable> beanIds = new ArrayList<>();
+        Serializable beanId;
+
+        for (T bean : beans) {
+            if ((beanId = this.getBeanId(bean)) != null) {
+                beanIds.add(beanId);
+            }
+        }
+
+        Set<Serializable> beanIdsPersistent = new HashSet<>(beanIds.size());
+
+        if (!beanIds.isEmpty()) {
+            for (Object beanIdPersistent : session.createCriteria(this.beanImplClass).setProjection(Projections.id())
+                .add(Restrictions.in(this.sessionFactory.getClassMetadata(this.beanImplClass).getIdentifierPropertyName(), beanIds)).list()) {
+                beanIdsPersistent.add(((Serializable) beanIdPersistent));
+            }
+        }
+
+        return beanIdsPersistent;
+    }
+
+    @Nullable
+    protected Serializable getBeanId(T bean) {
+        return ToolBeanUtils.getId(ToolBeanUtils.wrap(bean, this.convService));
+    }
+
+    protected int getBatchSize() {
+        return (this.hasSessionFactory() ? this.sessionFactory.getSessionFactoryOptions().getJdbcBatchSize() : 0);
+    }
+
+    protected T evictBeanCaches(T bean) {
+        this.evictBeanCaches(ToolArrayUtils.asList(bean));
+
+        return bean;
+    }
+
+    protected List<T> evictBeanCaches(List<T> beans) {
+        List<Serializable> beanIds = new ArrayList<>(beans.size());
+        Serializable beanId;
+
+        for (T bean : beans) {
+            if ((beanId = this.getBeanId(bean)) != null) {
+                beanIds.add(beanId);
+            }
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    AbstractToolBeanDao.this.evictBeanCachesInternal(beanIds);
+                }
+            });
+        } else {
+            this.evictBeanCachesInternal(beanIds);
+        }
+
+        return beans;
+    }
+
+    protected void evictBeanCachesInternal(Iterable<Serializable> beanIds) {
+        if (!this.hasSessionFactory()) {
+            return;
+        }
+
+        Cache cache = this.sessionFactory.getCache();
+
+        for (Serializable beanId : beanIds) {
+            cache.evictEntity(this.beanImplClass, beanId);
+        }
+
+        cache.evictQueryRegion(this.queryCacheRegionName);
+    }
+
+    @Nullable
+    protected SecondLevelCacheStatistics getCacheStatistics(String cacheRegionName) {
+        return (this.hasSessionFactory() ? this.sessionFactory.getStatistics().getSecondLevelCacheStatistics(cacheRegionName) : null);
+    }
+
     protected Session getCheckedSession() throws ToolBeanDataAccessException {
         Session session = this.getSession();
 
         if (session == null) {
-            throw new ToolBeanDataAccessException(String.format("Bean (class=%s) Data Access Object (DAO) (class=%s) does not have a Hibernate session.",
+            throw new ToolBeanDataAccessException(String.format(
+                "Bean (class=%s) Data Access Object (DAO) (class=%s) does not have a transaction-bound Hibernate session.",
                 ToolClassUtils.getName(this.beanClass), ToolClassUtils.getName(this)));
         }
 
         return session;
     }
 
-    protected synchronized Session getSession() {
+    @Nullable
+    protected Session getSession() {
         if (this.hasSessionFactory()) {
             try {
                 return this.sessionFactory.getCurrentSession();
             } catch (HibernateException ignored) {
-                return this.sessionFactory.openSession();
             }
         }
 
         return null;
     }
 
-    protected synchronized boolean hasSessionFactory() {
+    protected boolean hasSessionFactory() {
         return (this.sessionFactory != null) && !this.sessionFactory.isClosed();
     }
 
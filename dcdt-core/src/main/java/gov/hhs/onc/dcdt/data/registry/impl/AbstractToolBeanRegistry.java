@@ -54,16 +54,27 @@ public abstract class AbstractToolBeanRegistry<T extends ToolBean, U extends Too
 
         for (T bean : beans) {
             try {
-                this.registerBean(bean);
-
-                LOGGER.debug(String.format("Registered bean (class=%s, beanName=%s, beanId=%s).", ToolClassUtils.getName(bean), bean.getBeanName(),
-                    ToolBeanUtils.getId(ToolBeanUtils.wrap(bean, this.convService))));
+                this.preRegisterBean(bean);
             } catch (Throwable th) {
                 throw new ToolBeanRegistryException(String.format("Unable to register bean (class=%s, beanName=%s, beanId=%s).", ToolClassUtils.getName(bean),
                     bean.getBeanName(), ToolBeanUtils.getId(ToolBeanUtils.wrap(bean, this.convService))), th);
             }
         }
 
+        try {
+            this.getBeanService().setBeans(beans);
+        } catch (Throwable th) {
+            throw new ToolBeanRegistryException(String.format("Unable to register beans (class=%s, num=%d).", ToolClassUtils.getName(this.beanClass),
+                beans.size()), th);
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            for (T bean : beans) {
+                LOGGER.debug(String.format("Registered bean (class=%s, beanName=%s, beanId=%s).", ToolClassUtils.getName(bean), bean.getBeanName(),
+                    ToolBeanUtils.getId(ToolBeanUtils.wrap(bean, this.convService))));
+            }
+        }
+
         this.postRegisterBeans(beans);
     }
 
@@ -82,15 +93,17 @@ public abstract class AbstractToolBeanRegistry<T extends ToolBean, U extends Too
     public void removeBeans(List<T> beans) throws ToolBeanRegistryException {
         this.preRemoveBeans(beans);
 
-        for (T bean : beans) {
-            try {
-                this.removeBean(bean);
+        try {
+            this.getBeanService().removeBeans(beans);
+        } catch (Throwable th) {
+            throw new ToolBeanRegistryException(String.format("Unable to remove beans (class=%s, num=%d).", ToolClassUtils.getName(this.beanClass),
+                beans.size()), th);
+        }
 
+        if (LOGGER.isDebugEnabled()) {
+            for (T bean : beans) {
                 LOGGER.debug(String.format("Removed bean (class=%s, beanName=%s, beanId=%s).", ToolClassUtils.getName(bean), bean.getBeanName(),
                     ToolBeanUtils.getId(ToolBeanUtils.wrap(bean, this.convService))));
-            } catch (Throwable th) {
-                throw new ToolBeanRegistryException(String.format("Unable to remove bean (class=%s, beanName=%s, beanId=%s).", ToolClassUtils.getName(bean),
-                    bean.getBeanName(), ToolBeanUtils.getId(ToolBeanUtils.wrap(bean, this.convService))), th);
             }
         }
 
@@ -98,9 +111,14 @@ public abstract class AbstractToolBeanRegistry<T extends ToolBean, U extends Too
     }
 
     protected void registerBean(T bean) throws ToolBeanRegistryException {
+        this.preRegisterBean(bean);
+
         this.getBeanService().setBean(bean);
     }
 
+    protected void preRegisterBean(T bean) throws ToolBeanRegistryException {
+    }
+
     protected void removeBean(T bean) throws ToolBeanRegistryException {
         this.getBeanService().removeBean(bean);
     }
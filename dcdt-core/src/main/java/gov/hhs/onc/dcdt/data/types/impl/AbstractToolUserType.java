@@ -107,14 +107,32 @@ public abstract class AbstractToolUserType<T, U, V, W extends AbstractSingleColu
 
     @Nullable
     @Override
-    public Serializable disassemble(Object obj) throws HibernateException {
-        return null;
+    public Serializable disassemble(@Nullable Object obj) throws HibernateException {
+        if ((obj == null) || (obj instanceof Serializable)) {
+            return ((Serializable) obj);
+        }
+
+        try {
+            return ((Serializable) this.convService.convert(obj, this.objDbClass));
+        } catch (Exception e) {
+            throw new HibernateException(String.format("Unable to disassemble user type (objClass=%s, objDbClass=%s, userTypeClass=%s).",
+                ToolClassUtils.getName(this.objClass), ToolClassUtils.getName(this.objDbClass), ToolClassUtils.getName(this)), e);
+        }
     }
 
     @Nullable
     @Override
-    public Object assemble(Serializable cachedObj, Object ownerObj) throws HibernateException {
-        return null;
+    public Object assemble(@Nullable Serializable cachedObj, Object ownerObj) throws HibernateException {
+        if ((cachedObj == null) || this.objClass.isInstance(cachedObj)) {
+            return cachedObj;
+        }
+
+        try {
+            return this.convService.convert(cachedObj, this.objClass);
+        } catch (Exception e) {
+            throw new HibernateException(String.format("Unable to assemble user type (objDbClass=%s, objClass=%s, userTypeClass=%s).",
+                ToolClassUtils.getName(this.objDbClass), ToolClassUtils.getName(this.objClass), ToolClassUtils.getName(this)), e);
+        }
     }
 
     @Override
@@ -6,7 +6,6 @@ import gov.hhs.onc.dcdt.crypto.CryptographyException;
 import gov.hhs.onc.dcdt.crypto.DataEncoding;
 import gov.hhs.onc.dcdt.crypto.certs.CertificateInfo;
 import gov.hhs.onc.dcdt.crypto.certs.CertificateType;
-import gov.hhs.onc.dcdt.crypto.certs.impl.CertificateInfoImpl;
 import gov.hhs.onc.dcdt.crypto.utils.CertificateUtils;
 import gov.hhs.onc.dcdt.discovery.BindingType;
 import gov.hhs.onc.dcdt.discovery.steps.CertificateDiscoveryStep;
@@ -47,8 +46,7 @@ public class DnsCertRecordLookupStepImpl extends AbstractDnsLookupStep<CERTRecor
 
             for (CERTRecord certRecord : certRecords) {
                 try {
-                    this.certInfos.add((certInfo =
-                        new CertificateInfoImpl(CertificateUtils.readCertificate(certRecord.getCert(), CertificateType.X509, DataEncoding.DER))));
+                    this.certInfos.add((certInfo = CertificateUtils.readCertificateInfo(certRecord.getCert(), CertificateType.X509, DataEncoding.DER)));
 
                     this.execMsgs.add(new ToolMessageImpl(ToolMessageLevel.INFO, String.format(
                         "DNS lookup (directAddr=%s) CERT record (certType=%d, keyAlg=%d) certificate (subjDn={%s}, serialNum=%s, issuerDn={%s}) processed.",
@@ -6,7 +6,6 @@ import gov.hhs.onc.dcdt.crypto.CryptographyException;
 import gov.hhs.onc.dcdt.crypto.DataEncoding;
 import gov.hhs.onc.dcdt.crypto.certs.CertificateInfo;
 import gov.hhs.onc.dcdt.crypto.certs.CertificateType;
-import gov.hhs.onc.dcdt.crypto.certs.impl.CertificateInfoImpl;
 import gov.hhs.onc.dcdt.crypto.utils.CertificateUtils;
 import gov.hhs.onc.dcdt.discovery.BindingType;
 import gov.hhs.onc.dcdt.discovery.steps.CertificateDiscoveryStep;
@@ -71,7 +70,7 @@ public class LdapCertificateLookupStepImpl extends AbstractLdapLookupStep<Entry,
                                 .get(ToolCoreSchemaConstants.ATTR_TYPE_NAME_USER_CERT_BINARY) : entry.get(ToolCoreSchemaConstants.ATTR_TYPE_NAME_USER_CERT)))) {
                             try {
                                 this.certInfos.add(certInfo =
-                                    new CertificateInfoImpl(CertificateUtils.readCertificate(attrValue.getBytes(), CertificateType.X509, DataEncoding.DER)));
+                                    CertificateUtils.readCertificateInfo(attrValue.getBytes(), CertificateType.X509, DataEncoding.DER));
                                 this.execMsgs
                                     .add(new ToolMessageImpl(
                                         ToolMessageLevel.INFO,
@@ -0,0 +1,17 @@
+package gov.hhs.onc.dcdt.dns.impl;
+
+import gov.hhs.onc.dcdt.json.impl.AbstractStringJsonSerializer;
+import org.xbill.DNS.Name;
+
+public class DnsNameJsonSerializer extends AbstractStringJsonSerializer<Name> {
+    private final static long serialVersionUID = 0L;
+
+    public DnsNameJsonSerializer() {
+        super(Name.class);
+    }
+
+    @Override
+    protected String serializeString(Name src) {
+        return src.toString();
+    }
+}
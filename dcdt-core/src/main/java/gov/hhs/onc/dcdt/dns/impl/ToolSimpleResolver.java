@@ -0,0 +1,30 @@
+package gov.hhs.onc.dcdt.dns.impl;
+
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import org.xbill.DNS.SimpleResolver;
+
+public class ToolSimpleResolver extends SimpleResolver {
+    private InetSocketAddress serverSocketAddr;
+
+    public ToolSimpleResolver(InetSocketAddress serverSocketAddr) throws UnknownHostException {
+        super(serverSocketAddr.getAddress().getHostAddress());
+
+        this.serverSocketAddr = serverSocketAddr;
+
+        super.setPort(serverSocketAddr.getPort());
+    }
+
+    @Override
+    public void setPort(int port) {
+        super.setPort(port);
+
+        if (this.serverSocketAddr != null) {
+            this.serverSocketAddr = new InetSocketAddress(this.serverSocketAddr.getAddress(), port);
+        }
+    }
+
+    public InetSocketAddress getServerSocketAddress() {
+        return this.serverSocketAddr;
+    }
+}
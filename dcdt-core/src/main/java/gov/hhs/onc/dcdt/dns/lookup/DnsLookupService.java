@@ -3,7 +3,10 @@ package gov.hhs.onc.dcdt.dns.lookup;
 import gov.hhs.onc.dcdt.beans.ToolBean;
 import gov.hhs.onc.dcdt.dns.DnsRecordType;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.xbill.DNS.ARecord;
 import org.xbill.DNS.CERTRecord;
 import org.xbill.DNS.CNAMERecord;
@@ -21,24 +24,44 @@ import org.xbill.DNS.TXTRecord;
 public interface DnsLookupService extends ToolBean {
     public DnsLookupResult<ARecord> lookupARecords(Name name);
 
+    public CompletableFuture<DnsLookupResult<ARecord>> lookupARecordsAsync(Name name);
+
     public DnsLookupResult<CERTRecord> lookupCertRecords(Name name);
 
+    public CompletableFuture<DnsLookupResult<CERTRecord>> lookupCertRecordsAsync(Name name);
+
     public DnsLookupResult<CNAMERecord> lookupCnameRecords(Name name);
 
+    public CompletableFuture<DnsLookupResult<CNAMERecord>> lookupCnameRecordsAsync(Name name);
+
     public DnsLookupResult<MXRecord> lookupMxRecords(Name name);
 
+    public CompletableFuture<DnsLookupResult<MXRecord>> lookupMxRecordsAsync(Name name);
+
     public DnsLookupResult<NSRecord> lookupNsRecords(Name name);
 
+    public CompletableFuture<DnsLookupResult<NSRecord>> lookupNsRecordsAsync(Name name);
+
     public DnsLookupResult<PTRRecord> lookupPtrRecords(Name name);
 
+    public CompletableFuture<DnsLookupResult<PTRRecord>> lookupPtrRecordsAsync(Name name);
+
     public DnsLookupResult<SOARecord> lookupSoaRecords(Name name);
 
+    public CompletableFuture<DnsLookupResult<SOARecord>> lookupSoaRecordsAsync(Name name);
+
     public DnsLookupResult<SRVRecord> lookupSrvRecords(Name name);
 
+    public CompletableFuture<DnsLookupResult<SRVRecord>> lookupSrvRecordsAsync(Name name);
+
     public DnsLookupResult<TXTRecord> lookupTxtRecords(Name name);
 
+    public CompletableFuture<DnsLookupResult<TXTRecord>> lookupTxtRecordsAsync(Name name);
+
     public <T extends Record> DnsLookupResult<T> lookupRecords(DnsRecordType recordType, Class<T> recordClass, Name name);
 
+    public <T extends Record> CompletableFuture<DnsLookupResult<T>> lookupRecordsAsync(DnsRecordType recordType, Class<T> recordClass, Name name);
+
     public boolean hasCache();
 
     @Nullable
@@ -59,4 +82,16 @@ public interface DnsLookupService extends ToolBean {
     public Set<Name> getSearchPaths();
 
     public void setSearchPaths(@Nullable Set<Name> searchPaths);
+
+    public boolean hasTaskExecutor();
+
+    @Nullable
+    public ThreadPoolTaskExecutor getTaskExecutor();
+
+    public void setTaskExecutor(@Nullable ThreadPoolTaskExecutor taskExec);
+
+    @Nonnegative
+    public long getTimeout();
+
+    public void setTimeout(@Nonnegative long timeout);
 }
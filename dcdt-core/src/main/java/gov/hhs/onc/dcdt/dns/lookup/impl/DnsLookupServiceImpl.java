@@ -5,80 +5,222 @@ import gov.hhs.onc.dcdt.beans.impl.AbstractToolBean;
 import gov.hhs.onc.dcdt.beans.impl.ToolMessageImpl;
 import gov.hhs.onc.dcdt.dns.DnsRecordType;
 import gov.hhs.onc.dcdt.dns.DnsResultType;
+import gov.hhs.onc.dcdt.dns.impl.ToolSimpleResolver;
 import gov.hhs.onc.dcdt.dns.lookup.DnsLookupResult;
 import gov.hhs.onc.dcdt.dns.lookup.DnsLookupService;
 import gov.hhs.onc.dcdt.utils.ToolArrayUtils;
 import gov.hhs.onc.dcdt.utils.ToolCollectionUtils;
+import gov.hhs.onc.dcdt.utils.ToolDateUtils;
 import gov.hhs.onc.dcdt.utils.ToolEnumUtils;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.ArrayUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.xbill.DNS.ARecord;
 import org.xbill.DNS.CERTRecord;
 import org.xbill.DNS.CNAMERecord;
 import org.xbill.DNS.Cache;
+import org.xbill.DNS.Credibility;
+import org.xbill.DNS.ExtendedResolver;
 import org.xbill.DNS.Lookup;
 import org.xbill.DNS.MXRecord;
+import org.xbill.DNS.Message;
 import org.xbill.DNS.NSRecord;
 import org.xbill.DNS.Name;
+import org.xbill.DNS.NameTooLongException;
+import org.xbill.DNS.OPTRecord;
 import org.xbill.DNS.PTRRecord;
+import org.xbill.DNS.RRset;
+import org.xbill.DNS.Rcode;
 import org.xbill.DNS.Record;
 import org.xbill.DNS.Resolver;
 import org.xbill.DNS.SOARecord;
 import org.xbill.DNS.SRVRecord;
+import org.xbill.DNS.Section;
+import org.xbill.DNS.SetResponse;
 import org.xbill.DNS.TXTRecord;
+import org.xbill.DNS.Type;
 
 public class DnsLookupServiceImpl extends AbstractToolBean implements DnsLookupService {
+    private final static int EDNS_PAYLOAD_SIZE = 4096;
+    private final static int ITERATIONS_MAX = 16;
+    private final static long TIMEOUT_DEFAULT = ToolDateUtils.MS_IN_SEC * 5;
+
+    private final static Map<DnsResultType, String> RESULT_MSGS = new EnumMap<>(DnsResultType.class);
+
+    static {
+        RESULT_MSGS.put(DnsResultType.SUCCESSFUL, "successful");
+        RESULT_MSGS.put(DnsResultType.UNRECOVERABLE, "unrecoverable error");
+        RESULT_MSGS.put(DnsResultType.TRY_AGAIN, "try again");
+        RESULT_MSGS.put(DnsResultType.HOST_NOT_FOUND, "host not found");
+        RESULT_MSGS.put(DnsResultType.TYPE_NOT_FOUND, "type not found");
+    }
+
     private Cache cache;
     private Resolver resolver;
     private Set<Name> searchPaths;
+    private Name[] searchPathsArr;
+    private ThreadPoolTaskExecutor taskExec;
+    private long timeout = TIMEOUT_DEFAULT;
+    private ConcurrentMap<String, CompletableFuture<? extends DnsLookupResult<?>>> inFlightLookups = new ConcurrentHashMap<>();
+    private DnsQueryMultiplexer queryMultiplexer;
+    private boolean queryMultiplexerBuilt;
+
+    @Override
+    public CompletableFuture<DnsLookupResult<ARecord>> lookupARecordsAsync(Name name) {
+        return this.lookupRecordsAsync(DnsRecordType.A, ARecord.class, name);
+    }
 
     @Override
     public DnsLookupResult<ARecord> lookupARecords(Name name) {
         return this.lookupRecords(DnsRecordType.A, ARecord.class, name);
     }
 
+    @Override
+    public CompletableFuture<DnsLookupResult<CERTRecord>> lookupCertRecordsAsync(Name name) {
+        return this.lookupRecordsAsync(DnsRecordType.CERT, CERTRecord.class, name);
+    }
+
     @Override
     public DnsLookupResult<CERTRecord> lookupCertRecords(Name name) {
         return this.lookupRecords(DnsRecordType.CERT, CERTRecord.class, name);
     }
 
+    @Override
+    public CompletableFuture<DnsLookupResult<CNAMERecord>> lookupCnameRecordsAsync(Name name) {
+        return this.lookupRecordsAsync(DnsRecordType.CNAME, CNAMERecord.class, name);
+    }
+
     @Override
     public DnsLookupResult<CNAMERecord> lookupCnameRecords(Name name) {
         return this.lookupRecords(DnsRecordType.CNAME, CNAMERecord.class, name);
     }
 
+    @Override
+    public CompletableFuture<DnsLookupResult<MXRecord>> lookupMxRecordsAsync(Name name) {
+        return this.lookupRecordsAsync(DnsRecordType.MX, MXRecord.class, name);
+    }
+
     @Override
     public DnsLookupResult<MXRecord> lookupMxRecords(Name name) {
         return this.lookupRecords(DnsRecordType.MX, MXRecord.class, name);
     }
 
+    @Override
+    public CompletableFuture<DnsLookupResult<NSRecord>> lookupNsRecordsAsync(Name name) {
+        return this.lookupRecordsAsync(DnsRecordType.NS, NSRecord.class, name);
+    }
+
     @Override
     public DnsLookupResult<NSRecord> lookupNsRecords(Name name) {
         return this.lookupRecords(DnsRecordType.NS, NSRecord.class, name);
     }
 
+    @Override
+    public CompletableFuture<DnsLookupResult<PTRRecord>> lookupPtrRecordsAsync(Name name) {
+        return this.lookupRecordsAsync(DnsRecordType.PTR, PTRRecord.class, name);
+    }
+
     @Override
     public DnsLookupResult<PTRRecord> lookupPtrRecords(Name name) {
         return this.lookupRecords(DnsRecordType.PTR, PTRRecord.class, name);
     }
 
+    @Override
+    public CompletableFuture<DnsLookupResult<SOARecord>> lookupSoaRecordsAsync(Name name) {
+        return this.lookupRecordsAsync(DnsRecordType.SOA, SOARecord.class, name);
+    }
+
     @Override
     public DnsLookupResult<SOARecord> lookupSoaRecords(Name name) {
         return this.lookupRecords(DnsRecordType.SOA, SOARecord.class, name);
     }
 
+    @Override
+    public CompletableFuture<DnsLookupResult<SRVRecord>> lookupSrvRecordsAsync(Name name) {
+        return this.lookupRecordsAsync(DnsRecordType.SRV, SRVRecord.class, name);
+    }
+
     @Override
     public DnsLookupResult<SRVRecord> lookupSrvRecords(Name name) {
         return this.lookupRecords(DnsRecordType.SRV, SRVRecord.class, name);
     }
 
+    @Override
+    public CompletableFuture<DnsLookupResult<TXTRecord>> lookupTxtRecordsAsync(Name name) {
+        return this.lookupRecordsAsync(DnsRecordType.TXT, TXTRecord.class, name);
+    }
+
     @Override
     public DnsLookupResult<TXTRecord> lookupTxtRecords(Name name) {
         return this.lookupRecords(DnsRecordType.TXT, TXTRecord.class, name);
     }
 
+    @Override
+    @SuppressWarnings({ "unchecked" })
+    public <T extends Record> CompletableFuture<DnsLookupResult<T>> lookupRecordsAsync(DnsRecordType recordType, Class<T> recordClass, Name name) {
+        if (!this.hasTaskExecutor()) {
+            return CompletableFuture.completedFuture(this.lookupRecords(recordType, recordClass, name));
+        }
+
+        String lookupKey = (recordType.name() + ":" + recordClass.getName() + ":" + name);
+        CompletableFuture<DnsLookupResult<T>> lookupFuture = new CompletableFuture<>(), inFlightLookupFuture;
+
+        if ((inFlightLookupFuture = ((CompletableFuture<DnsLookupResult<T>>) this.inFlightLookups.putIfAbsent(lookupKey, lookupFuture))) != null) {
+            return inFlightLookupFuture;
+        }
+
+        DnsQueryMultiplexer queryMultiplexer = this.getQueryMultiplexer();
+        CompletableFuture<DnsLookupResult<T>> resolveFuture;
+
+        if (queryMultiplexer != null) {
+            resolveFuture =
+                this.resolveRecordsAsync(queryMultiplexer, recordType, recordClass, name, this.buildQueryNames(name).iterator(), new ArrayList<>(), null);
+        } else {
+            // Resolvers that do not expose their server addresses can only be queried with a (blocking) lookup on a task executor thread.
+            CompletableFuture<DnsLookupResult<T>> blockingResolveFuture = (resolveFuture = new CompletableFuture<>());
+            Runnable lookupTask = () -> {
+                try {
+                    blockingResolveFuture.complete(this.lookupRecords(recordType, recordClass, name));
+                } catch (Throwable e) {
+                    blockingResolveFuture.completeExceptionally(e);
+                }
+            };
+
+            try {
+                this.taskExec.execute(lookupTask);
+            } catch (RejectedExecutionException ignored) {
+                lookupTask.run();
+            }
+        }
+
+        resolveFuture.whenComplete((lookupResult, lookupException) -> {
+            this.inFlightLookups.remove(lookupKey, lookupFuture);
+
+            if (lookupException != null) {
+                lookupFuture.completeExceptionally(lookupException);
+            } else {
+                lookupFuture.complete(lookupResult);
+            }
+        });
+
+        return lookupFuture;
+    }
+
     @Override
     public <T extends Record> DnsLookupResult<T> lookupRecords(DnsRecordType recordType, Class<T> recordClass, Name name) {
         DnsLookupResult<T> result;
@@ -94,7 +236,7 @@ public class DnsLookupServiceImpl extends AbstractToolBean implements DnsLookupS
                 lookup.setResolver(this.resolver);
             }
 
-            lookup.setSearchPath(ToolCollectionUtils.toArray(this.searchPaths, Name.class));
+            lookup.setSearchPath(this.searchPathsArr);
 
             List<Record> rawAnswers = ToolArrayUtils.asList(lookup.run());
             DnsResultType resultType = ToolEnumUtils.findByCode(DnsResultType.class, lookup.getResult());
@@ -110,6 +252,201 @@ public class DnsLookupServiceImpl extends AbstractToolBean implements DnsLookupS
         return result;
     }
 
+    private <T extends Record> CompletableFuture<DnsLookupResult<T>> resolveRecordsAsync(DnsQueryMultiplexer queryMultiplexer, DnsRecordType recordType,
+        Class<T> recordClass, Name name, Iterator<Name> queryNameIterator, List<Name> aliases, @Nullable DnsLookupResult<T> prevResult) {
+        if (!queryNameIterator.hasNext()) {
+            return CompletableFuture.completedFuture(((prevResult != null) ? prevResult : buildResult(recordType, recordClass, name,
+                DnsResultType.UNRECOVERABLE, aliases, null, null)));
+        }
+
+        return this.resolveNameAsync(queryMultiplexer, recordType, recordClass, name, queryNameIterator.next(), aliases, 0).thenCompose(result -> {
+            DnsResultType resultType = result.getType();
+
+            if ((resultType == DnsResultType.SUCCESSFUL) || (resultType == DnsResultType.TYPE_NOT_FOUND)) {
+                return CompletableFuture.completedFuture(result);
+            }
+
+            // As with a (blocking) lookup, the remaining search paths are tried, but a transient failure is reported in preference to a missing name.
+            return this.resolveRecordsAsync(queryMultiplexer, recordType, recordClass, name, queryNameIterator, new ArrayList<>(),
+                (((prevResult != null) && (prevResult.getType() == DnsResultType.TRY_AGAIN) && (resultType == DnsResultType.HOST_NOT_FOUND)) ? prevResult
+                    : result));
+        });
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    private <T extends Record> CompletableFuture<DnsLookupResult<T>> resolveNameAsync(DnsQueryMultiplexer queryMultiplexer, DnsRecordType recordType,
+        Class<T> recordClass, Name name, Name queryName, List<Name> aliases, int numIterations) {
+        if (numIterations > ITERATIONS_MAX) {
+            return CompletableFuture.completedFuture(buildResult(recordType, recordClass, name, DnsResultType.UNRECOVERABLE, aliases, null, "CNAME loop"));
+        }
+
+        if (this.hasCache()) {
+            SetResponse cacheResp = this.cache.lookupRecords(queryName, recordType.getCode(), Credibility.NORMAL);
+
+            if (cacheResp.isSuccessful()) {
+                List<Record> rawAnswers = new ArrayList<>();
+
+                for (RRset cacheAnswerRecordSet : cacheResp.answers()) {
+                    for (Iterator<Record> cacheAnswerRecordIterator = cacheAnswerRecordSet.rrs(); cacheAnswerRecordIterator.hasNext();) {
+                        rawAnswers.add(cacheAnswerRecordIterator.next());
+                    }
+                }
+
+                return CompletableFuture.completedFuture(buildResult(recordType, recordClass, name, DnsResultType.SUCCESSFUL, aliases, rawAnswers, null));
+            } else if (cacheResp.isNXDOMAIN()) {
+                return CompletableFuture.completedFuture(buildResult(recordType, recordClass, name, DnsResultType.HOST_NOT_FOUND, aliases, null, null));
+            } else if (cacheResp.isNXRRSET()) {
+                return CompletableFuture.completedFuture(buildResult(recordType, recordClass, name, DnsResultType.TYPE_NOT_FOUND, aliases, null, null));
+            } else if (cacheResp.isCNAME()) {
+                aliases.add(queryName);
+
+                return this.resolveNameAsync(queryMultiplexer, recordType, recordClass, name, cacheResp.getCNAME().getTarget(), aliases, (numIterations + 1));
+            }
+        }
+
+        Message query = Message.newQuery(Record.newRecord(queryName, recordType.getCode(), recordType.getDclassType().getCode()));
+        query.addRecord(new OPTRecord(EDNS_PAYLOAD_SIZE, 0, 0), Section.ADDITIONAL);
+
+        return queryMultiplexer.send(query).handle((resp, queryException) -> {
+            if (queryException == null) {
+                return this.processResponseAsync(queryMultiplexer, recordType, recordClass, name, queryName, aliases, numIterations, resp);
+            }
+
+            Throwable queryCause = (((queryException instanceof CompletionException) && (queryException.getCause() != null)) ? queryException.getCause()
+                : queryException);
+
+            return CompletableFuture.completedFuture(buildResult(recordType, recordClass, name, DnsResultType.TRY_AGAIN, aliases, null,
+                queryCause.getMessage()));
+        }).thenCompose(Function.identity());
+    }
+
+    private <T extends Record> CompletableFuture<DnsLookupResult<T>> processResponseAsync(DnsQueryMultiplexer queryMultiplexer, DnsRecordType recordType,
+        Class<T> recordClass, Name name, Name queryName, List<Name> aliases, int numIterations, Message resp) {
+        int respRcode = resp.getRcode();
+
+        if ((respRcode != Rcode.NOERROR) && (respRcode != Rcode.NXDOMAIN)) {
+            return CompletableFuture.completedFuture(buildResult(recordType, recordClass, name, DnsResultType.TRY_AGAIN, aliases, null,
+                Rcode.string(respRcode)));
+        }
+
+        if (this.hasCache()) {
+            this.cache.addMessage(resp);
+        }
+
+        Record[] respAnswerRecords = resp.getSectionArray(Section.ANSWER);
+        List<Record> rawAnswers = new ArrayList<>();
+        Name answerName = queryName, answerCnameTarget;
+        int answerNumIterations = numIterations;
+
+        do {
+            answerCnameTarget = null;
+
+            for (Record respAnswerRecord : respAnswerRecords) {
+                if (!respAnswerRecord.getName().equals(answerName)) {
+                    continue;
+                }
+
+                if (respAnswerRecord.getType() == recordType.getCode()) {
+                    rawAnswers.add(respAnswerRecord);
+                } else if (respAnswerRecord.getType() == Type.CNAME) {
+                    answerCnameTarget = ((CNAMERecord) respAnswerRecord).getTarget();
+                }
+            }
+
+            if (!rawAnswers.isEmpty() || (answerCnameTarget == null)) {
+                break;
+            }
+
+            aliases.add(answerName);
+            answerName = answerCnameTarget;
+        } while (++answerNumIterations <= ITERATIONS_MAX);
+
+        if (!rawAnswers.isEmpty()) {
+            return CompletableFuture.completedFuture(buildResult(recordType, recordClass, name, DnsResultType.SUCCESSFUL, aliases, rawAnswers, null));
+        } else if (respRcode == Rcode.NXDOMAIN) {
+            return CompletableFuture.completedFuture(buildResult(recordType, recordClass, name, DnsResultType.HOST_NOT_FOUND, aliases, null, null));
+        } else if (!answerName.equals(queryName)) {
+            // Following an alias whose target records were not included in the response.
+            return this.resolveNameAsync(queryMultiplexer, recordType, recordClass, name, answerName, aliases, (answerNumIterations + 1));
+        }
+
+        return CompletableFuture.completedFuture(buildResult(recordType, recordClass, name, DnsResultType.TYPE_NOT_FOUND, aliases, null, null));
+    }
+
+    private List<Name> buildQueryNames(Name name) {
+        List<Name> queryNames = new ArrayList<>();
+
+        try {
+            if (name.isAbsolute()) {
+                queryNames.add(name);
+            } else if (ArrayUtils.isEmpty(this.searchPathsArr)) {
+                queryNames.add(Name.concatenate(name, Name.root));
+            } else {
+                if (name.labels() > 1) {
+                    queryNames.add(Name.concatenate(name, Name.root));
+                }
+
+                Name searchName;
+
+                for (Name searchPath : this.searchPathsArr) {
+                    if ((searchName = Name.concatenate(name, searchPath)).isAbsolute()) {
+                        queryNames.add(searchName);
+                    }
+                }
+            }
+        } catch (NameTooLongException ignored) {
+            // The remaining (longer) search names cannot be queried either.
+        }
+
+        return queryNames;
+    }
+
+    @Nullable
+    private synchronized DnsQueryMultiplexer getQueryMultiplexer() {
+        if (!this.queryMultiplexerBuilt) {
+            List<InetSocketAddress> serverSocketAddrs = buildServerSocketAddresses(this.resolver);
+
+            this.queryMultiplexer = ((serverSocketAddrs != null) ? new DnsQueryMultiplexer(serverSocketAddrs, this.timeout, this.taskExec) : null);
+            this.queryMultiplexerBuilt = true;
+        }
+
+        return this.queryMultiplexer;
+    }
+
+    private synchronized void resetQueryMultiplexer() {
+        if (this.queryMultiplexer != null) {
+            this.queryMultiplexer.close();
+            this.queryMultiplexer = null;
+        }
+
+        this.queryMultiplexerBuilt = false;
+    }
+
+    @Nullable
+    private static List<InetSocketAddress> buildServerSocketAddresses(@Nullable Resolver resolver) {
+        Resolver[] serverResolvers = ((resolver instanceof ExtendedResolver) ? ((ExtendedResolver) resolver).getResolvers() : ArrayUtils.toArray(resolver));
+        List<InetSocketAddress> serverSocketAddrs = new ArrayList<>(serverResolvers.length);
+
+        for (Resolver serverResolver : serverResolvers) {
+            if (!(serverResolver instanceof ToolSimpleResolver)) {
+                return null;
+            }
+
+            serverSocketAddrs.add(((ToolSimpleResolver) serverResolver).getServerSocketAddress());
+        }
+
+        return (!serverSocketAddrs.isEmpty() ? serverSocketAddrs : null);
+    }
+
+    private static <T extends Record> DnsLookupResult<T> buildResult(DnsRecordType recordType, Class<T> recordClass, Name name, DnsResultType resultType,
+        @Nullable List<Name> aliases, @Nullable List<Record> rawAnswers, @Nullable String msg) {
+        DnsLookupResult<T> result = new DnsLookupResultImpl<>(recordType, recordClass, name, resultType, aliases, rawAnswers);
+        result.getMessages().add(new ToolMessageImpl((resultType.isSuccess() ? ToolMessageLevel.INFO : ToolMessageLevel.ERROR),
+            ((msg != null) ? msg : RESULT_MSGS.get(resultType))));
+
+        return result;
+    }
+
     @Override
     public boolean hasCache() {
         return this.cache != null;
@@ -140,6 +477,8 @@ public class DnsLookupServiceImpl extends AbstractToolBean implements DnsLookupS
     @Override
     public void setResolver(@Nullable Resolver resolver) {
         this.resolver = resolver;
+
+        this.resetQueryMultiplexer();
     }
 
     @Override
@@ -155,6 +494,37 @@ public class DnsLookupServiceImpl extends AbstractToolBean implements DnsLookupS
 
     @Override
     public void setSearchPaths(@Nullable Set<Name> searchPaths) {
-        this.searchPaths = searchPaths;
+        this.searchPathsArr = ToolCollectionUtils.toArray((this.searchPaths = searchPaths), Name.class);
+    }
+
+    @Override
+    public boolean hasTaskExecutor() {
+        return this.taskExec != null;
+    }
+
+    @Nullable
+    @Override
+    public ThreadPoolTaskExecutor getTaskExecutor() {
+        return this.taskExec;
+    }
+
+    @Override
+    public void setTaskExecutor(@Nullable ThreadPoolTaskExecutor taskExec) {
+        this.taskExec = taskExec;
+
+        this.resetQueryMultiplexer();
+    }
+
+    @Nonnegative
+    @Override
+    public long getTimeout() {
+        return this.timeout;
+    }
+
+    @Override
+    public void setTimeout(@Nonnegative long timeout) {
+        this.timeout = timeout;
+
+        this.resetQueryMultiplexer();
     }
 }
@@ -0,0 +1,330 @@
+package gov.hhs.onc.dcdt.dns.lookup.impl;
+
+import gov.hhs.onc.dcdt.utils.ToolClassUtils;
+import gov.hhs.onc.dcdt.utils.ToolDateUtils;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.Nonnegative;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.xbill.DNS.Flags;
+import org.xbill.DNS.Message;
+import org.xbill.DNS.SimpleResolver;
+
+// @formatter:off
+/*
+Multiplexing outstanding DNS queries over a single shared non-blocking UDP socket, correlating responses by message ID as per:
+- RFC 5452 - Measures for Making DNS More Resilient against Forged Answers, Section 4 (http://tools.ietf.org/html/rfc5452#section-4)
+Truncated UDP responses are retried over TCP as per:
+- RFC 7766 - DNS Transport over TCP - Implementation Requirements, Section 5 (http://tools.ietf.org/html/rfc7766#section-5)
+*/
+// @formatter:on
+public class DnsQueryMultiplexer implements Closeable {
+    private static class PendingQuery {
+        private Message query;
+        private InetSocketAddress serverSocketAddr;
+        private long expireTime;
+        private CompletableFuture<Message> respFuture = new CompletableFuture<>();
+
+        public PendingQuery(Message query, InetSocketAddress serverSocketAddr, long expireTime) {
+            this.query = query;
+            this.serverSocketAddr = serverSocketAddr;
+            this.expireTime = expireTime;
+        }
+    }
+
+    private class DnsQueryReceiveDaemon implements Runnable {
+        private DatagramChannel channel;
+        private Selector selector;
+
+        public DnsQueryReceiveDaemon(DatagramChannel channel, Selector selector) {
+            this.channel = channel;
+            this.selector = selector;
+        }
+
+        @Override
+        public void run() {
+            ByteBuffer respBuffer = ByteBuffer.allocate(DATA_SIZE_UDP_MSG_MAX);
+            SocketAddress respSocketAddr;
+
+            try {
+                while (this.channel.isOpen()) {
+                    this.selector.select(SELECT_TIMEOUT);
+                    this.selector.selectedKeys().clear();
+
+                    while ((respSocketAddr = this.channel.receive(respBuffer)) != null) {
+                        respBuffer.flip();
+
+                        DnsQueryMultiplexer.this.processResponse(respSocketAddr, Arrays.copyOf(respBuffer.array(), respBuffer.limit()));
+
+                        respBuffer.clear();
+                    }
+
+                    DnsQueryMultiplexer.this.expirePendingQueries(System.currentTimeMillis());
+
+                    if (DnsQueryMultiplexer.this.closeIdle(this.channel)) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                if (this.channel.isOpen()) {
+                    LOGGER.error(String.format("Unable to receive DNS query responses (class=%s, localAddr={%s}).", ToolClassUtils.getName(this),
+                        this.channel.socket().getLocalSocketAddress()), e);
+                }
+
+                DnsQueryMultiplexer.this.close(this.channel, e);
+            } catch (ClosedSelectorException ignored) {
+                // The multiplexer was closed while waiting for responses.
+            }
+        }
+    }
+
+    private final static int DATA_SIZE_UDP_MSG_MAX = 65535;
+    private final static int QUERY_ID_BOUND = 0x10000;
+    private final static long SELECT_TIMEOUT = 250L;
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(DnsQueryMultiplexer.class);
+
+    private List<InetSocketAddress> serverSocketAddrs;
+    private long timeout;
+    private ThreadPoolTaskExecutor taskExec;
+    private ConcurrentMap<Integer, PendingQuery> pendingQueries = new ConcurrentHashMap<>();
+    private SecureRandom queryIdRandom = new SecureRandom();
+    private DatagramChannel channel;
+    private Selector selector;
+    private volatile long lastSendTime;
+
+    public DnsQueryMultiplexer(List<InetSocketAddress> serverSocketAddrs, @Nonnegative long timeout, ThreadPoolTaskExecutor taskExec) {
+        this.serverSocketAddrs = serverSocketAddrs;
+        this.timeout = timeout;
+        this.taskExec = taskExec;
+    }
+
+    public CompletableFuture<Message> send(Message query) {
+        return this.send(query, 0);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.channel != null) {
+            this.close(this.channel, new IOException(String.format("DNS query multiplexer (class=%s) was closed.", ToolClassUtils.getName(this))));
+        }
+    }
+
+    private CompletableFuture<Message> send(Message query, int serverIndex) {
+        InetSocketAddress serverSocketAddr = this.serverSocketAddrs.get(serverIndex);
+        CompletableFuture<Message> respFuture = new CompletableFuture<>();
+
+        this.sendUdp(query, serverSocketAddr)
+            .thenCompose(resp -> (resp.getHeader().getFlag(Flags.TC) ? this.sendTcp(query, serverSocketAddr) : CompletableFuture.completedFuture(resp)))
+            .whenComplete((resp, e) -> {
+                if (e == null) {
+                    respFuture.complete(resp);
+                } else if ((serverIndex + 1) < this.serverSocketAddrs.size()) {
+                    // Failing over to the next DNS server, as the (serial) extended resolver would.
+                    this.send(query, (serverIndex + 1)).whenComplete((nextResp, nextException) -> {
+                        if (nextException == null) {
+                            respFuture.complete(nextResp);
+                        } else {
+                            respFuture.completeExceptionally(nextException);
+                        }
+                    });
+                } else {
+                    respFuture.completeExceptionally(e);
+                }
+            });
+
+        return respFuture;
+    }
+
+    private CompletableFuture<Message> sendUdp(Message query, InetSocketAddress serverSocketAddr) {
+        Message pendingQueryMsg = ((Message) query.clone());
+        DatagramChannel channel;
+        int queryId;
+        PendingQuery pendingQuery;
+
+        synchronized (this) {
+            try {
+                channel = this.open();
+            } catch (IOException e) {
+                CompletableFuture<Message> respFuture = new CompletableFuture<>();
+                respFuture.completeExceptionally(e);
+
+                return respFuture;
+            }
+
+            do {
+                queryId = this.queryIdRandom.nextInt(QUERY_ID_BOUND);
+            } while (this.pendingQueries.containsKey(queryId));
+
+            pendingQueryMsg.getHeader().setID(queryId);
+
+            this.pendingQueries.put(queryId, (pendingQuery = new PendingQuery(pendingQueryMsg, serverSocketAddr, (System.currentTimeMillis() + this.timeout))));
+            this.lastSendTime = System.currentTimeMillis();
+        }
+
+        try {
+            if (channel.send(ByteBuffer.wrap(pendingQueryMsg.toWire()), serverSocketAddr) == 0) {
+                throw new IOException(String.format("Unable to send DNS query (id=%d, serverAddr={%s}): no socket buffer space available.", queryId,
+                    serverSocketAddr));
+            }
+        } catch (IOException e) {
+            if (this.pendingQueries.remove(queryId, pendingQuery)) {
+                pendingQuery.respFuture.completeExceptionally(e);
+            }
+        }
+
+        return pendingQuery.respFuture;
+    }
+
+    private CompletableFuture<Message> sendTcp(Message query, InetSocketAddress serverSocketAddr) {
+        CompletableFuture<Message> respFuture = new CompletableFuture<>();
+
+        try {
+            this.taskExec.execute(() -> {
+                try {
+                    SimpleResolver tcpResolver = new SimpleResolver(serverSocketAddr.getAddress().getHostAddress());
+                    tcpResolver.setPort(serverSocketAddr.getPort());
+                    tcpResolver.setTCP(true);
+                    tcpResolver.setTimeout(((int) (this.timeout / ToolDateUtils.MS_IN_SEC)), ((int) (this.timeout % ToolDateUtils.MS_IN_SEC)));
+
+                    respFuture.complete(tcpResolver.send(query));
+                } catch (Throwable e) {
+                    respFuture.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            respFuture.completeExceptionally(e);
+        }
+
+        return respFuture;
+    }
+
+    private void processResponse(SocketAddress respSocketAddr, byte[] respData) {
+        Message resp;
+
+        try {
+            resp = new Message(respData);
+        } catch (IOException e) {
+            LOGGER.debug(String.format("Ignoring malformed DNS query response (remoteAddr={%s}).", respSocketAddr), e);
+
+            return;
+        }
+
+        int queryId = resp.getHeader().getID();
+        PendingQuery pendingQuery = this.pendingQueries.get(queryId);
+
+        // Only accepting responses from the queried server that echo the query's question, so that stray or forged responses are ignored.
+        if ((pendingQuery == null) || !pendingQuery.serverSocketAddr.equals(respSocketAddr)
+            || !Objects.equals(resp.getQuestion(), pendingQuery.query.getQuestion())) {
+            LOGGER.debug(String.format("Ignoring unmatched DNS query response (id=%d, remoteAddr={%s}).", queryId, respSocketAddr));
+
+            return;
+        }
+
+        if (this.pendingQueries.remove(queryId, pendingQuery)) {
+            pendingQuery.respFuture.complete(resp);
+        }
+    }
+
+    private void expirePendingQueries(long time) {
+        PendingQuery pendingQuery;
+
+        for (Iterator<PendingQuery> pendingQueryIterator = this.pendingQueries.values().iterator(); pendingQueryIterator.hasNext();) {
+            if ((pendingQuery = pendingQueryIterator.next()).expireTime <= time) {
+                pendingQueryIterator.remove();
+
+                pendingQuery.respFuture.completeExceptionally(new SocketTimeoutException(String.format(
+                    "DNS query (id=%d, serverAddr={%s}) timed out after %d millisecond(s).", pendingQuery.query.getHeader().getID(),
+                    pendingQuery.serverSocketAddr, this.timeout)));
+            }
+        }
+    }
+
+    private synchronized boolean closeIdle(DatagramChannel channel) {
+        if (channel != this.channel) {
+            return true;
+        }
+
+        if (!this.pendingQueries.isEmpty() || ((System.currentTimeMillis() - this.lastSendTime) < this.timeout)) {
+            return false;
+        }
+
+        this.close(channel, null);
+
+        return true;
+    }
+
+    private synchronized void close(DatagramChannel channel, IOException cause) {
+        if (channel != this.channel) {
+            return;
+        }
+
+        try {
+            this.selector.close();
+            this.channel.close();
+        } catch (IOException e) {
+            LOGGER.warn(String.format("Unable to close DNS query multiplexer (class=%s) channel.", ToolClassUtils.getName(this)), e);
+        }
+
+        this.channel = null;
+        this.selector = null;
+
+        if (cause == null) {
+            return;
+        }
+
+        PendingQuery pendingQuery;
+
+        for (Iterator<PendingQuery> pendingQueryIterator = this.pendingQueries.values().iterator(); pendingQueryIterator.hasNext();) {
+            pendingQuery = pendingQueryIterator.next();
+            pendingQueryIterator.remove();
+
+            pendingQuery.respFuture.completeExceptionally(cause);
+        }
+    }
+
+    private DatagramChannel open() throws IOException {
+        if (this.channel != null) {
+            return this.channel;
+        }
+
+        Selector selector = Selector.open();
+        DatagramChannel channel = DatagramChannel.open();
+
+        try {
+            channel.configureBlocking(false);
+            channel.bind(null);
+            channel.register(selector, SelectionKey.OP_READ);
+
+            this.taskExec.execute(new DnsQueryReceiveDaemon(channel, selector));
+        } catch (IOException | RuntimeException e) {
+            selector.close();
+            channel.close();
+
+            throw new IOException(String.format("Unable to open DNS query multiplexer (class=%s) channel.", ToolClassUtils.getName(this)), e);
+        }
+
+        this.selector = selector;
+
+        return (this.channel = channel);
+    }
+}
@@ -9,6 +9,7 @@ import gov.hhs.onc.dcdt.utils.ToolArrayUtils;
 import gov.hhs.onc.dcdt.utils.ToolEnumUtils;
 import gov.hhs.onc.dcdt.utils.ToolNumberUtils;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
@@ -24,6 +25,7 @@ import org.xbill.DNS.Record;
 
 public abstract class ToolDnsMessageUtils {
     public final static int DATA_SIZE_DNS_MSG_QUERY_SIZE_PREFIX = 2;
+    public final static int DATA_OFFSET_DNS_MSG_FLAGS = 2;
 
     public static Message createErrorResponse(@Nullable Message reqMsg, DnsMessageRcode rcode) {
         return setRcode(createResponse(ObjectUtils.defaultIfNull(reqMsg, new Message())), rcode);
@@ -35,11 +37,33 @@ public abstract class ToolDnsMessageUtils {
     }
 
     public static byte[] toWire(InetProtocol protocol, Message msg) throws IOException {
-        byte[] data = msg.toWire(protocol.getDataSizeMax());
+        return toWire(protocol, msg, protocol.getDataSizeMax());
+    }
+
+    public static byte[] toWire(InetProtocol protocol, Message msg, @Nonnegative int dataSizeMax) throws IOException {
+        byte[] data = msg.toWire(dataSizeMax);
 
         return ((protocol == InetProtocol.TCP) ? ArrayUtils.addAll(buildQuerySizeData(data.length), data) : data);
     }
 
+    public static ByteBuffer toWire(InetProtocol protocol, Message msg, @Nonnegative int dataSizeMax, ByteBuffer buffer) {
+        byte[] data = msg.toWire(dataSizeMax);
+
+        if (protocol == InetProtocol.TCP) {
+            buffer.putShort(((short) data.length));
+        }
+
+        return buffer.put(data);
+    }
+
+    public static Message fromWire(InetProtocol protocol, ByteBuffer buffer) throws IOException {
+        byte[] data = new byte[((protocol == InetProtocol.TCP) ? (buffer.getShort() & 0xFFFF) : buffer.remaining())];
+
+        buffer.get(data);
+
+        return new Message(data);
+    }
+
     public static Message fromWire(InetProtocol protocol, byte[] data) throws IOException {
         return new Message(((protocol == InetProtocol.TCP) ? ArrayUtils.subarray(data, DATA_SIZE_DNS_MSG_QUERY_SIZE_PREFIX,
             (parseQuerySizeData(ArrayUtils.subarray(data, 0, DATA_SIZE_DNS_MSG_QUERY_SIZE_PREFIX))) + DATA_SIZE_DNS_MSG_QUERY_SIZE_PREFIX) : data));
@@ -189,6 +213,12 @@ public abstract class ToolDnsMessageUtils {
         return true;
     }
 
+    public static boolean hasFlag(InetProtocol protocol, ByteBuffer buffer, DnsMessageFlag flag) {
+        int flagsOffset = (((protocol == InetProtocol.TCP) ? DATA_SIZE_DNS_MSG_QUERY_SIZE_PREFIX : 0) + DATA_OFFSET_DNS_MSG_FLAGS);
+
+        return (!flag.isExtended() && ((buffer.getShort(flagsOffset) & (1 << (15 - flag.getCode()))) != 0));
+    }
+
     public static Set<DnsMessageFlag> getFlags(Message msg) {
         Header header = msg.getHeader();
         OPTRecord optRecord = msg.getOPT();
@@ -1,24 +1,14 @@
 package gov.hhs.onc.dcdt.dns.utils;
 
-import gov.hhs.onc.dcdt.collections.impl.AbstractToolTransformer;
 import gov.hhs.onc.dcdt.dns.DnsRecordType;
-import gov.hhs.onc.dcdt.utils.ToolClassUtils;
-import gov.hhs.onc.dcdt.utils.ToolIteratorUtils;
-import gov.hhs.onc.dcdt.utils.ToolListUtils;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Random;
-import java.util.TreeMap;
-import javax.annotation.Nonnegative;
+import java.util.concurrent.ThreadLocalRandom;
 import javax.annotation.Nullable;
-import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.ComparatorUtils;
-import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.apache.commons.lang3.tuple.Pair;
 import org.xbill.DNS.MXRecord;
 import org.xbill.DNS.Record;
 import org.xbill.DNS.SRVRecord;
@@ -29,13 +19,19 @@ import org.xbill.DNS.SRVRecord;
  */
 public abstract class ToolDnsRecordOrderUtils {
     private static class SrvRecordWeightedIterator implements Iterator<SRVRecord> {
-        private Map<Integer, List<SRVRecord>> recordPriorityMap;
-        private Iterator<Entry<Integer, List<SRVRecord>>> recordPriorityEntryIterator;
-        private Entry<Integer, List<SRVRecord>> recordPriorityEntry;
-
-        public SrvRecordWeightedIterator(Map<Integer, List<SRVRecord>> recordPriorityMap) {
-            this.recordPriorityMap = recordPriorityMap;
-            this.recordPriorityEntryIterator = this.recordPriorityMap.entrySet().iterator();
+        private SRVRecord[] records;
+        private Random random;
+        private int recordPriorityStartIndex;
+        private int recordPriorityEndIndex;
+        private int[] recordWeightTree;
+        private boolean[] recordsSelected;
+        private int recordWeightSum;
+        private int recordUnselectedIndex;
+        private int numRecordsSelected;
+
+        public SrvRecordWeightedIterator(SRVRecord[] records, Random random) {
+            this.records = records;
+            this.random = random;
         }
 
         @Override
@@ -44,40 +40,41 @@ public abstract class ToolDnsRecordOrderUtils {
 
         @Nullable
         @Override
-        @SuppressWarnings({ "unchecked" })
         public SRVRecord next() {
             if (!this.hasNext()) {
                 return null;
             }
 
-            if (this.recordPriorityEntry == null) {
-                this.recordPriorityEntry = this.recordPriorityEntryIterator.next();
-
-                ToolListUtils.sort(this.recordPriorityEntry.getValue(),
-                    ComparatorUtils.transformedComparator(((Comparator<Integer>) ComparatorUtils.NATURAL_COMPARATOR), SrvRecordWeightExtractor.INSTANCE));
+            if (this.recordWeightTree == null) {
+                this.buildRecordWeightTree();
             }
 
-            List<SRVRecord> records = this.recordPriorityEntry.getValue();
-            List<Integer> recordWeights = CollectionUtils.collect(records, SrvRecordWeightExtractor.INSTANCE, new ArrayList<>(records.size()));
-            int recordWeightSum = 0;
+            int recordWeightSelect = ((this.recordWeightSum > 0) ? this.random.nextInt(this.recordWeightSum + 1) : 0), recordIndex;
+
+            if (recordWeightSelect == 0) {
+                while (this.recordsSelected[this.recordUnselectedIndex]) {
+                    this.recordUnselectedIndex++;
+                }
 
-            for (Integer recordWeight : recordWeights) {
-                recordWeightSum += recordWeight;
+                recordIndex = this.recordUnselectedIndex;
+            } else {
+                recordIndex = this.findRecordIndex(recordWeightSelect);
             }
 
-            int recordWeightSelect = new Random().nextInt(recordWeightSum + 1), recordWeightRunningSum = 0;
-            SRVRecord record = null;
+            SRVRecord record = this.records[(this.recordPriorityStartIndex + recordIndex)];
+            int recordWeight = record.getWeight();
 
-            for (int a = 0; a < recordWeights.size(); a++) {
-                if ((recordWeightRunningSum += recordWeights.get(a)) >= recordWeightSelect) {
-                    record = records.remove(a);
+            this.recordsSelected[recordIndex] = true;
+            this.recordWeightSum -= recordWeight;
 
-                    break;
-                }
+            for (int a = (recordIndex + 1); a < this.recordWeightTree.length; a += (a & -a)) {
+                this.recordWeightTree[a] -= recordWeight;
             }
 
-            if (records.isEmpty()) {
-                this.recordPriorityEntry = null;
+            if (++this.numRecordsSelected == (this.recordPriorityEndIndex - this.recordPriorityStartIndex)) {
+                this.recordPriorityStartIndex = this.recordPriorityEndIndex;
+                this.recordWeightTree = null;
+                this.recordsSelected = null;
             }
 
             return record;
@@ -85,28 +82,53 @@ public abstract class ToolDnsRecordOrderUtils {
 
         @Override
         public boolean hasNext() {
-            return ((this.recordPriorityEntry != null) || this.recordPriorityEntryIterator.hasNext());
+            return (this.recordPriorityStartIndex < this.records.length);
         }
-    }
 
-    private static class SrvRecordWeightExtractor extends AbstractToolTransformer<SRVRecord, Integer> {
-        public final static SrvRecordWeightExtractor INSTANCE = new SrvRecordWeightExtractor();
+        private int findRecordIndex(int recordWeightSelect) {
+            int numRecords = (this.recordWeightTree.length - 1), recordIndex = 0;
 
-        @Nonnegative
-        @Override
-        protected Integer transformInternal(SRVRecord srvRecord) throws Exception {
-            return srvRecord.getWeight();
+            for (int a = Integer.highestOneBit(numRecords); a > 0; a >>= 1) {
+                if (((recordIndex + a) <= numRecords) && (this.recordWeightTree[(recordIndex + a)] < recordWeightSelect)) {
+                    recordWeightSelect -= this.recordWeightTree[(recordIndex += a)];
+                }
+            }
+
+            return recordIndex;
         }
-    }
 
-    private static class DnsRecordPriorityPairTransformer<T extends Record> extends AbstractToolTransformer<T, Pair<Integer, T>> {
-        @Override
-        protected Pair<Integer, T> transformInternal(T record) throws Exception {
-            return new ImmutablePair<>((ToolClassUtils.isAssignable(record.getClass(), MXRecord.class)
-                ? ((MXRecord) record).getPriority() : ((SRVRecord) record).getPriority()), record);
+        private void buildRecordWeightTree() {
+            int recordPriority = this.records[this.recordPriorityStartIndex].getPriority();
+
+            this.recordPriorityEndIndex = (this.recordPriorityStartIndex + 1);
+
+            while ((this.recordPriorityEndIndex < this.records.length) && (this.records[this.recordPriorityEndIndex].getPriority() == recordPriority)) {
+                this.recordPriorityEndIndex++;
+            }
+
+            int numRecords = (this.recordPriorityEndIndex - this.recordPriorityStartIndex), recordWeight;
+
+            this.recordWeightTree = new int[(numRecords + 1)];
+            this.recordsSelected = new boolean[numRecords];
+            this.recordWeightSum = 0;
+            this.recordUnselectedIndex = 0;
+            this.numRecordsSelected = 0;
+
+            for (int a = 1, b; a <= numRecords; a++) {
+                this.recordWeightSum += (recordWeight = this.records[(this.recordPriorityStartIndex + a - 1)].getWeight());
+                this.recordWeightTree[a] += recordWeight;
+
+                if ((b = (a + (a & -a))) <= numRecords) {
+                    this.recordWeightTree[b] += this.recordWeightTree[a];
+                }
+            }
         }
     }
 
+    private final static Comparator<MXRecord> MX_RECORD_COMPARATOR = Comparator.comparingInt(MXRecord::getPriority);
+    private final static Comparator<SRVRecord> SRV_RECORD_COMPARATOR = Comparator.comparingInt(SRVRecord::getPriority).thenComparingInt(
+        SRVRecord::getWeight);
+
     @SuppressWarnings({ "unchecked" })
     public static <T extends Record> Iterator<T> buildOrderedIterator(DnsRecordType recordType, Iterable<T> records) {
         switch (recordType) {
@@ -122,25 +144,31 @@ public abstract class ToolDnsRecordOrderUtils {
     }
 
     public static Iterator<MXRecord> buildMxRecordIterator(Iterable<MXRecord> records) {
-        return ToolIteratorUtils.chainedIterator(buildRecordPriorityMap(records).values());
+        List<MXRecord> orderedRecords = buildRecordList(records);
+        orderedRecords.sort(MX_RECORD_COMPARATOR);
+
+        return orderedRecords.iterator();
     }
 
     public static Iterator<SRVRecord> buildSrvRecordIterator(Iterable<SRVRecord> records) {
-        return new SrvRecordWeightedIterator(buildRecordPriorityMap(records));
+        return buildSrvRecordIterator(records, ThreadLocalRandom.current());
     }
 
-    private static <T extends Record> Map<Integer, List<T>> buildRecordPriorityMap(Iterable<T> records) {
-        Map<Integer, List<T>> recordPriorityMap = new TreeMap<>();
-        Integer recordPriority;
+    public static Iterator<SRVRecord> buildSrvRecordIterator(Iterable<SRVRecord> records, Random random) {
+        List<SRVRecord> recordList = buildRecordList(records);
+        SRVRecord[] orderedRecords = recordList.toArray(new SRVRecord[recordList.size()]);
+        Arrays.sort(orderedRecords, SRV_RECORD_COMPARATOR);
 
-        for (Pair<Integer, T> recordPriorityPair : CollectionUtils.collect(records, new DnsRecordPriorityPairTransformer<T>())) {
-            if (!recordPriorityMap.containsKey((recordPriority = recordPriorityPair.getKey()))) {
-                recordPriorityMap.put(recordPriority, new ArrayList<T>());
-            }
+        return new SrvRecordWeightedIterator(orderedRecords, random);
+    }
+
+    private static <T extends Record> List<T> buildRecordList(Iterable<T> records) {
+        List<T> recordList = new ArrayList<>();
 
-            recordPriorityMap.get(recordPriority).add(recordPriorityPair.getValue());
+        for (T record : records) {
+            recordList.add(record);
         }
 
-        return recordPriorityMap;
+        return recordList;
     }
 }
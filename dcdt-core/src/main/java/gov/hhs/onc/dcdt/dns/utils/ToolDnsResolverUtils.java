@@ -2,6 +2,7 @@ package gov.hhs.onc.dcdt.dns.utils;
 
 import gov.hhs.onc.dcdt.collections.impl.AbstractToolTransformer;
 import gov.hhs.onc.dcdt.dns.DnsException;
+import gov.hhs.onc.dcdt.dns.impl.ToolSimpleResolver;
 import gov.hhs.onc.dcdt.net.utils.ToolInetAddressUtils;
 import gov.hhs.onc.dcdt.utils.ToolArrayUtils;
 import gov.hhs.onc.dcdt.utils.ToolCollectionUtils;
@@ -59,10 +60,7 @@ public abstract class ToolDnsResolverUtils {
         InetAddress socketConnAddr = ToolInetAddressUtils.getConnectionAddress(socketAddr.getAddress());
 
         try {
-            SimpleResolver resolver = new SimpleResolver(socketConnAddr.getHostAddress());
-            resolver.setPort(socketAddr.getPort());
-
-            return resolver;
+            return new ToolSimpleResolver(new InetSocketAddress(socketConnAddr, socketAddr.getPort()));
         } catch (UnknownHostException e) {
             throw new DnsException(String.format("Unable to create DNS resolver (socketConnAddr=%s, socketPort=%d).", socketConnAddr.getHostAddress(),
                 socketAddr.getPort()), e);
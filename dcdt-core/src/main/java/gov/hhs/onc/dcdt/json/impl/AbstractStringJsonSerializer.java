@@ -0,0 +1,30 @@
+package gov.hhs.onc.dcdt.json.impl;
+
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import javax.annotation.Nullable;
+
+public abstract class AbstractStringJsonSerializer<T> extends StdSerializer<T> {
+    protected final static long serialVersionUID = 0L;
+
+    protected AbstractStringJsonSerializer(Class<T> srcClass) {
+        super(srcClass);
+    }
+
+    @Override
+    public void serialize(T src, JsonGenerator jsonGen, SerializerProvider serializerProvider) throws IOException, JsonGenerationException {
+        String srcStr = this.serializeString(src);
+
+        if (srcStr != null) {
+            jsonGen.writeString(srcStr);
+        } else {
+            serializerProvider.defaultSerializeNull(jsonGen);
+        }
+    }
+
+    @Nullable
+    protected abstract String serializeString(T src);
+}
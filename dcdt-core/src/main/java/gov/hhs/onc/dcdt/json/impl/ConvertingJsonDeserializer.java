@@ -8,6 +8,7 @@ import java.io.IOException;
 import javax.annotation.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 
 @SuppressWarnings({ "serial" })
 public class ConvertingJsonDeserializer<T, U> extends StdDeserializer<U> {
@@ -16,17 +17,24 @@ public class ConvertingJsonDeserializer<T, U> extends StdDeserializer<U> {
 
     protected Class<T> srcClass;
     protected Class<U> targetClass;
+    protected TypeDescriptor srcType;
+    protected TypeDescriptor targetType;
+    protected boolean srcStr;
 
     protected ConvertingJsonDeserializer(Class<T> srcClass, Class<U> targetClass) {
         super(targetClass);
 
         this.srcClass = srcClass;
         this.targetClass = targetClass;
+        this.srcType = TypeDescriptor.valueOf(srcClass);
+        this.targetType = TypeDescriptor.valueOf(targetClass);
+        this.srcStr = (srcClass == String.class);
     }
 
     @Nullable
     @Override
     public U deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException, JsonProcessingException {
-        return this.convService.convert(jsonParser.readValueAs(this.srcClass), this.targetClass);
+        return this.targetClass.cast(this.convService.convert((this.srcStr ? jsonParser.getValueAsString() : jsonParser.readValueAs(this.srcClass)),
+            this.srcType, this.targetType));
     }
 }
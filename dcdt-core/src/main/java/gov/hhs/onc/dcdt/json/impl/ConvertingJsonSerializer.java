@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 
 public class ConvertingJsonSerializer<T, U> extends StdSerializer<T> {
     protected final static long serialVersionUID = 0L;
@@ -16,16 +17,30 @@ public class ConvertingJsonSerializer<T, U> extends StdSerializer<T> {
 
     protected Class<T> srcClass;
     protected Class<U> targetClass;
+    protected TypeDescriptor srcType;
+    protected TypeDescriptor targetType;
+    protected boolean targetStr;
 
     protected ConvertingJsonSerializer(Class<T> srcClass, Class<U> targetClass) {
         super(srcClass);
 
         this.srcClass = srcClass;
         this.targetClass = targetClass;
+        this.srcType = TypeDescriptor.valueOf(srcClass);
+        this.targetType = TypeDescriptor.valueOf(targetClass);
+        this.targetStr = (targetClass == String.class);
     }
 
     @Override
     public void serialize(T src, JsonGenerator jsonGen, SerializerProvider serializerProvider) throws IOException, JsonGenerationException {
-        serializerProvider.defaultSerializeValue(this.convService.convert(src, this.targetClass), jsonGen);
+        Object target = this.convService.convert(src, this.srcType, this.targetType);
+
+        if (target == null) {
+            serializerProvider.defaultSerializeNull(jsonGen);
+        } else if (this.targetStr) {
+            jsonGen.writeString(((String) target));
+        } else {
+            serializerProvider.defaultSerializeValue(target, jsonGen);
+        }
     }
 }
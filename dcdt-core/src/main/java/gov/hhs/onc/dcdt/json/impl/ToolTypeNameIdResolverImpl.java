@@ -12,9 +12,16 @@ import gov.hhs.onc.dcdt.beans.utils.ToolBeanFactoryUtils;
 import gov.hhs.onc.dcdt.json.ToolTypeNameIdResolver;
 import gov.hhs.onc.dcdt.utils.ToolAnnotationUtils;
 import gov.hhs.onc.dcdt.utils.ToolClassUtils;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Scope;
@@ -26,8 +33,53 @@ import org.springframework.stereotype.Component;
 @Scope("prototype")
 @SuppressWarnings({ CompilerWarnings.DEPRECATION })
 public class ToolTypeNameIdResolverImpl extends AbstractToolBean implements ToolTypeNameIdResolver {
+    private static class TypeIdRegistry {
+        private Map<String, JavaType> idTypes = new LinkedHashMap<>();
+        private ConcurrentMap<Class<?>, String> typeIds = new ConcurrentHashMap<>();
+
+        public TypeIdRegistry(AbstractApplicationContext appContext, JavaType baseType) {
+            Class<?> valueBeanClass;
+            String valueTypeName;
+
+            for (String valueBeanName : ToolBeanFactoryUtils.getBeanNamesOfType(appContext, baseType.getRawClass())) {
+                if (((valueBeanClass = appContext.getType(valueBeanName)) == null)
+                    || ((valueTypeName = ToolAnnotationUtils.getValue(JsonTypeName.class, String.class, valueBeanClass)) == null)) {
+                    continue;
+                }
+
+                if (!this.idTypes.containsKey(valueTypeName)) {
+                    this.idTypes.put(valueTypeName, baseType.narrowBy(valueBeanClass));
+                }
+
+                this.typeIds.putIfAbsent(valueBeanClass, valueTypeName);
+            }
+        }
+
+        @Nullable
+        public String findId(AbstractApplicationContext appContext, Class<?> valueClass) {
+            String valueTypeName = this.typeIds.get(valueClass);
+
+            if ((valueTypeName == null)
+                && (((valueTypeName = ToolAnnotationUtils.getValue(JsonTypeName.class, String.class, valueClass)) != null) || ((valueTypeName =
+                    ToolBeanFactoryUtils.getBeanNameOfType(appContext, valueClass)) != null))) {
+                this.typeIds.putIfAbsent(valueClass, valueTypeName);
+            }
+
+            return valueTypeName;
+        }
+
+        @Nullable
+        public JavaType findType(String valueId) {
+            return this.idTypes.get(valueId);
+        }
+    }
+
+    private final static Map<ConfigurableListableBeanFactory, ConcurrentMap<JavaType, TypeIdRegistry>> TYPE_ID_REGISTRY_CACHE = Collections
+        .synchronizedMap(new WeakHashMap<>());
+
     private AbstractApplicationContext appContext;
     private JavaType baseType;
+    private TypeIdRegistry typeIdRegistry;
 
     public ToolTypeNameIdResolverImpl() {
         this(ToolBean.class);
@@ -40,6 +92,7 @@ public class ToolTypeNameIdResolverImpl extends AbstractToolBean implements Tool
     @Override
     public void init(JavaType baseType) {
         this.baseType = baseType;
+        this.typeIdRegistry = null;
     }
 
     @Override
@@ -59,10 +112,7 @@ public class ToolTypeNameIdResolverImpl extends AbstractToolBean implements Tool
 
     @Override
     public String idFromType(Class<?> valueClass) {
-        String valueTypeName;
-
-        return ((valueTypeName = ToolAnnotationUtils.getValue(JsonTypeName.class, String.class, valueClass)) != null)
-            ? valueTypeName : ToolBeanFactoryUtils.getBeanNameOfType(this.appContext, valueClass);
+        return this.getTypeIdRegistry().findId(this.appContext, valueClass);
     }
 
     @Override
@@ -72,15 +122,7 @@ public class ToolTypeNameIdResolverImpl extends AbstractToolBean implements Tool
 
     @Override
     public JavaType typeFromId(String valueId) {
-        Class<?> valueBeanClass;
-
-        for (Object valueBean : ToolBeanFactoryUtils.getBeansOfType(this.appContext, this.baseType.getRawClass())) {
-            if (StringUtils.equals(valueId, ToolAnnotationUtils.getValue(JsonTypeName.class, String.class, (valueBeanClass = valueBean.getClass())))) {
-                return this.baseType.narrowBy(valueBeanClass);
-            }
-        }
-
-        return this.baseType;
+        return ObjectUtils.defaultIfNull(this.getTypeIdRegistry().findType(valueId), this.baseType);
     }
 
     @Override
@@ -91,5 +133,23 @@ public class ToolTypeNameIdResolverImpl extends AbstractToolBean implements Tool
     @Override
     public void setApplicationContext(ApplicationContext appContext) throws BeansException {
         this.appContext = (AbstractApplicationContext) appContext;
+        this.typeIdRegistry = null;
+    }
+
+    private TypeIdRegistry getTypeIdRegistry() {
+        TypeIdRegistry typeIdRegistry = this.typeIdRegistry;
+
+        if (typeIdRegistry != null) {
+            return typeIdRegistry;
+        }
+
+        ConfigurableListableBeanFactory beanFactory = this.appContext.getBeanFactory();
+        ConcurrentMap<JavaType, TypeIdRegistry> typeIdRegistries = TYPE_ID_REGISTRY_CACHE.computeIfAbsent(beanFactory, key -> new ConcurrentHashMap<>());
+
+        if ((typeIdRegistry = typeIdRegistries.get(this.baseType)) == null) {
+            typeIdRegistries.putIfAbsent(this.baseType, (typeIdRegistry = new TypeIdRegistry(this.appContext, this.baseType)));
+        }
+
+        return (this.typeIdRegistry = typeIdRegistry);
     }
 }
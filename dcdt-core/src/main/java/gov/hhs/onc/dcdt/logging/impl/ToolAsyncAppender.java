@@ -0,0 +1,86 @@
+package gov.hhs.onc.dcdt.logging.impl;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import gov.hhs.onc.dcdt.utils.ToolClassUtils;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ToolAsyncAppender extends AsyncAppender {
+    private boolean neverBlock;
+    private AtomicLong numDiscardedEvents = new AtomicLong();
+    private AtomicLong numDroppedEvents = new AtomicLong();
+    private AtomicLong numUnreportedEvents = new AtomicLong();
+
+    @Override
+    public void stop() {
+        super.stop();
+
+        String msg =
+            String.format("Stopped asynchronous appender (class=%s, name=%s, numDiscardedEvents=%d, numDroppedEvents=%d).", ToolClassUtils.getName(this),
+                this.getName(), this.numDiscardedEvents.get(), this.numDroppedEvents.get());
+
+        if ((this.numDiscardedEvents.get() > 0) || (this.numDroppedEvents.get() > 0)) {
+            this.addWarn(msg);
+        } else {
+            this.addInfo(msg);
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Only events less severe than WARN are ever dropped - WARN and ERROR events block until queued.
+        if (this.neverBlock && (this.getRemainingCapacity() == 0) && !event.getLevel().isGreaterOrEqual(Level.WARN)) {
+            this.numDroppedEvents.incrementAndGet();
+            this.numUnreportedEvents.incrementAndGet();
+
+            return;
+        }
+
+        super.append(event);
+
+        this.reportUnreportedEvents();
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        if (super.isDiscardable(event)) {
+            this.numDiscardedEvents.incrementAndGet();
+            this.numUnreportedEvents.incrementAndGet();
+
+            return true;
+        }
+
+        return false;
+    }
+
+    private void reportUnreportedEvents() {
+        long numUnreportedEvents;
+
+        if ((this.getRemainingCapacity() == 0) || ((numUnreportedEvents = this.numUnreportedEvents.getAndSet(0)) == 0)) {
+            return;
+        }
+
+        super.append(new LoggingEvent(ToolAsyncAppender.class.getName(), ((LoggerContext) this.getContext()).getLogger(ToolAsyncAppender.class), Level.WARN,
+            String.format("Asynchronous appender (class=%s, name=%s) discarded or dropped %d event(s) (numDiscardedEvents=%d, numDroppedEvents=%d).",
+                ToolClassUtils.getName(this), this.getName(), numUnreportedEvents, this.numDiscardedEvents.get(), this.numDroppedEvents.get()), null, null));
+    }
+
+    public boolean isNeverBlock() {
+        return this.neverBlock;
+    }
+
+    public void setNeverBlock(boolean neverBlock) {
+        this.neverBlock = neverBlock;
+    }
+
+    public long getNumDiscardedEvents() {
+        return this.numDiscardedEvents.get();
+    }
+
+    public long getNumDroppedEvents() {
+        return this.numDroppedEvents.get();
+    }
+}
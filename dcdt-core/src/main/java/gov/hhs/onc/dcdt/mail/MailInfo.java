@@ -8,11 +8,14 @@ import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
 import javax.mail.MessagingException;
+import javax.mail.internet.MimeBodyPart;
 import org.springframework.util.MimeType;
 
 public interface MailInfo extends ToolInfoBean {
     public boolean hasAttachments();
 
+    public List<MimeBodyPart> getAttachmentParts() throws MessagingException;
+
     @Nullable
     public List<MimeAttachmentResource> getAttachments();
 
@@ -1,15 +1,18 @@
 package gov.hhs.onc.dcdt.mail.crypto.utils;
 
 import gov.hhs.onc.dcdt.crypto.CryptographyException;
+import gov.hhs.onc.dcdt.crypto.DataEncoding;
 import gov.hhs.onc.dcdt.crypto.DigestAlgorithm;
 import gov.hhs.onc.dcdt.crypto.EncryptionAlgorithm;
 import gov.hhs.onc.dcdt.crypto.certs.CertificateException;
 import gov.hhs.onc.dcdt.crypto.certs.CertificateInfo;
+import gov.hhs.onc.dcdt.crypto.certs.CertificateType;
 import gov.hhs.onc.dcdt.crypto.certs.SignatureAlgorithm;
 import gov.hhs.onc.dcdt.crypto.certs.impl.CertificateInfoImpl;
 import gov.hhs.onc.dcdt.crypto.certs.impl.CertificateSerialNumberImpl;
 import gov.hhs.onc.dcdt.crypto.credentials.CredentialInfo;
 import gov.hhs.onc.dcdt.crypto.utils.CertificateUtils;
+import gov.hhs.onc.dcdt.crypto.utils.CertificateUtils.ToolCertificateCache;
 import gov.hhs.onc.dcdt.crypto.utils.CryptographyUtils;
 import gov.hhs.onc.dcdt.crypto.utils.DigestUtils;
 import gov.hhs.onc.dcdt.mail.MailContentTransferEncoding;
@@ -23,10 +26,12 @@ import gov.hhs.onc.dcdt.mail.impl.ToolMimeMessage;
 import gov.hhs.onc.dcdt.mail.utils.ToolMimePartUtils;
 import gov.hhs.onc.dcdt.utils.ToolClassUtils;
 import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.math.BigInteger;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.security.PrivateKey;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
@@ -34,16 +39,21 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeBodyPart;
 import javax.mail.internet.MimeMessage;
 import javax.mail.internet.MimeMultipart;
+import javax.mail.internet.MimePart;
 import javax.security.auth.x500.X500Principal;
 import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.output.NullOutputStream;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.bouncycastle.asn1.ASN1EncodableVector;
@@ -61,6 +71,7 @@ import org.bouncycastle.cms.CMSSignerDigestMismatchException;
 import org.bouncycastle.cms.KeyTransRecipientId;
 import org.bouncycastle.cms.KeyTransRecipientInformation;
 import org.bouncycastle.cms.RecipientInformation;
+import org.bouncycastle.cms.RecipientInformationStore;
 import org.bouncycastle.cms.SignerId;
 import org.bouncycastle.cms.SignerInformation;
 import org.bouncycastle.cms.SignerInformationVerifier;
@@ -71,12 +82,17 @@ import org.bouncycastle.cms.jcajce.JceKeyTransEnvelopedRecipient;
 import org.bouncycastle.cms.jcajce.JceKeyTransRecipientId;
 import org.bouncycastle.cms.jcajce.JceKeyTransRecipientInfoGenerator;
 import org.bouncycastle.mail.smime.SMIMEEnveloped;
+import org.bouncycastle.mail.smime.SMIMEEnvelopedParser;
 import org.bouncycastle.mail.smime.SMIMEEnvelopedGenerator;
 import org.bouncycastle.mail.smime.SMIMEException;
 import org.bouncycastle.mail.smime.SMIMESigned;
+import org.bouncycastle.mail.smime.SMIMESignedParser;
 import org.bouncycastle.mail.smime.SMIMESignedGenerator;
 import org.bouncycastle.mail.smime.SMIMEUtil;
+import org.bouncycastle.mail.smime.util.FileBackedMimeBodyPart;
+import org.bouncycastle.operator.DigestCalculatorProvider;
 import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
 import org.bouncycastle.util.Arrays;
 import org.bouncycastle.util.Selector;
 import org.bouncycastle.util.Store;
@@ -95,27 +111,65 @@ import org.springframework.util.MimeType;
  * A summary is available here: <a href="http://en.wikipedia.org/wiki/S/MIME">S/MIME</a>
  */
 public abstract class ToolSmimeUtils {
+    @FunctionalInterface
+    private interface SmimeBuilder<T, U> {
+        public T build(U part) throws CMSException, IOException, MessagingException, SMIMEException;
+    }
+
+    public final static int SIGNER_INFO_VERIFIER_CACHE_SIZE_MAX = 100;
+
+    public final static ToolCertificateCache<SignerInformationVerifier> SIGNER_INFO_VERIFIER_CACHE = new ToolCertificateCache<>(
+        SIGNER_INFO_VERIFIER_CACHE_SIZE_MAX);
+
+    public final static String SPILL_FILE_NAME_PREFIX = "dcdt-smime-";
+    public final static String SPILL_FILE_NAME_SUFFIX = ".mime";
+
+    private final static JcaSimpleSignerInfoVerifierBuilder SIGNER_INFO_VERIFIER_BUILDER = new JcaSimpleSignerInfoVerifierBuilder()
+        .setProvider(CryptographyUtils.PROVIDER);
+
+    @SuppressWarnings({ "unchecked" })
+    public static Map<SignerId, CertificateInfo> verifySignatures(SMIMESignedParser signedParser) throws MessagingException {
+        try {
+            return verifySignatures(((Store<X509CertificateHolder>) signedParser.getCertificates()), mapSigners(signedParser.getSignerInfos().getSigners()),
+                signedParser.getContent());
+        } catch (CMSException e) {
+            throw new ToolSmimeException("Unable to verify mail signed data parser signers.", e);
+        }
+    }
+
     @SuppressWarnings({ "unchecked" })
     public static Map<SignerId, CertificateInfo> verifySignatures(SMIMESigned signed) throws MessagingException {
-        Store<X509CertificateHolder> signedCerts = (Store<X509CertificateHolder>) signed.getCertificates();
-        JcaSimpleSignerInfoVerifierBuilder signerInfoVerifierBuilder = new JcaSimpleSignerInfoVerifierBuilder().setProvider(CryptographyUtils.PROVIDER);
-        Map<SignerId, SignerInformation> signerInfoMap = mapSigners(signed);
+        return verifySignatures(((Store<X509CertificateHolder>) signed.getCertificates()), mapSigners(signed), signed.getContent());
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    private static Map<SignerId, CertificateInfo> verifySignatures(Store<X509CertificateHolder> signedCerts, Map<SignerId, SignerInformation> signerInfoMap,
+        MimeBodyPart signedContent) throws MessagingException {
         Map<SignerId, CertificateInfo> signerCertMap = new LinkedHashMap<>(signerInfoMap.size());
-        SignerInformation signerInfo = null;
+        Map<String, byte[]> calculatedDigests = new HashMap<>(1);
+        SignerInformation signerInfo;
+        byte[] certData;
 
         for (SignerId signerId : signerInfoMap.keySet()) {
+            signerInfo = signerInfoMap.get(signerId);
+
             // noinspection RedundantCast
             for (X509CertificateHolder certHolder : signedCerts.getMatches(((Selector<X509CertificateHolder>) signerId))) {
                 try {
-                    try {
-                        SignerInformationVerifier verifier = signerInfoVerifierBuilder.build(certHolder);
-                        signerInfo = signerInfoMap.get(signerId);
+                    certData = certHolder.getEncoded();
 
-                        if (signerInfo.verify(verifier)) {
-                            signerCertMap.put(signerId, new CertificateInfoImpl(CertificateUtils.CERT_CONV.getCertificate(certHolder)));
+                    try {
+                        if (signerInfo.verify(getSignerInfoVerifier(signerInfo, certHolder, certData))) {
+                            signerCertMap.put(signerId, CertificateUtils.readCertificateInfo(certData, CertificateType.X509, DataEncoding.DER));
                         }
                     } catch (CMSSignerDigestMismatchException e) {
-                        byte[] calculatedDigest = getMessageDigest(signed, signerInfo, signerId, certHolder);
+                        String digestAlgOid = signerInfo.getDigestAlgOID();
+                        byte[] calculatedDigest = calculatedDigests.get(digestAlgOid);
+
+                        if (calculatedDigest == null) {
+                            calculatedDigests.put(digestAlgOid, (calculatedDigest = getMessageDigest(signedContent, signerInfo, signerId, certHolder)));
+                        }
+
                         // noinspection ConstantConditions
                         byte[] expectedDigest =
                             ASN1OctetString.getInstance(signerInfo.getSignedAttributes().get(CMSAttributes.messageDigest).getAttrValues().getObjectAt(0))
@@ -125,10 +179,10 @@ public abstract class ToolSmimeUtils {
                             throw new ToolSmimeException(String.format("Expected message digest value: %s does not match the calculated message digest: %s",
                                 Hex.encodeHexString(expectedDigest), Hex.encodeHexString(calculatedDigest)), e);
                         } else {
-                            signerCertMap.put(signerId, new CertificateInfoImpl(CertificateUtils.CERT_CONV.getCertificate(certHolder)));
+                            signerCertMap.put(signerId, CertificateUtils.readCertificateInfo(certData, CertificateType.X509, DataEncoding.DER));
                         }
                     }
-                } catch (CertificateException | java.security.cert.CertificateException | CMSException | OperatorCreationException e) {
+                } catch (CryptographyException | CMSException | IOException | OperatorCreationException e) {
                     throw new ToolSmimeException(String.format(
                         "Unable to verify mail signed data signer (id={issuer=%s, serialNum=%s}) certificate (subj={%s}).", signerId.getIssuer(),
                         new CertificateSerialNumberImpl(signerId.getSerialNumber()), certHolder.getSubject()), e);
@@ -144,33 +198,41 @@ public abstract class ToolSmimeUtils {
         return signerCertMap;
     }
 
-    @SuppressWarnings({ "unchecked" })
     public static byte[] getMessageDigest(SMIMESigned signed, SignerInformation signerInfo, SignerId signerId, X509CertificateHolder certHolder)
         throws ToolSmimeException {
-        try (ByteArrayOutputStream byteArrayOutStream = new ByteArrayOutputStream(); LineOutputStream lineOutStream = new LineOutputStream(byteArrayOutStream)) {
-            MimeBodyPart mp = signed.getContent();
-            Enumeration<String> headers = mp.getAllHeaderLines();
-
-            while (headers.hasMoreElements()) {
-                String header = headers.nextElement();
-                header = header.substring(0, header.indexOf(ToolMimePartUtils.DELIM_HEADER) + 1) + header.substring(header.indexOf(StringUtils.SPACE) + 1);
-                lineOutStream.writeln(header);
-            }
+        return getMessageDigest(signed.getContent(), signerInfo, signerId, certHolder);
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    private static byte[] getMessageDigest(MimeBodyPart signedContent, SignerInformation signerInfo, SignerId signerId, X509CertificateHolder certHolder)
+        throws ToolSmimeException {
+        try {
+            // noinspection ConstantConditions
+            MessageDigest msgDigest =
+                DigestUtils.getMessageDigest(CryptographyUtils.findByOid(DigestAlgorithm.class, new ASN1ObjectIdentifier(signerInfo.getDigestAlgOID()))
+                    .getId());
+
+            try (LineOutputStream lineOutStream = new LineOutputStream(new DigestOutputStream(NullOutputStream.NULL_OUTPUT_STREAM, msgDigest))) {
+                Enumeration<String> headers = signedContent.getAllHeaderLines();
+
+                while (headers.hasMoreElements()) {
+                    String header = headers.nextElement();
+                    header = header.substring(0, header.indexOf(ToolMimePartUtils.DELIM_HEADER) + 1) + header.substring(header.indexOf(StringUtils.SPACE) + 1);
+                    lineOutStream.writeln(header);
+                }
 
-            lineOutStream.writeln();
+                lineOutStream.writeln();
 
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(mp.getInputStream()))) {
-                String line;
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(signedContent.getInputStream()))) {
+                    String line;
 
-                while ((line = reader.readLine()) != null) {
-                    lineOutStream.writeln(line);
+                    while ((line = reader.readLine()) != null) {
+                        lineOutStream.writeln(line);
+                    }
                 }
             }
 
-            byteArrayOutStream.flush();
-
-            return DigestUtils.digest(CryptographyUtils.findByOid(DigestAlgorithm.class, new ASN1ObjectIdentifier(signerInfo.getDigestAlgOID())),
-                byteArrayOutStream.toByteArray());
+            return msgDigest.digest();
         } catch (CryptographyException | IOException | MessagingException e) {
             throw new ToolSmimeException(String.format(
                 "Unable to calculate message digest for MIME message with signer (id={issuer=%s, serialNum=%s}) certificate (subj={%s}).",
@@ -178,9 +240,20 @@ public abstract class ToolSmimeUtils {
         }
     }
 
+    private static SignerInformationVerifier getSignerInfoVerifier(SignerInformation signerInfo, X509CertificateHolder certHolder, byte[] certData)
+        throws CryptographyException, OperatorCreationException {
+        String verifierCacheKey = (signerInfo.getEncryptionAlgOID() + ":" + Hex.encodeHexString(DigestUtils.digest(DigestAlgorithm.SHA256, certData)));
+        SignerInformationVerifier verifier = SIGNER_INFO_VERIFIER_CACHE.get(verifierCacheKey);
+
+        return ((verifier != null) ? verifier : SIGNER_INFO_VERIFIER_CACHE.put(verifierCacheKey, SIGNER_INFO_VERIFIER_BUILDER.build(certHolder)));
+    }
+
     @SuppressWarnings({ "unchecked" })
     public static Map<SignerId, SignerInformation> mapSigners(SMIMESigned signed) throws MessagingException {
-        Collection<SignerInformation> signerInfos = signed.getSignerInfos().getSigners();
+        return mapSigners(signed.getSignerInfos().getSigners());
+    }
+
+    private static Map<SignerId, SignerInformation> mapSigners(Collection<SignerInformation> signerInfos) {
         Map<SignerId, SignerInformation> signerInfoMap = new LinkedHashMap<>(signerInfos.size());
 
         for (SignerInformation signerInfo : signerInfos) {
@@ -190,7 +263,27 @@ public abstract class ToolSmimeUtils {
         return signerInfoMap;
     }
 
+    public static SMIMESignedParser getSignedParser(MailInfo mailInfo, MimeBodyPart bodyPart, File spillDir) throws MessagingException {
+        DigestCalculatorProvider digestCalcProv;
+
+        try {
+            digestCalcProv = new JcaDigestCalculatorProviderBuilder().setProvider(CryptographyUtils.PROVIDER).build();
+        } catch (OperatorCreationException e) {
+            throw new ToolSmimeException(String.format("Unable to build digest calculator provider for mail MIME message (id=%s, from=%s, to=%s).",
+                mailInfo.getMessageId(), mailInfo.getFrom(), mailInfo.getTo()), e);
+        }
+
+        return getSigned(mailInfo, bodyPart,
+            (bodyMultipart -> buildWithSpillFile(spillDir, (spillFile -> new SMIMESignedParser(digestCalcProv, bodyMultipart, spillFile)))),
+            (signedBodyPart -> buildWithSpillFile(spillDir, (spillFile -> new SMIMESignedParser(digestCalcProv, signedBodyPart, spillFile)))));
+    }
+
     public static SMIMESigned getSigned(MailInfo mailInfo, MimeBodyPart bodyPart) throws MessagingException {
+        return getSigned(mailInfo, bodyPart, SMIMESigned::new, SMIMESigned::new);
+    }
+
+    private static <T> T getSigned(MailInfo mailInfo, MimeBodyPart bodyPart, SmimeBuilder<T, MimeMultipart> multipartSignedBuilder,
+        SmimeBuilder<T, MimeBodyPart> signedDataBuilder) throws MessagingException {
         try {
             MimeType bodyPartContentType = ToolMimePartUtils.getContentType(bodyPart);
 
@@ -204,7 +297,7 @@ public abstract class ToolSmimeUtils {
                             bodyPartContentType.getParameter(MailContentTypes.MICALG_PARAM_NAME)));
             }
 
-            SMIMESigned signed;
+            T signed;
 
             if (ToolSmimeContentTypeUtils.isMultipartSigned(bodyPartContentType)) {
                 MimeMultipart bodyMultipart = ((MimeMultipart) bodyPart.getContent());
@@ -216,15 +309,15 @@ public abstract class ToolSmimeUtils {
                         mailInfo.getMessageId(), mailInfo.getFrom(), mailInfo.getTo(), sigPartContentType));
                 }
 
-                signed = new SMIMESigned(bodyMultipart);
+                signed = multipartSignedBuilder.build(bodyMultipart);
             } else if (ToolSmimeContentTypeUtils.isSignedData(bodyPartContentType)) {
-                signed = new SMIMESigned(bodyPart);
-
                 if (ToolMimePartUtils.getContentTransferEncoding(bodyPart) != MailContentTransferEncoding.BASE64) {
                     throw new ToolSmimeException(String.format(
                         "Mail MIME message (id=%s, from=%s, to=%s) signed data content (type=%s) transfer encoding is not base64: %s", mailInfo.getMessageId(),
                         mailInfo.getFrom(), mailInfo.getTo(), bodyPartContentType, bodyPart.getEncoding()));
                 }
+
+                signed = signedDataBuilder.build(bodyPart);
             } else {
                 throw new ToolSmimeException(String.format(
                     "Decrypted mail MIME message (id=%s, from=%s, to=%s) body part content (type=%s) is not signed data.", mailInfo.getMessageId(),
@@ -241,6 +334,25 @@ public abstract class ToolSmimeUtils {
         }
     }
 
+    @Nullable
+    public static FileBackedMimeBodyPart decrypt(MailInfo mailInfo, SMIMEEnvelopedParser envelopedParser, PrivateKey privateKey, X509Certificate cert,
+        File spillDir) throws MessagingException {
+        KeyTransRecipientInformation recipientInfo =
+            mapRecipients(mailInfo, envelopedParser).get(new JceKeyTransRecipientId(cert.getIssuerX500Principal(), cert.getSerialNumber()));
+
+        if (recipientInfo == null) {
+            return null;
+        }
+
+        try {
+            return buildWithSpillFile(spillDir, (spillFile -> SMIMEUtil.toMimeBodyPart(
+                recipientInfo.getContentStream(new JceKeyTransEnvelopedRecipient(privateKey).setProvider(CryptographyUtils.PROVIDER)), spillFile)));
+        } catch (CMSException | IOException | SMIMEException e) {
+            throw new ToolSmimeException(String.format("Unable to decrypt mail MIME message (id=%s, from=%s, to=%s) enveloped content (type=%s).",
+                mailInfo.getMessageId(), mailInfo.getFrom(), mailInfo.getTo(), ToolMimePartUtils.getContentType(envelopedParser.getEncryptedContent())), e);
+        }
+    }
+
     @Nullable
     public static MimeBodyPart decrypt(MailInfo mailInfo, SMIMEEnveloped enveloped, PrivateKey privateKey, X509Certificate cert) throws MessagingException {
         Map<KeyTransRecipientId, KeyTransRecipientInformation> recipientInfoMap = mapRecipients(mailInfo, enveloped);
@@ -259,9 +371,19 @@ public abstract class ToolSmimeUtils {
         }
     }
 
-    @SuppressWarnings({ "unchecked" })
+    public static Map<KeyTransRecipientId, KeyTransRecipientInformation> mapRecipients(MailInfo mailInfo, SMIMEEnvelopedParser envelopedParser)
+        throws MessagingException {
+        return mapRecipients(mailInfo, envelopedParser.getRecipientInfos(), envelopedParser.getEncryptedContent());
+    }
+
     public static Map<KeyTransRecipientId, KeyTransRecipientInformation> mapRecipients(MailInfo mailInfo, SMIMEEnveloped enveloped) throws MessagingException {
-        Collection<RecipientInformation> recipientInfos = enveloped.getRecipientInfos().getRecipients();
+        return mapRecipients(mailInfo, enveloped.getRecipientInfos(), enveloped.getEncryptedContent());
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    private static Map<KeyTransRecipientId, KeyTransRecipientInformation> mapRecipients(MailInfo mailInfo, RecipientInformationStore recipientInfoStore,
+        MimePart encryptedContent) throws MessagingException {
+        Collection<RecipientInformation> recipientInfos = recipientInfoStore.getRecipients();
         Map<KeyTransRecipientId, KeyTransRecipientInformation> recipientInfoMap = new LinkedHashMap<>(recipientInfos.size());
         KeyTransRecipientId recipientId;
         X500Name recipientIssuer;
@@ -277,15 +399,24 @@ public abstract class ToolSmimeUtils {
             } catch (IOException e) {
                 throw new ToolSmimeException(String.format(
                     "Unable to map mail MIME message (id=%s, from=%s, to=%s) enveloped content (type=%s) recipient (issuer={%s}, serialNum=%s).",
-                    mailInfo.getMessageId(), mailInfo.getFrom(), mailInfo.getTo(), ToolMimePartUtils.getContentType(enveloped.getEncryptedContent()),
-                    recipientIssuer, new CertificateSerialNumberImpl(recipientSerialNum)), e);
+                    mailInfo.getMessageId(), mailInfo.getFrom(), mailInfo.getTo(), ToolMimePartUtils.getContentType(encryptedContent), recipientIssuer,
+                    new CertificateSerialNumberImpl(recipientSerialNum)), e);
             }
         }
 
         return recipientInfoMap;
     }
 
+    public static SMIMEEnvelopedParser getEnvelopedParser(MailInfo mailInfo) throws MessagingException {
+        return getEnveloped(mailInfo, SMIMEEnvelopedParser::new, SMIMEEnvelopedParser::getEncryptionAlgOID);
+    }
+
     public static SMIMEEnveloped getEnveloped(MailInfo mailInfo) throws MessagingException {
+        return getEnveloped(mailInfo, SMIMEEnveloped::new, SMIMEEnveloped::getEncryptionAlgOID);
+    }
+
+    private static <T> T getEnveloped(MailInfo mailInfo, SmimeBuilder<T, MimeMessage> envelopedBuilder, Function<T, String> encAlgOidResolver)
+        throws MessagingException {
         MimeMessage msg = mailInfo.getMessage();
 
         try {
@@ -296,8 +427,8 @@ public abstract class ToolSmimeUtils {
                     mailInfo.getMessageId(), mailInfo.getFrom(), mailInfo.getTo(), msgContentType));
             }
 
-            SMIMEEnveloped enveloped = new SMIMEEnveloped(msg);
-            ASN1ObjectIdentifier encAlgOid = new ASN1ObjectIdentifier(enveloped.getEncryptionAlgOID());
+            T enveloped = envelopedBuilder.build(msg);
+            ASN1ObjectIdentifier encAlgOid = new ASN1ObjectIdentifier(encAlgOidResolver.apply(enveloped));
 
             if (CryptographyUtils.findByOid(EncryptionAlgorithm.class, encAlgOid) == null) {
                 throw new ToolSmimeException(String.format(
@@ -314,12 +445,31 @@ public abstract class ToolSmimeUtils {
             return enveloped;
         } catch (ToolSmimeException e) {
             throw e;
-        } catch (CMSException | MessagingException e) {
+        } catch (CMSException | IOException | MessagingException | SMIMEException e) {
             throw new ToolSmimeException(String.format("Unable to get enveloped data wrapper for mail MIME message (id=%s, from=%s, to=%s) content (type=%s).",
                 mailInfo.getMessageId(), mailInfo.getFrom(), mailInfo.getTo(), mailInfo.getContentType()), e);
         }
     }
 
+    public static void dispose(@Nullable MimeBodyPart bodyPart) throws IOException {
+        if (bodyPart instanceof FileBackedMimeBodyPart) {
+            ((FileBackedMimeBodyPart) bodyPart).dispose();
+        }
+    }
+
+    private static <T> T buildWithSpillFile(File spillDir, SmimeBuilder<T, File> spillFileBuilder) throws CMSException, IOException, MessagingException,
+        SMIMEException {
+        File spillFile = File.createTempFile(SPILL_FILE_NAME_PREFIX, SPILL_FILE_NAME_SUFFIX, spillDir);
+
+        try {
+            return spillFileBuilder.build(spillFile);
+        } catch (CMSException | IOException | MessagingException | SMIMEException | RuntimeException e) {
+            FileUtils.deleteQuietly(spillFile);
+
+            throw e;
+        }
+    }
+
     public static MimeBodyPart encrypt(MimeBodyPart unencryptedBodyPart, X509Certificate cert, EncryptionAlgorithm encryptionAlg) throws MessagingException {
         MimeType bodyPartContentType = ToolMimePartUtils.getContentType(unencryptedBodyPart);
 
@@ -1,42 +1,96 @@
 package gov.hhs.onc.dcdt.mail.impl;
 
 import gov.hhs.onc.dcdt.discovery.BindingType;
+import gov.hhs.onc.dcdt.dns.DnsResultType;
 import gov.hhs.onc.dcdt.dns.lookup.DnsLookupResult;
 import gov.hhs.onc.dcdt.dns.lookup.DnsLookupService;
 import gov.hhs.onc.dcdt.mail.HasMxRecord;
 import gov.hhs.onc.dcdt.mail.MailAddress;
 import gov.hhs.onc.dcdt.mail.ToolMailAddressException;
+import gov.hhs.onc.dcdt.utils.ToolDateUtils;
 import gov.hhs.onc.dcdt.validation.constraints.impl.AbstractToolStringConstraintValidator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
 import javax.annotation.Resource;
 import javax.validation.ConstraintValidatorContext;
+import org.apache.commons.collections4.map.LRUMap;
+import org.springframework.beans.factory.annotation.Value;
 import org.xbill.DNS.ARecord;
 import org.xbill.DNS.MXRecord;
+import org.xbill.DNS.Name;
+import org.xbill.DNS.Record;
 
 public class HasMxRecordConstraintValidator extends AbstractToolStringConstraintValidator<HasMxRecord> {
+    static enum MxRecordCheckResultType {
+        VALID, NO_RECORDS, NO_TARGETS
+    }
+
+    private static class MxRecordCheckResult {
+        private MxRecordCheckResultType type;
+        private long ttl;
+        private long expiryTime;
+
+        public MxRecordCheckResult(MxRecordCheckResultType type, long ttl) {
+            this.type = type;
+            this.ttl = ttl;
+            this.expiryTime = (System.currentTimeMillis() + (ttl * ToolDateUtils.MS_IN_SEC));
+        }
+
+        public boolean isCacheable() {
+            return (this.ttl > RESULT_CACHE_TTL_NONE);
+        }
+
+        public boolean isExpired() {
+            return (System.currentTimeMillis() >= this.expiryTime);
+        }
+
+        public MxRecordCheckResultType getType() {
+            return this.type;
+        }
+    }
+
+    public final static int RESULT_CACHE_SIZE_MAX = 1000;
+    public final static long RESULT_CACHE_TTL_MAX = ToolDateUtils.SEC_IN_HOUR;
+    public final static long RESULT_CACHE_TTL_NEGATIVE_MAX = ToolDateUtils.SEC_IN_MIN;
+    public final static long RESULT_CACHE_TTL_NONE = 0L;
+
+    private final static Map<Name, MxRecordCheckResult> RESULT_CACHE = Collections.synchronizedMap(new LRUMap<>(RESULT_CACHE_SIZE_MAX));
+
     @Resource(name = "dnsLookupServiceExternal")
     @SuppressWarnings({ "SpringJavaAutowiringInspection" })
     private DnsLookupService dnsLookupService;
 
+    @Value("${dcdt.dns.service.lookup.resolver.timeout}")
+    private long lookupTimeout;
+
+    public HasMxRecordConstraintValidator() {
+    }
+
+    HasMxRecordConstraintValidator(DnsLookupService dnsLookupService, long lookupTimeout) {
+        this.dnsLookupService = dnsLookupService;
+        this.lookupTimeout = lookupTimeout;
+    }
+
     @Override
     protected boolean isValidInternal(String value, ConstraintValidatorContext validatorContext) throws Exception {
         MailAddress mailAddr = new MailAddressImpl(value);
 
         try {
-            DnsLookupResult<MXRecord> mxRecordLookupResult = this.dnsLookupService.lookupMxRecords(mailAddr.toAddressName(BindingType.DOMAIN));
-
-            if (mxRecordLookupResult.getType().isSuccess() && mxRecordLookupResult.hasOrderedAnswers()) {
-                DnsLookupResult<ARecord> targetARecordLookupResult;
+            switch (this.findMxRecordCheckResultType(mailAddr.toAddressName(BindingType.DOMAIN))) {
+                case VALID:
+                    return true;
 
-                // noinspection ConstantConditions
-                for (MXRecord mxRecord : mxRecordLookupResult.getOrderedAnswers()) {
-                    if ((targetARecordLookupResult = this.dnsLookupService.lookupARecords(mxRecord.getTarget())).getType().isSuccess()
-                        && targetARecordLookupResult.hasAnswers()) {
-                        return true;
-                    }
-                }
-
-                validatorContext.disableDefaultConstraintViolation();
-                validatorContext.buildConstraintViolationWithTemplate(this.anno.messageLookupTargets()).addConstraintViolation();
+                case NO_TARGETS:
+                    validatorContext.disableDefaultConstraintViolation();
+                    validatorContext.buildConstraintViolationWithTemplate(this.anno.messageLookupTargets()).addConstraintViolation();
+                    break;
             }
         } catch (ToolMailAddressException e) {
             validatorContext.disableDefaultConstraintViolation();
@@ -45,4 +99,103 @@ public class HasMxRecordConstraintValidator extends AbstractToolStringConstraint
 
         return false;
     }
+
+    MxRecordCheckResultType findMxRecordCheckResultType(Name domainName) throws Exception {
+        MxRecordCheckResult result = RESULT_CACHE.get(domainName);
+
+        if ((result == null) || result.isExpired()) {
+            if ((result = this.checkMxRecords(domainName)).isCacheable()) {
+                RESULT_CACHE.put(domainName, result);
+            } else {
+                RESULT_CACHE.remove(domainName);
+            }
+        }
+
+        return result.getType();
+    }
+
+    private MxRecordCheckResult checkMxRecords(Name domainName) throws Exception {
+        DnsLookupResult<MXRecord> mxRecordLookupResult = this.dnsLookupService.lookupMxRecords(domainName);
+
+        if (!mxRecordLookupResult.getType().isSuccess() || !mxRecordLookupResult.hasOrderedAnswers()) {
+            return new MxRecordCheckResult(MxRecordCheckResultType.NO_RECORDS, (isAuthoritative(mxRecordLookupResult) ? RESULT_CACHE_TTL_NEGATIVE_MAX
+                : RESULT_CACHE_TTL_NONE));
+        }
+
+        // noinspection ConstantConditions
+        List<MXRecord> mxRecords = mxRecordLookupResult.getOrderedAnswers();
+        long mxRecordsTtl = findMinimumTtl(mxRecords, RESULT_CACHE_TTL_MAX);
+        DnsLookupResult<ARecord> targetARecordLookupResult;
+
+        if (mxRecords.size() == 1) {
+            if (isTargetResolved((targetARecordLookupResult = this.dnsLookupService.lookupARecords(mxRecords.get(0).getTarget())))) {
+                // noinspection ConstantConditions
+                return new MxRecordCheckResult(MxRecordCheckResultType.VALID, findMinimumTtl(targetARecordLookupResult.getAnswers(), mxRecordsTtl));
+            }
+
+            return new MxRecordCheckResult(MxRecordCheckResultType.NO_TARGETS, (isAuthoritative(targetARecordLookupResult) ? Math.min(mxRecordsTtl,
+                RESULT_CACHE_TTL_NEGATIVE_MAX) : RESULT_CACHE_TTL_NONE));
+        }
+
+        CompletableFuture<DnsLookupResult<ARecord>> targetARecordLookupFuture = new CompletableFuture<>();
+        List<CompletableFuture<DnsLookupResult<ARecord>>> targetARecordLookupFutures = new ArrayList<>(mxRecords.size());
+        AtomicBoolean targetARecordLookupsAuthoritative = new AtomicBoolean(true);
+
+        for (MXRecord mxRecord : mxRecords) {
+            targetARecordLookupFutures.add(this.dnsLookupService.lookupARecordsAsync(mxRecord.getTarget()).thenApply(targetARecordLookupFutureResult -> {
+                if (isTargetResolved(targetARecordLookupFutureResult)) {
+                    targetARecordLookupFuture.complete(targetARecordLookupFutureResult);
+                } else if (!isAuthoritative(targetARecordLookupFutureResult)) {
+                    targetARecordLookupsAuthoritative.set(false);
+                }
+
+                return targetARecordLookupFutureResult;
+            }));
+        }
+
+        CompletableFuture.allOf(targetARecordLookupFutures.toArray(new CompletableFuture<?>[targetARecordLookupFutures.size()])).whenComplete(
+            (targetARecordLookupResults, targetARecordLookupException) -> {
+                if (targetARecordLookupException != null) {
+                    targetARecordLookupsAuthoritative.set(false);
+                }
+
+                targetARecordLookupFuture.complete(null);
+            });
+
+        try {
+            targetARecordLookupResult = targetARecordLookupFuture.get(this.lookupTimeout, TimeUnit.SECONDS);
+        } catch (TimeoutException ignored) {
+            return new MxRecordCheckResult(MxRecordCheckResultType.NO_TARGETS, RESULT_CACHE_TTL_NONE);
+        }
+
+        if (targetARecordLookupResult != null) {
+            // noinspection ConstantConditions
+            return new MxRecordCheckResult(MxRecordCheckResultType.VALID, findMinimumTtl(targetARecordLookupResult.getAnswers(), mxRecordsTtl));
+        }
+
+        return new MxRecordCheckResult(MxRecordCheckResultType.NO_TARGETS, (targetARecordLookupsAuthoritative.get() ? Math.min(mxRecordsTtl,
+            RESULT_CACHE_TTL_NEGATIVE_MAX) : RESULT_CACHE_TTL_NONE));
+    }
+
+    private static boolean isAuthoritative(@Nullable DnsLookupResult<?> lookupResult) {
+        if (lookupResult == null) {
+            return false;
+        }
+
+        DnsResultType lookupResultType = lookupResult.getType();
+
+        return (lookupResultType.isSuccess() || (lookupResultType == DnsResultType.HOST_NOT_FOUND) || (lookupResultType == DnsResultType.TYPE_NOT_FOUND));
+    }
+
+    private static boolean isTargetResolved(@Nullable DnsLookupResult<ARecord> targetARecordLookupResult) {
+        return ((targetARecordLookupResult != null) && targetARecordLookupResult.getType().isSuccess() && targetARecordLookupResult.hasAnswers());
+    }
+
+    private static long findMinimumTtl(Iterable<? extends Record> records, long ttl) {
+        for (Record record : records) {
+            ttl = Math.min(ttl, record.getTTL());
+        }
+
+        return ttl;
+    }
 }
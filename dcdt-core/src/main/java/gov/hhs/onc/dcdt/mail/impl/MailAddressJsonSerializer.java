@@ -0,0 +1,19 @@
+package gov.hhs.onc.dcdt.mail.impl;
+
+import gov.hhs.onc.dcdt.json.impl.AbstractStringJsonSerializer;
+import gov.hhs.onc.dcdt.mail.MailAddress;
+import javax.annotation.Nullable;
+
+public class MailAddressJsonSerializer extends AbstractStringJsonSerializer<MailAddress> {
+    private final static long serialVersionUID = 0L;
+
+    public MailAddressJsonSerializer() {
+        super(MailAddress.class);
+    }
+
+    @Nullable
+    @Override
+    protected String serializeString(MailAddress src) {
+        return src.toAddress();
+    }
+}
@@ -1,6 +1,7 @@
 package gov.hhs.onc.dcdt.mail.impl;
 
 import com.github.sebhoss.warnings.CompilerWarnings;
+import gov.hhs.onc.dcdt.ToolRuntimeException;
 import gov.hhs.onc.dcdt.beans.impl.AbstractToolDescriptorBean;
 import gov.hhs.onc.dcdt.mail.MailAddress;
 import gov.hhs.onc.dcdt.mail.MailContentTransferEncoding;
@@ -13,9 +14,11 @@ import gov.hhs.onc.dcdt.mail.ToolMailException;
 import gov.hhs.onc.dcdt.mail.utils.ToolMimePartUtils;
 import gov.hhs.onc.dcdt.net.mime.utils.ToolMimeTypeUtils;
 import gov.hhs.onc.dcdt.utils.ToolArrayUtils;
+import gov.hhs.onc.dcdt.utils.ToolDateUtils;
 import gov.hhs.onc.dcdt.utils.ToolStringUtils;
-import java.text.ParseException;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -27,7 +30,6 @@ import javax.mail.Message.RecipientType;
 import javax.mail.MessagingException;
 import javax.mail.Session;
 import javax.mail.internet.InternetAddress;
-import javax.mail.internet.MailDateFormat;
 import javax.mail.internet.MimeBodyPart;
 import javax.mail.internet.MimeMultipart;
 import javax.mail.internet.MimePart;
@@ -96,23 +98,24 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
         }
     }
 
-    private final static MailDateFormat DATE_FORMAT = new MailDateFormat();
-
     private ToolMimeMessage msg;
     private MailEncoding enc;
     private ToolMimeMessageHelper msgHelper;
     private List<MimeAttachmentResource> attachments;
+    private boolean attachmentsParsed;
     private MailContentTransferEncoding contentXferEnc;
     private MimeType contentType;
     private MailAddress fromAddr;
     private String msgId;
     private Date origDate;
-    private Map<MailRecipientType, MailAddress[]> recipAddrs = new HashMap<>(MailRecipientType.values().length);
+    private Map<MailRecipientType, MailAddress[]> recipAddrs;
     private String refs;
     private MailAddress[] replyToAddrs;
+    private boolean replyToAddrsParsed;
     private Date sentDate;
     private String subj;
     private String text;
+    private boolean textParsed;
 
     public MailInfoImpl(Session session, MailEncoding enc) throws MessagingException {
         this(new ToolMimeMessage(session), enc, true);
@@ -127,7 +130,9 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
         this.enc = enc;
         this.msgHelper = new ToolMimeMessageHelper(buildMultiparts);
 
-        this.msg.saveChanges();
+        if (buildMultiparts || (this.msg.getMessageID() == null)) {
+            this.msg.saveChanges();
+        }
 
         this.parseMessage();
     }
@@ -135,17 +140,20 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
     @Override
     protected void reset() {
         this.attachments = null;
+        this.attachmentsParsed = false;
         this.contentXferEnc = null;
         this.contentType = null;
         this.fromAddr = null;
         this.msgId = null;
         this.origDate = null;
-        this.recipAddrs.clear();
+        this.recipAddrs = null;
         this.refs = null;
         this.replyToAddrs = null;
+        this.replyToAddrsParsed = false;
         this.sentDate = null;
         this.subj = null;
         this.text = null;
+        this.textParsed = false;
     }
 
     @Nullable
@@ -180,43 +188,64 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
 
         this.msgId = this.msg.getMessageID();
         this.fromAddr = ToolArrayUtils.getFirst(this.parseAddressHeader(MailHeaders.FROM_NAME));
-
-        MailAddress[] recipMsgAddrs;
-
-        for (MailRecipientType recipType : MailRecipientType.values()) {
-            if ((recipMsgAddrs = parseMessageAddresses(((InternetAddress[]) this.msg.getRecipients(recipType.getType())))) != null) {
-                this.recipAddrs.put(recipType, recipMsgAddrs);
-            }
-        }
-
         this.contentXferEnc = ToolMimePartUtils.getContentTransferEncoding(this.msg);
         this.contentType = ToolMimePartUtils.getContentType(this.msg);
         this.origDate = this.parseDateHeader(MailHeaders.ORIG_DATE_NAME);
         this.refs = this.msg.getHeader(MailHeaders.REFERENCES_NAME, null);
-        this.replyToAddrs = this.parseAddressHeader(MailHeaders.REPLY_TO_NAME);
         this.sentDate = this.parseDateHeader(MailHeaders.DATE_NAME);
         this.subj = this.msg.getSubject();
+    }
 
-        MimePart[] parts = null;
-
-        if (this.msgHelper.isMultipart()) {
-            List<MimeBodyPart> attachmentParts = ToolMimePartUtils.getAttachmentParts(this.msgHelper.getRootMimeMultipart());
-
-            if (!attachmentParts.isEmpty()) {
-                this.attachments = new ArrayList<>(attachmentParts.size());
+    private synchronized Map<MailRecipientType, MailAddress[]> parseRecipients() {
+        if (this.recipAddrs == null) {
+            Map<MailRecipientType, MailAddress[]> recipAddrs = new HashMap<>(MailRecipientType.values().length);
+            MailAddress[] recipMsgAddrs;
 
-                for (MimeBodyPart attachmentPart : attachmentParts) {
-                    try {
-                        this.attachments.add(new MimeAttachmentResource(ToolMimePartUtils.write(attachmentPart), attachmentPart.getDescription(),
-                            ToolMimePartUtils.getContentTransferEncoding(attachmentPart), ToolMimePartUtils.getContentType(attachmentPart), attachmentPart
-                                .getFileName()));
-                    } catch (Exception e) {
-                        throw new ToolMailException(String.format("Unable to write mail MIME message (id=%s, from=%s, to=%s) attachment MIME body part.",
-                            this.msgId, this.fromAddr, this.getTo()), e);
+            try {
+                for (MailRecipientType recipType : MailRecipientType.values()) {
+                    if ((recipMsgAddrs = parseMessageAddresses(((InternetAddress[]) this.msg.getRecipients(recipType.getType())))) != null) {
+                        recipAddrs.put(recipType, recipMsgAddrs);
                     }
                 }
+            } catch (MessagingException e) {
+                throw new ToolRuntimeException(String.format("Unable to parse mail MIME message (id=%s, from=%s) recipient addresses.", this.msgId,
+                    this.fromAddr), e);
             }
 
+            this.recipAddrs = recipAddrs;
+        }
+
+        return this.recipAddrs;
+    }
+
+    @Nullable
+    private List<MimeAttachmentResource> parseAttachments() throws MessagingException {
+        List<MimeBodyPart> attachmentParts = this.getAttachmentParts();
+
+        if (attachmentParts.isEmpty()) {
+            return null;
+        }
+
+        List<MimeAttachmentResource> attachments = new ArrayList<>(attachmentParts.size());
+
+        for (MimeBodyPart attachmentPart : attachmentParts) {
+            try {
+                attachments.add(new MimeAttachmentResource(ToolMimePartUtils.write(attachmentPart), attachmentPart.getDescription(), ToolMimePartUtils
+                    .getContentTransferEncoding(attachmentPart), ToolMimePartUtils.getContentType(attachmentPart), attachmentPart.getFileName()));
+            } catch (Exception e) {
+                throw new ToolMailException(String.format("Unable to write mail MIME message (id=%s, from=%s, to=%s) attachment MIME body part.",
+                    this.msgId, this.fromAddr, ToolArrayUtils.getFirst(this.msg.getRecipients(RecipientType.TO))), e);
+            }
+        }
+
+        return attachments;
+    }
+
+    @Nullable
+    private String parseText() throws MessagingException {
+        MimePart[] parts = null;
+
+        if (this.msgHelper.isMultipart()) {
             MimeMultipart mainMultipart = this.msgHelper.getMimeMultipart();
 
             if (mainMultipart != null) {
@@ -226,21 +255,25 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
             parts = ArrayUtils.toArray(this.msg);
         }
 
-        if (!ArrayUtils.isEmpty(parts)) {
-            MimePart textPart = findPart(MimeTypeUtils.TEXT_HTML, parts);
+        if (ArrayUtils.isEmpty(parts)) {
+            return null;
+        }
 
-            if (textPart == null) {
-                textPart = findPart(MimeTypeUtils.TEXT_PLAIN, parts);
-            }
+        MimePart textPart = findPart(MimeTypeUtils.TEXT_HTML, parts);
 
-            if (textPart != null) {
-                try {
-                    this.text = Objects.toString(textPart.getContent(), null);
-                } catch (Exception e) {
-                    throw new ToolMailException(String.format("Unable to get mail MIME message (id=%s, from=%s, to=%s) text MIME part content.", this.msgId,
-                        this.fromAddr, this.getTo()), e);
-                }
-            }
+        if (textPart == null) {
+            textPart = findPart(MimeTypeUtils.TEXT_PLAIN, parts);
+        }
+
+        if (textPart == null) {
+            return null;
+        }
+
+        try {
+            return Objects.toString(textPart.getContent(), null);
+        } catch (Exception e) {
+            throw new ToolMailException(String.format("Unable to get mail MIME message (id=%s, from=%s, to=%s) text MIME part content.", this.msgId,
+                this.fromAddr, ToolArrayUtils.getFirst(this.msg.getRecipients(RecipientType.TO))), e);
         }
     }
 
@@ -249,9 +282,7 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
         if (date == null) {
             this.msg.removeHeader(headerName);
         } else {
-            synchronized (DATE_FORMAT) {
-                this.msg.setHeader(headerName, DATE_FORMAT.format(date));
-            }
+            this.msg.setHeader(headerName, ToolDateUtils.formatRfc5322Date(date));
         }
 
         return date;
@@ -277,10 +308,8 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
         }
 
         try {
-            synchronized (DATE_FORMAT) {
-                return DATE_FORMAT.parse(headerValue);
-            }
-        } catch (ParseException e) {
+            return ToolDateUtils.parseRfc5322Date(headerValue);
+        } catch (DateTimeParseException e) {
             throw new ToolMailException(String.format("Malformed mail MIME message (id=%s, from=%s, to=%s) date header (name=%s) value: %s", this.msgId,
                 this.fromAddr, this.getTo(), headerName, headerValue), e);
         }
@@ -313,18 +342,44 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
     }
 
     @Override
-    public boolean hasAttachments() {
-        return !CollectionUtils.isEmpty(this.attachments);
+    public synchronized boolean hasAttachments() {
+        if (this.attachmentsParsed) {
+            return !CollectionUtils.isEmpty(this.attachments);
+        }
+
+        try {
+            return !this.getAttachmentParts().isEmpty();
+        } catch (MessagingException e) {
+            throw new ToolRuntimeException(String.format("Unable to get mail MIME message (id=%s, from=%s) attachment MIME body parts.", this.msgId,
+                this.fromAddr), e);
+        }
+    }
+
+    @Override
+    public List<MimeBodyPart> getAttachmentParts() throws MessagingException {
+        return (this.msgHelper.isMultipart()
+            ? ToolMimePartUtils.getAttachmentParts(this.msgHelper.getRootMimeMultipart()) : Collections.<MimeBodyPart> emptyList());
     }
 
     @Nullable
     @Override
-    public List<MimeAttachmentResource> getAttachments() {
+    public synchronized List<MimeAttachmentResource> getAttachments() {
+        if (!this.attachmentsParsed) {
+            try {
+                this.attachments = this.parseAttachments();
+            } catch (MessagingException e) {
+                throw new ToolRuntimeException(String.format("Unable to parse mail MIME message (id=%s, from=%s) attachments.", this.msgId, this.fromAddr),
+                    e);
+            }
+
+            this.attachmentsParsed = true;
+        }
+
         return this.attachments;
     }
 
     @Override
-    public void setAttachments(@Nullable List<MimeAttachmentResource> attachments) throws MessagingException {
+    public synchronized void setAttachments(@Nullable List<MimeAttachmentResource> attachments) throws MessagingException {
         MimeMultipart rootMultipart = this.msgHelper.getRootMimeMultipart();
 
         for (MimeBodyPart attachmentPart : ToolMimePartUtils.getAttachmentParts(rootMultipart)) {
@@ -338,23 +393,35 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
         }
 
         this.attachments = attachments;
+        this.attachmentsParsed = true;
     }
 
     @Override
     public boolean hasText() {
-        return (this.text != null);
+        return (this.getText() != null);
     }
 
     @Nullable
     @Override
-    public String getText() {
+    public synchronized String getText() {
+        if (!this.textParsed) {
+            try {
+                this.text = this.parseText();
+            } catch (MessagingException e) {
+                throw new ToolRuntimeException(String.format("Unable to parse mail MIME message (id=%s, from=%s) text.", this.msgId, this.fromAddr), e);
+            }
+
+            this.textParsed = true;
+        }
+
         return this.text;
     }
 
     @Override
-    public void setText(String text) throws MessagingException {
+    public synchronized void setText(String text) throws MessagingException {
         this.msgHelper.setText(text, true);
         this.text = text;
+        this.textParsed = true;
     }
 
     @Override
@@ -457,19 +524,31 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
 
     @Override
     public boolean hasReplyTo() {
-        return !ArrayUtils.isEmpty(this.replyToAddrs);
+        return !ArrayUtils.isEmpty(this.getReplyTo());
     }
 
     @Nullable
     @Override
-    public MailAddress[] getReplyTo() {
+    public synchronized MailAddress[] getReplyTo() {
+        if (!this.replyToAddrsParsed) {
+            try {
+                this.replyToAddrs = this.parseAddressHeader(MailHeaders.REPLY_TO_NAME);
+            } catch (MessagingException e) {
+                throw new ToolRuntimeException(String.format("Unable to parse mail MIME message (id=%s, from=%s) reply-to addresses.", this.msgId,
+                    this.fromAddr), e);
+            }
+
+            this.replyToAddrsParsed = true;
+        }
+
         return this.replyToAddrs;
     }
 
     @Override
-    public void setReplyTo(@Nullable MailAddress ... replyToAddrs) throws MessagingException {
+    public synchronized void setReplyTo(@Nullable MailAddress ... replyToAddrs) throws MessagingException {
         this.msg.setReplyTo(this.buildMessageAddresses(replyToAddrs));
         this.replyToAddrs = replyToAddrs;
+        this.replyToAddrsParsed = true;
     }
 
     @Override
@@ -522,8 +601,8 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
     }
 
     @Override
-    public boolean hasRecipients() {
-        return !this.recipAddrs.isEmpty();
+    public synchronized boolean hasRecipients() {
+        return !this.parseRecipients().isEmpty();
     }
 
     @Override
@@ -532,7 +611,7 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
     }
 
     @Override
-    public Map<MailRecipientType, MailAddress[]> getRecipients() {
+    public synchronized Map<MailRecipientType, MailAddress[]> getRecipients() {
         MailRecipientType[] recipTypes = MailRecipientType.values();
         Map<MailRecipientType, MailAddress[]> recipAddrs = new HashMap<>(recipTypes.length);
         MailAddress[] recipMsgAddrs;
@@ -548,25 +627,27 @@ public class MailInfoImpl extends AbstractToolDescriptorBean implements MailInfo
 
     @Nullable
     @Override
-    public MailAddress[] getRecipients(MailRecipientType recipType) {
-        return this.recipAddrs.get(recipType);
+    public synchronized MailAddress[] getRecipients(MailRecipientType recipType) {
+        return this.parseRecipients().get(recipType);
     }
 
     @Override
-    public void setRecipients(Map<MailRecipientType, MailAddress[]> recipAddrs) throws MessagingException {
+    public synchronized void setRecipients(Map<MailRecipientType, MailAddress[]> recipAddrs) throws MessagingException {
         for (MailRecipientType recipType : MailRecipientType.values()) {
             this.setRecipients(recipType, recipAddrs.get(recipType));
         }
     }
 
     @Override
-    public void setRecipients(MailRecipientType recipType, @Nullable MailAddress ... recipAddrs) throws MessagingException {
+    public synchronized void setRecipients(MailRecipientType recipType, @Nullable MailAddress ... recipAddrs) throws MessagingException {
+        Map<MailRecipientType, MailAddress[]> parsedRecipAddrs = this.parseRecipients();
+
         this.msg.setRecipients(recipType.getType(), this.buildMessageAddresses(recipAddrs));
 
         if (ArrayUtils.isEmpty(recipAddrs)) {
-            this.recipAddrs.remove(recipType);
+            parsedRecipAddrs.remove(recipType);
         } else {
-            this.recipAddrs.put(recipType, recipAddrs);
+            parsedRecipAddrs.put(recipType, recipAddrs);
         }
     }
 }
@@ -4,17 +4,19 @@ import gov.hhs.onc.dcdt.mail.ToolMailException;
 import gov.hhs.onc.dcdt.mail.utils.ToolMimePartUtils;
 import gov.hhs.onc.dcdt.utils.ToolArrayUtils;
 import io.netty.util.CharsetUtil;
-import java.io.ByteArrayInputStream;
 import java.util.Objects;
+import javax.activation.DataHandler;
 import javax.annotation.Nullable;
 import javax.mail.Message;
 import javax.mail.MessagingException;
 import javax.mail.Session;
 import javax.mail.internet.MimeMessage;
+import javax.mail.util.SharedByteArrayInputStream;
 
 public class ToolMimeMessage extends MimeMessage {
+    public final static int DATA_STR_LEN_MAX = 65536;
+
     private byte[] data;
-    private String dataStr;
 
     public ToolMimeMessage(Session session, byte ... data) throws MessagingException {
         super(session);
@@ -25,13 +27,13 @@ public class ToolMimeMessage extends MimeMessage {
 
         this.modified = false;
 
-        try (ByteArrayInputStream dataInStream = new ByteArrayInputStream(data)) {
+        try (SharedByteArrayInputStream dataInStream = new SharedByteArrayInputStream(data)) {
             this.parse(dataInStream);
         } catch (Exception e) {
             throw new ToolMailException("Unable to parse mail MIME message.", e);
         }
 
-        this.dataStr = new String((this.data = data), CharsetUtil.US_ASCII);
+        this.data = data;
         this.saved = true;
     }
 
@@ -45,14 +47,74 @@ public class ToolMimeMessage extends MimeMessage {
             this.updateMessageID(true);
         }
 
+        // Content cached by getContent (e.g. a multipart) may have been modified in place, so it is rewritten on save.
+        if (this.cachedContent != null) {
+            this.invalidateData();
+        }
+
         super.saveChanges();
+    }
+
+    @Override
+    public void setDataHandler(DataHandler dataHandler) throws MessagingException {
+        super.setDataHandler(dataHandler);
+
+        this.invalidateData();
+    }
+
+    @Override
+    public void addHeader(String name, String value) throws MessagingException {
+        super.addHeader(name, value);
 
-        this.updateData();
+        this.invalidateData();
+    }
+
+    @Override
+    public void addHeaderLine(String line) throws MessagingException {
+        super.addHeaderLine(line);
+
+        this.invalidateData();
+    }
+
+    @Override
+    public void removeHeader(String name) throws MessagingException {
+        boolean headerPresent = (this.getHeader(name) != null);
+
+        super.removeHeader(name);
+
+        if (headerPresent) {
+            this.invalidateData();
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) throws MessagingException {
+        String[] headerValuesPrev = this.getHeader(name);
+
+        super.setHeader(name, value);
+
+        // Saving changes re-sets headers (e.g. MIME-Version) to the values they usually already have, which should not discard the data.
+        if ((headerValuesPrev == null) || (headerValuesPrev.length != 1) || !Objects.equals(headerValuesPrev[0], value)) {
+            this.invalidateData();
+        }
     }
 
     @Override
     public String toString() {
-        return Objects.toString(this.dataStr);
+        byte[] data;
+
+        try {
+            data = this.getData();
+        } catch (MessagingException ignored) {
+            data = null;
+        }
+
+        if (data == null) {
+            return Objects.toString(null);
+        }
+
+        return ((data.length > DATA_STR_LEN_MAX) ? (new String(data, 0, DATA_STR_LEN_MAX, CharsetUtil.US_ASCII) + String.format(
+            "\n... (truncated, dataLen=%d)", data.length)) : new String(data, CharsetUtil.US_ASCII));
     }
 
     @Override
@@ -71,17 +133,21 @@ public class ToolMimeMessage extends MimeMessage {
         return new ToolMimeMessage(session);
     }
 
-    private void updateData() throws MessagingException {
-        try {
-            this.dataStr = new String((this.data = ToolMimePartUtils.write(this)), CharsetUtil.US_ASCII);
-        } catch (Exception e) {
-            throw new ToolMailException(String.format("Unable to update mail MIME message (id=%s, from=%s, to=%s) data.", this.getMessageID(),
-                ToolArrayUtils.getFirst(this.getFrom()), ToolArrayUtils.getFirst(this.getRecipients(Message.RecipientType.TO))), e);
-        }
+    private synchronized void invalidateData() {
+        this.data = null;
     }
 
     @Nullable
-    public byte[] getData() {
+    public synchronized byte[] getData() throws MessagingException {
+        if ((this.data == null) && this.saved) {
+            try {
+                this.data = ToolMimePartUtils.write(this);
+            } catch (Exception e) {
+                throw new ToolMailException(String.format("Unable to update mail MIME message (id=%s, from=%s, to=%s) data.", this.getMessageID(),
+                    ToolArrayUtils.getFirst(this.getFrom()), ToolArrayUtils.getFirst(this.getRecipients(Message.RecipientType.TO))), e);
+            }
+        }
+
         return this.data;
     }
 }
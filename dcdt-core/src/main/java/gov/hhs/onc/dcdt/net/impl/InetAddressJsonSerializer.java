@@ -0,0 +1,17 @@
+package gov.hhs.onc.dcdt.net.impl;
+
+import gov.hhs.onc.dcdt.json.impl.AbstractStringJsonSerializer;
+import java.net.InetAddress;
+
+public class InetAddressJsonSerializer extends AbstractStringJsonSerializer<InetAddress> {
+    private final static long serialVersionUID = 0L;
+
+    public InetAddressJsonSerializer() {
+        super(InetAddress.class);
+    }
+
+    @Override
+    protected String serializeString(InetAddress src) {
+        return src.getHostAddress();
+    }
+}
@@ -3,6 +3,7 @@ package gov.hhs.onc.dcdt.net.sockets;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
@@ -10,12 +11,17 @@ import org.apache.commons.lang3.tuple.Pair;
 public interface ClientSocketAdapter<T extends Closeable> extends SocketAdapter<T> {
     public void write(byte[] data, SocketAddress remoteAddr) throws IOException;
 
+    public void write(ByteBuffer buffer, SocketAddress remoteAddr) throws IOException;
+
     public Pair<SocketAddress, byte[]> read() throws IOException;
 
     public Pair<SocketAddress, byte[]> read(@Nonnegative int bufferLen) throws IOException;
 
     public Pair<SocketAddress, byte[]> read(byte[] buffer) throws IOException;
 
+    @Nullable
+    public SocketAddress read(ByteBuffer buffer) throws IOException;
+
     public boolean hasRemoteSocketAddress();
 
     @Nullable
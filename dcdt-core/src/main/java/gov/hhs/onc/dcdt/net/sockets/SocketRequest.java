@@ -17,4 +17,6 @@ public interface SocketRequest extends ToolBean {
     public ByteBuffer getRequestBuffer();
 
     public ByteBuffer getResponseBuffer();
+
+    public void reset();
 }
@@ -1,7 +1,16 @@
 package gov.hhs.onc.dcdt.net.sockets;
 
 import gov.hhs.onc.dcdt.beans.ToolBean;
+import java.nio.ByteBuffer;
+import javax.annotation.Nullable;
 
 public interface SocketRequestProcessor<T extends SocketRequest> extends ToolBean {
-    public byte[] processRequest();
+    public ByteBuffer processRequest();
+
+    public boolean hasRequest();
+
+    @Nullable
+    public T getRequest();
+
+    public void setRequest(@Nullable T req);
 }
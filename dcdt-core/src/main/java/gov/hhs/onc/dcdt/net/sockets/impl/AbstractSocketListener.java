@@ -18,10 +18,14 @@ import gov.hhs.onc.dcdt.utils.ToolClassUtils;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ThreadPoolExecutor;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import org.apache.mina.util.ConcurrentHashSet;
 import org.slf4j.Logger;
@@ -44,7 +48,7 @@ public abstract class AbstractSocketListener<T extends Closeable, U extends Sock
             AbstractSocketListener.this.reqTaskExec.setRejectedExecutionHandler(new CancelSocketRequestDaemonHandler<>(SocketRequestDaemonTask.class));
 
             while ((AbstractSocketListener.this.listenSocketAdapter != null) && !AbstractSocketListener.this.listenSocketAdapter.isClosed()) {
-                X req = AbstractSocketListener.this.createRequest(AbstractSocketListener.this.listenSocketAdapter.getProtocol());
+                X req = AbstractSocketListener.this.obtainRequest(AbstractSocketListener.this.listenSocketAdapter.getProtocol());
 
                 W reqSocketAdapter = AbstractSocketListener.this.readRequest(AbstractSocketListener.this.listenSocketAdapter, req);
                 AbstractSocketListener.this.reqSocketAdapters.add(reqSocketAdapter);
@@ -127,8 +131,13 @@ public abstract class AbstractSocketListener<T extends Closeable, U extends Sock
         @Nullable
         @Override
         public Void call() throws Exception {
-            AbstractSocketListener.this.writeResponse(this.reqSocketAdapter, AbstractSocketListener.this.createRequestProcessor(req).processRequest(),
-                req.getRemoteAddress());
+            Y reqProc = AbstractSocketListener.this.obtainRequestProcessor(this.req);
+
+            try {
+                AbstractSocketListener.this.writeResponse(this.reqSocketAdapter, reqProc.processRequest(), this.req.getRemoteAddress());
+            } finally {
+                AbstractSocketListener.this.releaseRequestProcessor(reqProc);
+            }
 
             return null;
         }
@@ -155,6 +164,9 @@ public abstract class AbstractSocketListener<T extends Closeable, U extends Sock
     protected ListenableFutureTask<Void> listenDaemonTask;
     protected ThreadPoolTaskExecutor reqTaskExec;
     protected Set<ToolListenableFutureTask<Void>> reqDaemonTasks = new ConcurrentHashSet<>();
+    protected int reqPoolSize;
+    protected BlockingQueue<X> reqPool;
+    protected BlockingQueue<Y> reqProcPool;
 
     private final static Logger LOGGER = LoggerFactory.getLogger(AbstractSocketListener.class);
 
@@ -200,13 +212,44 @@ public abstract class AbstractSocketListener<T extends Closeable, U extends Sock
 
     @Override
     protected void startInternal() throws Exception {
+        if (this.reqPoolSize > 0) {
+            this.reqPool = new ArrayBlockingQueue<>(this.reqPoolSize);
+            this.reqProcPool = new ArrayBlockingQueue<>(this.reqPoolSize);
+        }
+
         (this.listenSocketAdapter = this.createListenSocketAdapter(this.createListenSocket())).bind(this.bindSocketAddr);
 
         this.taskExec.execute((this.listenDaemonTask = this.createListenDaemonTask()));
     }
 
-    protected void writeResponse(W reqSocketAdapter, byte[] respData, SocketAddress remoteAddr) throws IOException {
-        reqSocketAdapter.write(respData, remoteAddr);
+    protected void writeResponse(W reqSocketAdapter, ByteBuffer respBuffer, SocketAddress remoteAddr) throws IOException {
+        reqSocketAdapter.write(respBuffer, remoteAddr);
+    }
+
+    protected void releaseRequestProcessor(Y reqProc) {
+        X req = reqProc.getRequest();
+
+        reqProc.setRequest(null);
+
+        if (this.reqProcPool != null) {
+            this.reqProcPool.offer(reqProc);
+        }
+
+        if (req != null) {
+            this.releaseRequest(req);
+        }
+    }
+
+    protected Y obtainRequestProcessor(X req) {
+        Y reqProc = ((this.reqProcPool != null) ? this.reqProcPool.poll() : null);
+
+        if (reqProc == null) {
+            return this.createRequestProcessor(req);
+        }
+
+        reqProc.setRequest(req);
+
+        return reqProc;
     }
 
     protected Y createRequestProcessor(Object ... reqProcArgs) {
@@ -215,6 +258,24 @@ public abstract class AbstractSocketListener<T extends Closeable, U extends Sock
 
     protected abstract W readRequest(U listenSocketAdapter, X req) throws IOException;
 
+    protected X initializeRequest(X req) {
+        return req;
+    }
+
+    protected void releaseRequest(X req) {
+        if (this.reqPool != null) {
+            req.reset();
+
+            this.reqPool.offer(req);
+        }
+    }
+
+    protected X obtainRequest(InetProtocol protocol) {
+        X req = ((this.reqPool != null) ? this.reqPool.poll() : null);
+
+        return this.initializeRequest(((req != null) ? req : this.createRequest(protocol)));
+    }
+
     protected X createRequest(InetProtocol protocol) {
         return ToolBeanFactoryUtils.createBeanOfType(this.appContext, this.reqClass, protocol);
     }
@@ -250,6 +311,16 @@ public abstract class AbstractSocketListener<T extends Closeable, U extends Sock
         this.appContext = ((AbstractApplicationContext) appContext);
     }
 
+    @Override
+    public int getRequestPoolSize() {
+        return this.reqPoolSize;
+    }
+
+    @Override
+    public void setRequestPoolSize(@Nonnegative int reqPoolSize) {
+        this.reqPoolSize = reqPoolSize;
+    }
+
     @Override
     public ThreadPoolTaskExecutor getRequestTaskExecutor() {
         return this.reqTaskExec;
@@ -20,6 +20,14 @@ public abstract class AbstractSocketRequest extends AbstractToolBean implements
         this.respBuffer = ByteBuffer.allocate(respBufferSize);
     }
 
+    @Override
+    public void reset() {
+        this.remoteAddr = null;
+
+        this.reqBuffer.clear();
+        this.respBuffer.clear();
+    }
+
     @Override
     public InetProtocol getProtocol() {
         return this.protocol;
@@ -5,6 +5,7 @@ import gov.hhs.onc.dcdt.net.sockets.SocketRequest;
 import gov.hhs.onc.dcdt.net.sockets.SocketRequestProcessor;
 import gov.hhs.onc.dcdt.nio.utils.ToolBufferUtils;
 import java.nio.ByteBuffer;
+import javax.annotation.Nullable;
 
 public abstract class AbstractSocketRequestProcessor<T extends SocketRequest> extends AbstractToolBean implements SocketRequestProcessor<T> {
     protected T req;
@@ -14,20 +15,35 @@ public abstract class AbstractSocketRequestProcessor<T extends SocketRequest> ex
     }
 
     @Override
-    public byte[] processRequest() {
-        byte[] reqData = ToolBufferUtils.get(ToolBufferUtils.flip(this.req.getRequestBuffer()));
-        ByteBuffer respBuffer = this.req.getResponseBuffer();
+    public ByteBuffer processRequest() {
+        ByteBuffer reqBuffer = ToolBufferUtils.flip(this.req.getRequestBuffer()), respBuffer = this.req.getResponseBuffer();
 
         try {
-            respBuffer.put(this.processRequestInternal(reqData));
+            this.processRequestInternal(reqBuffer, respBuffer);
         } catch (Exception e) {
-            respBuffer.put(this.processError(reqData, e));
+            this.processError(ToolBufferUtils.rewind(reqBuffer), ToolBufferUtils.clear(respBuffer), e);
         }
 
-        return ToolBufferUtils.get(ToolBufferUtils.flip(respBuffer));
+        return ToolBufferUtils.flip(respBuffer);
     }
 
-    protected abstract byte[] processError(byte[] reqData, Exception exception);
+    @Override
+    public boolean hasRequest() {
+        return (this.req != null);
+    }
+
+    @Nullable
+    @Override
+    public T getRequest() {
+        return this.req;
+    }
+
+    @Override
+    public void setRequest(@Nullable T req) {
+        this.req = req;
+    }
+
+    protected abstract void processError(ByteBuffer reqBuffer, ByteBuffer respBuffer, Exception exception);
 
-    protected abstract byte[] processRequestInternal(byte[] reqData) throws Exception;
+    protected abstract void processRequestInternal(ByteBuffer reqBuffer, ByteBuffer respBuffer) throws Exception;
 }
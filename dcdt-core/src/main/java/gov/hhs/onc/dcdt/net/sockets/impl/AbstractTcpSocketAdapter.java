@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import org.apache.commons.io.IOUtils;
@@ -32,6 +33,17 @@ public abstract class AbstractTcpSocketAdapter extends AbstractClientSocketAdapt
         outStream.flush();
     }
 
+    @Override
+    public void write(ByteBuffer buffer, SocketAddress remoteAddr) throws IOException {
+        OutputStream outStream = this.socket.getOutputStream();
+
+        outStream.write(buffer.array(), (buffer.arrayOffset() + buffer.position()), buffer.remaining());
+
+        outStream.flush();
+
+        buffer.position(buffer.limit());
+    }
+
     @Override
     public Pair<SocketAddress, byte[]> read() throws IOException {
         return this.read(this.getProtocol().getDataSizeMax());
@@ -49,6 +61,16 @@ public abstract class AbstractTcpSocketAdapter extends AbstractClientSocketAdapt
         return new MutablePair<>(this.socket.getRemoteSocketAddress(), ArrayUtils.subarray(buffer, 0, dataLen));
     }
 
+    @Nullable
+    @Override
+    public SocketAddress read(ByteBuffer buffer) throws IOException {
+        int dataLen = IOUtils.read(this.socket.getInputStream(), buffer.array(), (buffer.arrayOffset() + buffer.position()), buffer.remaining());
+
+        buffer.position((buffer.position() + dataLen));
+
+        return this.socket.getRemoteSocketAddress();
+    }
+
     @Override
     public void bind(SocketAddress bindSocketAddr) throws IOException {
         this.socket.bind(bindSocketAddr);
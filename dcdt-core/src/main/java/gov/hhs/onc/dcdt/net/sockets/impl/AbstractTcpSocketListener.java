@@ -13,10 +13,8 @@ import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketAddress;
-import java.nio.ByteBuffer;
 import java.util.List;
 import javax.annotation.Nullable;
-import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
@@ -57,12 +55,8 @@ public class AbstractTcpSocketListener<T extends TcpServerSocketAdapter, U exten
     @Override
     protected U readRequest(T listenSocketAdapter, V req) throws IOException {
         U reqSocketAdapter = this.createRequestSocketAdapter(listenSocketAdapter.accept());
-        ByteBuffer reqBuffer = req.getRequestBuffer();
-        Pair<SocketAddress, byte[]> reqPair = reqSocketAdapter.read(reqBuffer.remaining());
 
-        req.setRemoteAddress(reqPair.getLeft());
-
-        reqBuffer.put(reqPair.getRight());
+        req.setRemoteAddress(reqSocketAdapter.read(req.getRequestBuffer()));
 
         return reqSocketAdapter;
     }
@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.MutablePair;
@@ -22,6 +23,13 @@ public abstract class AbstractUdpSocketAdapter extends AbstractClientSocketAdapt
         this.socket.send(ToolSocketUtils.createPacket(data, remoteAddr));
     }
 
+    @Override
+    public void write(ByteBuffer buffer, SocketAddress remoteAddr) throws IOException {
+        this.socket.send(ToolSocketUtils.createPacket(buffer, remoteAddr));
+
+        buffer.position(buffer.limit());
+    }
+
     @Override
     public Pair<SocketAddress, byte[]> read() throws IOException {
         return this.read(this.getProtocol().getDataSizeMax());
@@ -41,6 +49,18 @@ public abstract class AbstractUdpSocketAdapter extends AbstractClientSocketAdapt
         return new MutablePair<>(packet.getSocketAddress(), packet.getData());
     }
 
+    @Nullable
+    @Override
+    public SocketAddress read(ByteBuffer buffer) throws IOException {
+        DatagramPacket packet = ToolSocketUtils.createPacket(buffer);
+
+        this.socket.receive(packet);
+
+        buffer.position((buffer.position() + packet.getLength()));
+
+        return packet.getSocketAddress();
+    }
+
     @Override
     public void bind(SocketAddress bindSocketAddr) throws IOException {
         this.socket.bind(bindSocketAddr);
@@ -7,8 +7,6 @@ import gov.hhs.onc.dcdt.net.sockets.UdpSocketListener;
 import java.io.IOException;
 import java.net.DatagramSocket;
 import java.net.SocketAddress;
-import java.nio.ByteBuffer;
-import org.apache.commons.lang3.tuple.Pair;
 
 public abstract class AbstractUdpSocketListener<T extends UdpSocketAdapter, U extends SocketRequest, V extends SocketRequestProcessor<U>> extends
     AbstractSocketListener<DatagramSocket, T, DatagramSocket, T, U, V> implements UdpSocketListener<T, U, V> {
@@ -18,12 +16,7 @@ public abstract class AbstractUdpSocketListener<T extends UdpSocketAdapter, U ex
 
     @Override
     protected T readRequest(T listenSocketAdapter, U req) throws IOException {
-        ByteBuffer reqBuffer = req.getRequestBuffer();
-        Pair<SocketAddress, byte[]> reqPair = listenSocketAdapter.read(reqBuffer.remaining());
-
-        req.setRemoteAddress(reqPair.getLeft());
-
-        reqBuffer.put(reqPair.getRight());
+        req.setRemoteAddress(listenSocketAdapter.read(req.getRequestBuffer()));
 
         return listenSocketAdapter;
     }
@@ -3,6 +3,7 @@ package gov.hhs.onc.dcdt.net.sockets.utils;
 import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
 
 public abstract class ToolSocketUtils {
     public static DatagramPacket createPacket(int bufferLen) throws IOException {
@@ -13,6 +14,14 @@ public abstract class ToolSocketUtils {
         return new DatagramPacket(buffer, buffer.length);
     }
 
+    public static DatagramPacket createPacket(ByteBuffer buffer) throws IOException {
+        return new DatagramPacket(buffer.array(), (buffer.arrayOffset() + buffer.position()), buffer.remaining());
+    }
+
+    public static DatagramPacket createPacket(ByteBuffer buffer, SocketAddress socketAddr) throws IOException {
+        return new DatagramPacket(buffer.array(), (buffer.arrayOffset() + buffer.position()), buffer.remaining(), socketAddr);
+    }
+
     public static DatagramPacket createPacket(byte[] buffer, SocketAddress socketAddr) throws IOException {
         return new DatagramPacket(buffer, buffer.length, socketAddr);
     }
@@ -44,7 +44,7 @@ public class DiscoveryTestcaseCredentialRegistryImpl extends
 
     @Override
     @SuppressWarnings({ "ConstantConditions" })
-    protected void registerBean(DiscoveryTestcaseCredential bean) throws ToolBeanRegistryException {
+    protected void preRegisterBean(DiscoveryTestcaseCredential bean) throws ToolBeanRegistryException {
         if (!bean.hasCredentialInfo()) {
             try {
                 bean.setCredentialInfo(this.generateDiscoveryTestcaseCredential((bean.hasIssuerCredential()
@@ -55,8 +55,6 @@ public class DiscoveryTestcaseCredentialRegistryImpl extends
                 throw new ToolBeanRegistryException(String.format("Unable to generate Discovery testcase credential (name=%s).", bean.getName()), e);
             }
         }
-
-        super.registerBean(bean);
     }
 
     @Override
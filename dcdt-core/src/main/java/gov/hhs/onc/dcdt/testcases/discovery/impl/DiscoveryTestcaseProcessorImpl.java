@@ -19,16 +19,22 @@ import gov.hhs.onc.dcdt.testcases.discovery.credentials.DiscoveryTestcaseCredent
 import gov.hhs.onc.dcdt.testcases.discovery.results.DiscoveryTestcaseResult;
 import gov.hhs.onc.dcdt.testcases.impl.AbstractToolTestcaseProcessor;
 import gov.hhs.onc.dcdt.utils.ToolStringUtils;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import javax.mail.internet.MimeBodyPart;
 import org.bouncycastle.cms.SignerId;
 import org.bouncycastle.mail.smime.SMIMEEnveloped;
+import org.bouncycastle.mail.smime.SMIMEEnvelopedParser;
 import org.bouncycastle.mail.smime.SMIMESigned;
+import org.bouncycastle.mail.smime.SMIMESignedParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
 
 @Component("discoveryTestcaseProcImpl")
 public class DiscoveryTestcaseProcessorImpl extends
@@ -36,6 +42,12 @@ public class DiscoveryTestcaseProcessorImpl extends
     DiscoveryTestcaseProcessor {
     private final static Logger LOGGER = LoggerFactory.getLogger(DiscoveryTestcaseProcessorImpl.class);
 
+    @Value("${dcdt.testcase.discovery.proc.smime.mem.threshold}")
+    private long smimeMemThreshold;
+
+    @Value("${dcdt.testcase.discovery.proc.smime.spill.dir}")
+    private File smimeSpillDir;
+
     public DiscoveryTestcaseProcessorImpl() {
         super(DiscoveryTestcaseResult.class);
     }
@@ -49,6 +61,7 @@ public class DiscoveryTestcaseProcessorImpl extends
         MailAddress msgFromAddr = null, msgToAddr = null;
         List<ToolMessage> procMsgs = new ArrayList<>();
         boolean procSuccess = true;
+        MimeBodyPart decryptedBodyPart = null;
 
         try {
             msgId = mailInfo.getMessageId();
@@ -65,53 +78,89 @@ public class DiscoveryTestcaseProcessorImpl extends
                 procSuccess = false;
             }
 
-            MimeBodyPart decryptedBodyPart = this.decrypt(mailInfo, msgId, msgFromAddr, msgToAddr, testcase, result);
+            // Only the decrypted and signed content is spilled to disk - the raw message data itself is still received (bounded by the SMTP server's
+            // maximum data frame length) and held in memory.
+            boolean smimeStreaming = (mailInfo.getMessage().getSize() > this.smimeMemThreshold);
+
+            decryptedBodyPart = this.decrypt(mailInfo, msgId, msgFromAddr, msgToAddr, testcase, result, smimeStreaming);
 
-            result.setSignerCertificateInfos(this.verifySigners(mailInfo, msgId, msgFromAddr, msgToAddr, decryptedBodyPart));
+            result.setSignerCertificateInfos(this.verifySigners(mailInfo, msgId, msgFromAddr, msgToAddr, decryptedBodyPart, smimeStreaming));
         } catch (Exception e) {
             procMsgs.add(new ToolMessageImpl(ToolMessageLevel.ERROR, e.getMessage()));
             procSuccess = false;
+        } finally {
+            try {
+                ToolSmimeUtils.dispose(decryptedBodyPart);
+            } catch (IOException e) {
+                LOGGER.warn(String.format("Unable to dispose of mail MIME message (id=%s, from=%s, to=%s) decrypted content spill file.", msgId, msgFromAddr,
+                    msgToAddr), e);
+            }
         }
 
         result.setProcessingMessages(procMsgs);
         result.setProcessingSuccess((procSuccess && (result.getDecryptionCredential() == result.getExpectedDecryptionCredential())));
 
-        LOGGER.info(String.format("Processed (success=%s) Discovery testcase (name=%s) for mail MIME message (id=%s, from=%s, to=%s): [%s]",
-            result.isSuccess(), ((testcase != null) ? testcase.getName() : null), msgId, msgFromAddr, msgToAddr,
-            ToolStringUtils.joinDelimit(result.getMessages(), "; ")));
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Processed (success={}) Discovery testcase (name={}) for mail MIME message (id={}, from={}, to={}): [{}]", result.isSuccess(),
+                ((testcase != null) ? testcase.getName() : null), msgId, msgFromAddr, msgToAddr, ToolStringUtils.joinDelimit(result.getMessages(), "; "));
+        }
 
         return result;
     }
 
     private Map<SignerId, CertificateInfo> verifySigners(MailInfo mailInfo, String msgId, MailAddress msgFromAddr, MailAddress msgToAddr,
-        MimeBodyPart decryptedBodyPart) throws Exception {
-        SMIMESigned signed = ToolSmimeUtils.getSigned(mailInfo, decryptedBodyPart);
+        MimeBodyPart decryptedBodyPart, boolean smimeStreaming) throws Exception {
+        Map<SignerId, CertificateInfo> signerCertMap;
+        MimeType signedContentType;
+
+        if (smimeStreaming) {
+            SMIMESignedParser signedParser = ToolSmimeUtils.getSignedParser(mailInfo, decryptedBodyPart, this.smimeSpillDir);
 
-        LOGGER.info(String.format("Extracted mail MIME message (id=%s, from=%s, to=%s) signed content (type=%s).", msgId, msgFromAddr, msgToAddr,
-            ToolMimePartUtils.getContentType(signed.getContent())));
+            try {
+                LOGGER.info("Extracted mail MIME message (id={}, from={}, to={}) signed content (type={}) using spill directory: {}", msgId, msgFromAddr,
+                    msgToAddr, (signedContentType = ToolMimePartUtils.getContentType(signedParser.getContent())), this.smimeSpillDir);
 
-        Map<SignerId, CertificateInfo> signerCertMap = ToolSmimeUtils.verifySignatures(signed);
+                signerCertMap = ToolSmimeUtils.verifySignatures(signedParser);
+            } finally {
+                ToolSmimeUtils.dispose(signedParser.getContent());
+            }
+        } else {
+            SMIMESigned signed = ToolSmimeUtils.getSigned(mailInfo, decryptedBodyPart);
+
+            LOGGER.info("Extracted mail MIME message (id={}, from={}, to={}) signed content (type={}).", msgId, msgFromAddr, msgToAddr,
+                (signedContentType = ToolMimePartUtils.getContentType(signed.getContent())));
+
+            signerCertMap = ToolSmimeUtils.verifySignatures(signed);
+        }
 
         if (signerCertMap.isEmpty()) {
             throw new ToolSmimeException(String.format("Mail MIME message (id=%s, from=%s, to=%s) signed content (type=%s) does not contain any signed parts.",
-                msgId, msgFromAddr, msgToAddr, ToolMimePartUtils.getContentType(signed.getContent())));
+                msgId, msgFromAddr, msgToAddr, signedContentType));
         }
 
         return signerCertMap;
     }
 
     private MimeBodyPart decrypt(MailInfo mailInfo, String msgId, MailAddress msgFromAddr, MailAddress msgToAddr, DiscoveryTestcase testcase,
-        DiscoveryTestcaseResult result) throws Exception {
+        DiscoveryTestcaseResult result, boolean smimeStreaming) throws Exception {
         SMIMEEnveloped enveloped = null;
+        SMIMEEnvelopedParser envelopedParser = null;
+        MimeBodyPart encryptedContent = null;
 
         if (testcase.hasCredentials()) {
             result.setExpectedDecryptionCredential((testcase.hasTargetCredentials() ? testcase.getTargetCredentials().stream()
                 .filter(DiscoveryTestcaseCredential::isValid).findFirst().orElse(null) : null));
-            enveloped = ToolSmimeUtils.getEnveloped(mailInfo);
+
+            if (smimeStreaming) {
+                encryptedContent = (envelopedParser = ToolSmimeUtils.getEnvelopedParser(mailInfo)).getEncryptedContent();
+            } else {
+                encryptedContent = (enveloped = ToolSmimeUtils.getEnveloped(mailInfo)).getEncryptedContent();
+            }
 
             CredentialInfo credInfo;
             KeyInfo credKeyInfo;
             CertificateInfo credCertInfo;
+            MimeBodyPart decryptedBodyPart;
 
             // noinspection ConstantConditions
             for (DiscoveryTestcaseCredential cred : testcase.getCredentials()) {
@@ -122,21 +171,22 @@ public class DiscoveryTestcaseProcessorImpl extends
                     continue;
                 }
 
-                MimeBodyPart decryptedBodyPart = ToolSmimeUtils.decrypt(mailInfo, enveloped, credKeyInfo.getPrivateKey(), credCertInfo.getCertificate());
+                decryptedBodyPart =
+                    (smimeStreaming ? ToolSmimeUtils.decrypt(mailInfo, envelopedParser, credKeyInfo.getPrivateKey(), credCertInfo.getCertificate(),
+                        this.smimeSpillDir) : ToolSmimeUtils.decrypt(mailInfo, enveloped, credKeyInfo.getPrivateKey(), credCertInfo.getCertificate()));
 
                 if (decryptedBodyPart != null) {
                     result.setDecryptionCredential(cred);
 
-                    LOGGER.info(String.format("Decrypted enveloped mail MIME message (id=%s, from=%s, to=%s) enveloped content (type=%s).", msgId, msgFromAddr,
-                        msgToAddr, ToolMimePartUtils.getContentType(enveloped.getEncryptedContent())));
+                    LOGGER.info("Decrypted enveloped mail MIME message (id={}, from={}, to={}) enveloped content (type={}).", msgId, msgFromAddr, msgToAddr,
+                        ToolMimePartUtils.getContentType(encryptedContent));
 
                     return decryptedBodyPart;
                 }
             }
         }
 
-        // noinspection ConstantConditions
         throw new ToolSmimeException(String.format("Unable to decrypt enveloped mail MIME message (id=%s, from=%s, to=%s) enveloped content (type=%s).", msgId,
-            msgFromAddr, msgToAddr, ToolMimePartUtils.getContentType(enveloped.getEncryptedContent())));
+            msgFromAddr, msgToAddr, ((encryptedContent != null) ? ToolMimePartUtils.getContentType(encryptedContent) : null)));
     }
 }
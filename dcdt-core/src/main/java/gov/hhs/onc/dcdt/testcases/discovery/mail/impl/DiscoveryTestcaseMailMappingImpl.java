@@ -4,11 +4,16 @@ import gov.hhs.onc.dcdt.beans.impl.AbstractToolDirectAddressBean;
 import gov.hhs.onc.dcdt.mail.MailAddress;
 import gov.hhs.onc.dcdt.testcases.discovery.mail.DiscoveryTestcaseMailMapping;
 import javax.annotation.Nullable;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Cacheable
 @Entity(name = "discovery_testcase_mail_mapping")
 @Table(name = "discovery_testcase_mail_mappings")
 public class DiscoveryTestcaseMailMappingImpl extends AbstractToolDirectAddressBean implements DiscoveryTestcaseMailMapping {
@@ -16,11 +16,13 @@ import gov.hhs.onc.dcdt.testcases.discovery.results.DiscoveryTestcaseResult;
 import gov.hhs.onc.dcdt.testcases.discovery.results.DiscoveryTestcaseResultCredentialType;
 import gov.hhs.onc.dcdt.testcases.discovery.results.sender.DiscoveryTestcaseResultSenderService;
 import gov.hhs.onc.dcdt.utils.ToolArrayUtils;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import gov.hhs.onc.dcdt.utils.ToolDateUtils;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 import javax.mail.MessagingException;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.core.Ordered;
@@ -72,13 +74,13 @@ public class DiscoveryTestcaseResultSenderServiceImpl extends AbstractMailTempla
                         + DiscoveryTestcaseResultCredentialType.DISCOVERED.getAttachmentFileNameSuffix() + DataEncoding.DER.getFileExtension()));
             }
 
-            Date msgProcDate = new Date();
+            Instant msgProcInstant = Instant.now();
 
             // noinspection ConstantConditions
             attachments.add(new MimeAttachmentResource(discoveryTestcaseSubmission.getMailInfo().getMessage().getData(), (discoveryTestcaseName
-                + ATTACHMENT_RESOURCE_DESC_SUFFIX_MAIL + ATTACHMENT_RESOURCE_DESC_SUFFIX_DATE_FORMAT.format(msgProcDate)),
+                + ATTACHMENT_RESOURCE_DESC_SUFFIX_MAIL + ATTACHMENT_RESOURCE_DESC_SUFFIX_DATE_FORMAT.format(msgProcInstant)),
                 MailContentTransferEncoding.QUOTED_PRINTABLE, MailContentTypes.MSG_RFC822, (discoveryTestcaseName.toLowerCase()
-                    + ATTACHMENT_RESOURCE_FILE_NAME_SUFFIX_MAIL + ATTACHMENT_RESOURCE_FILE_NAME_SUFFIX_DATE_FORMAT.format(msgProcDate)
+                    + ATTACHMENT_RESOURCE_FILE_NAME_SUFFIX_MAIL + ATTACHMENT_RESOURCE_FILE_NAME_SUFFIX_DATE_FORMAT.format(msgProcInstant)
                     + FilenameUtils.EXTENSION_SEPARATOR + FILE_EXT_MAIL)));
 
             mailInfo.setAttachments(attachments);
@@ -87,10 +89,11 @@ public class DiscoveryTestcaseResultSenderServiceImpl extends AbstractMailTempla
         }
     }
 
-    private final static DateFormat ATTACHMENT_RESOURCE_DESC_SUFFIX_DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss Z");
+    private final static DateTimeFormatter ATTACHMENT_RESOURCE_DESC_SUFFIX_DATE_FORMAT = ToolDateUtils.FORMATTER_DISPLAY;
     private final static String ATTACHMENT_RESOURCE_DESC_SUFFIX_MAIL = " mail processed at ";
 
-    private final static DateFormat ATTACHMENT_RESOURCE_FILE_NAME_SUFFIX_DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd_HHmm_Z");
+    private final static DateTimeFormatter ATTACHMENT_RESOURCE_FILE_NAME_SUFFIX_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HHmm_Z", Locale.US)
+        .withZone(ZoneId.systemDefault());
     private final static String ATTACHMENT_RESOURCE_FILE_NAME_SUFFIX_MAIL = "_mail_";
 
     private final static String MODEL_ATTR_NAME_TESTCASE_DISCOVERY_RESULT = "discoveryTestcaseResult";
@@ -1,5 +1,23 @@
 package gov.hhs.onc.dcdt.utils;
 
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+
 public abstract class ToolDateUtils {
     public final static long HOURS_IN_DAY = 24L;
 
@@ -16,4 +34,97 @@ public abstract class ToolDateUtils {
     public final static long MS_IN_HOUR = MS_IN_SEC * SEC_IN_HOUR;
     public final static long MS_IN_DAY = MS_IN_SEC * SEC_IN_DAY;
     public final static long MS_IN_YEAR = MS_IN_SEC * SEC_IN_YEAR;
+
+    public final static DateTimeFormatter FORMATTER_DISPLAY = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss Z", Locale.US).withZone(ZoneId.systemDefault());
+
+    // @formatter:off
+    /*
+    Date and time specification as per:
+    - RFC 5322 - Internet Message Format - Date and Time Specification, Section 3.3 (http://tools.ietf.org/html/rfc5322#section-3.3)
+    - RFC 5322 - Internet Message Format - Obsolete Date and Time, Section 4.3 (http://tools.ietf.org/html/rfc5322#section-4.3)
+    */
+    // @formatter:on
+    public final static DateTimeFormatter FORMATTER_RFC_5322 = DateTimeFormatter.ofPattern("EEE, d MMM yyyy HH:mm:ss Z", Locale.US).withZone(
+        ZoneId.systemDefault());
+
+    private final static Pattern PATTERN_RFC_5322_COMMENT = Pattern.compile("\\([^()]*\\)");
+    private final static Pattern PATTERN_RFC_5322_DATE = Pattern.compile("^\\s*(?:[A-Za-z]{3}\\s*,\\s*)?(\\d{1,2})\\s+([A-Za-z]{3})\\s+(\\d{2,4})\\s+"
+        + "(\\d{1,2})\\s*:\\s*(\\d{2})(?:\\s*:\\s*(\\d{2}))?\\s+([+-]\\d{4}|[A-Za-z]{1,3})\\s*$");
+
+    private final static Map<String, Month> RFC_5322_MONTHS = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final static Map<String, ZoneOffset> RFC_5322_OBSOLETE_ZONES = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        Stream.of(Month.values()).forEach(month -> RFC_5322_MONTHS.put(month.getDisplayName(TextStyle.SHORT, Locale.US), month));
+
+        RFC_5322_OBSOLETE_ZONES.put("UT", ZoneOffset.UTC);
+        RFC_5322_OBSOLETE_ZONES.put("GMT", ZoneOffset.UTC);
+        RFC_5322_OBSOLETE_ZONES.put("EST", ZoneOffset.ofHours(-5));
+        RFC_5322_OBSOLETE_ZONES.put("EDT", ZoneOffset.ofHours(-4));
+        RFC_5322_OBSOLETE_ZONES.put("CST", ZoneOffset.ofHours(-6));
+        RFC_5322_OBSOLETE_ZONES.put("CDT", ZoneOffset.ofHours(-5));
+        RFC_5322_OBSOLETE_ZONES.put("MST", ZoneOffset.ofHours(-7));
+        RFC_5322_OBSOLETE_ZONES.put("MDT", ZoneOffset.ofHours(-6));
+        RFC_5322_OBSOLETE_ZONES.put("PST", ZoneOffset.ofHours(-8));
+        RFC_5322_OBSOLETE_ZONES.put("PDT", ZoneOffset.ofHours(-7));
+    }
+
+    @Nullable
+    public static String formatDate(DateTimeFormatter formatter, @Nullable Date date) {
+        return ((date != null) ? formatter.format(date.toInstant()) : null);
+    }
+
+    public static String formatRfc5322Date(Date date) {
+        return formatDate(FORMATTER_RFC_5322, date);
+    }
+
+    public static Date parseRfc5322Date(CharSequence str) throws DateTimeParseException {
+        CharSequence dateStr = str;
+        Matcher commentMatcher;
+
+        while ((commentMatcher = PATTERN_RFC_5322_COMMENT.matcher(dateStr)).find()) {
+            dateStr = commentMatcher.replaceAll(" ");
+        }
+
+        Matcher dateMatcher = PATTERN_RFC_5322_DATE.matcher(dateStr);
+
+        if (!dateMatcher.matches()) {
+            throw new DateTimeParseException(String.format("Malformed RFC 5322 date: %s", str), str, 0);
+        }
+
+        Month month = RFC_5322_MONTHS.get(dateMatcher.group(2));
+
+        if (month == null) {
+            throw new DateTimeParseException(String.format("Invalid RFC 5322 date month (name=%s): %s", dateMatcher.group(2), str), str, dateMatcher.start(2));
+        }
+
+        String yearStr = dateMatcher.group(3), secStr = dateMatcher.group(6), zoneStr = dateMatcher.group(7);
+        int year = Integer.parseInt(yearStr);
+
+        if (yearStr.length() == 2) {
+            year += ((year < 50) ? 2000 : 1900);
+        } else if (yearStr.length() == 3) {
+            year += 1900;
+        }
+
+        ZoneOffset zoneOffset;
+
+        try {
+            zoneOffset =
+                ((zoneStr.length() == 5) ? ZoneOffset.ofHoursMinutes(Integer.parseInt(zoneStr.substring(0, 3)), (Integer.parseInt(zoneStr.substring(3))
+                    * ((zoneStr.charAt(0) == '-') ? -1 : 1))) : ((zoneStr.length() == 1) ? ZoneOffset.UTC : RFC_5322_OBSOLETE_ZONES.get(zoneStr)));
+
+            if (zoneOffset == null) {
+                throw new DateTimeParseException(String.format("Invalid RFC 5322 date zone (name=%s): %s", zoneStr, str), str, dateMatcher.start(7));
+            }
+
+            return Date.from(OffsetDateTime.of(
+                LocalDateTime.of(year, month, Integer.parseInt(dateMatcher.group(1)), Integer.parseInt(dateMatcher.group(4)),
+                    Integer.parseInt(dateMatcher.group(5)), ((secStr != null) ? Math.min(Integer.parseInt(secStr), 59) : 0)), zoneOffset).toInstant());
+        } catch (DateTimeParseException e) {
+            throw e;
+        } catch (DateTimeException e) {
+            throw new DateTimeParseException(String.format("Invalid RFC 5322 date: %s", str), str, 0, e);
+        }
+    }
 }
@@ -12,10 +12,20 @@ import gov.hhs.onc.dcdt.data.events.impl.LoggingBeanEntityInterceptor
 import gov.hhs.onc.dcdt.json.impl.ToolObjectMapper
 import gov.hhs.onc.dcdt.logging.impl.PriorityColorCompositeConverter
 import gov.hhs.onc.dcdt.logging.impl.RootCauseThrowableProxyConverter
+import gov.hhs.onc.dcdt.logging.impl.ToolAsyncAppender
 import gov.hhs.onc.dcdt.velocity.impl.ToolVelocityEngineFactoryBean
 import org.apache.commons.io.FilenameUtils
 import org.apache.commons.lang3.ObjectUtils
 import org.springframework.beans.factory.support.DefaultListableBeanFactory
+/*====================================================================================================
+= PROPERTIES: ASYNC
+=====================================================================================================*/
+def asyncDiscardThreshold = ObjectUtils.defaultIfNull(context.getProperty(ToolProperties.LOG_ASYNC_DISCARD_THRESHOLD_NAME), "0").toInteger()
+
+def asyncNeverBlock = ObjectUtils.defaultIfNull(context.getProperty(ToolProperties.LOG_ASYNC_NEVER_BLOCK_NAME), "false").toBoolean()
+
+def asyncQueueSize = ObjectUtils.defaultIfNull(context.getProperty(ToolProperties.LOG_ASYNC_QUEUE_SIZE_NAME), "8192").toInteger()
+
 /*====================================================================================================
 = PROPERTIES: CONSOLE
 =====================================================================================================*/
@@ -33,7 +43,7 @@ def fileName = context.getProperty(ToolProperties.LOG_FILE_NAME_NAME)
 def fileExt = ObjectUtils.defaultIfNull(context.getProperty(ToolProperties.LOG_FILE_EXT_NAME), "${FilenameUtils.EXTENSION_SEPARATOR}log")
 
 def filePattern = ObjectUtils.defaultIfNull(context.getProperty(ToolProperties.LOG_FILE_PATTERN_NAME),
-    "%d{yyyy-MM-dd HH:mm:ss z} [%C:%L %t] %p - %m%n%exRoot")
+    "%d{yyyy-MM-dd HH:mm:ss z} [%c %t] %p - %m%n%exRoot")
 
 def fileSizeMax = ObjectUtils.defaultIfNull(context.getProperty(ToolProperties.LOG_FILE_SIZE_MAX_NAME), "50MB")
 
@@ -52,7 +62,7 @@ statusListener(NopStatusListener)
 /*====================================================================================================
 = APPENDER: CONSOLE
 =====================================================================================================*/
-appender("console", ConsoleAppender) {
+appender("consoleSync", ConsoleAppender) {
     encoder(PatternLayoutEncoder) {
         pattern = consolePattern
     }
@@ -63,7 +73,7 @@ appender("console", ConsoleAppender) {
 /*====================================================================================================
 = APPENDER: FILE
 =====================================================================================================*/
-appender("file", RollingFileAppender) {
+appender("fileSync", RollingFileAppender) {
     file = "${fileDir}/${fileName}${fileExt}"
     rollingPolicy(TimeBasedRollingPolicy) {
         fileNamePattern = "${fileDir}/${fileName}.%d{yyyy-MM-dd}.%i${fileExt}"
@@ -76,6 +86,25 @@ appender("file", RollingFileAppender) {
     }
 }
 
+/*====================================================================================================
+= APPENDERS: ASYNC
+=====================================================================================================*/
+appender("console", ToolAsyncAppender) {
+    appenderRef("consoleSync")
+    discardingThreshold = asyncDiscardThreshold
+    includeCallerData = false
+    neverBlock = asyncNeverBlock
+    queueSize = asyncQueueSize
+}
+
+appender("file", ToolAsyncAppender) {
+    appenderRef("fileSync")
+    discardingThreshold = asyncDiscardThreshold
+    includeCallerData = false
+    neverBlock = asyncNeverBlock
+    queueSize = asyncQueueSize
+}
+
 /*====================================================================================================
 = LOGGERS: PROJECT
 =====================================================================================================*/
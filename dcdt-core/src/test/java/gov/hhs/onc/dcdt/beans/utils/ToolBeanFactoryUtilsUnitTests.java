@@ -3,8 +3,11 @@ package gov.hhs.onc.dcdt.beans.utils;
 import gov.hhs.onc.dcdt.beans.ToolBean;
 import gov.hhs.onc.dcdt.beans.impl.AbstractToolBean;
 import gov.hhs.onc.dcdt.test.impl.AbstractToolUnitTests;
+import gov.hhs.onc.dcdt.utils.ToolArrayUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -34,12 +37,38 @@ public class ToolBeanFactoryUtilsUnitTests extends AbstractToolUnitTests {
         }
     }
 
+    private static interface ToolTestBeanFactoryUtilsPrototypeBean extends ToolBean {
+    }
+
+    @Component(TEST_BEAN_FACTORY_UTILS_PROTOTYPE_BEAN_NAME)
+    @Scope(BeanDefinition.SCOPE_PROTOTYPE)
+    private static class ToolTestBeanFactoryUtilsPrototypeBeanImpl extends AbstractToolBean implements ToolTestBeanFactoryUtilsPrototypeBean {
+    }
+
     private final static String TEST_BEAN_FACTORY_UTILS_BEAN_NAME = "testBeanFactoryUtilsImpl";
+    private final static String TEST_BEAN_FACTORY_UTILS_PROTOTYPE_BEAN_NAME = "testBeanFactoryUtilsPrototypeImpl";
 
     @Autowired
     @SuppressWarnings({ "SpringJavaAutowiringInspection" })
     private ToolTestBeanFactoryUtilsBean testBeanFactoryUtilsBean;
 
+    @Test
+    public void testCreateBeanOfType() {
+        ToolTestBeanFactoryUtilsPrototypeBean prototypeBean1 =
+            ToolBeanFactoryUtils.createBeanOfType(this.applicationContext, ToolTestBeanFactoryUtilsPrototypeBean.class);
+        Assert.assertNotNull(prototypeBean1, "Unable to create prototype bean by type.");
+        Assert.assertNotSame(ToolBeanFactoryUtils.createBeanOfType(this.applicationContext, ToolTestBeanFactoryUtilsPrototypeBean.class), prototypeBean1,
+            "Prototype beans created by type are the same instance.");
+        Assert.assertNull(ToolBeanFactoryUtils.createBeanOfType(this.applicationContext, ToolTestBeanFactoryUtilsBean.class),
+            "Singleton bean was created as a prototype bean by type.");
+    }
+
+    @Test(dependsOnMethods = { "testCreateBeanOfType" })
+    public void testGetPrototypeBeanNamesOfType() {
+        Assert.assertEquals(ToolBeanFactoryUtils.getPrototypeBeanNamesOfType(this.applicationContext, ToolTestBeanFactoryUtilsPrototypeBean.class),
+            ToolArrayUtils.asList(TEST_BEAN_FACTORY_UTILS_PROTOTYPE_BEAN_NAME), "Unable to get prototype bean names by type.");
+    }
+
     @Test(dependsOnMethods = { "testGetBeanOfType" })
     public void testGetBeanNameOfType() {
         Assert.assertEquals(ToolBeanFactoryUtils.getBeanNameOfType(this.applicationContext, ToolTestBeanFactoryUtilsBean.class),
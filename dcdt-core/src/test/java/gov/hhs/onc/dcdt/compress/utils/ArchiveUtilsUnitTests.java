@@ -1,13 +1,20 @@
 package gov.hhs.onc.dcdt.compress.utils;
 
 import gov.hhs.onc.dcdt.compress.ArchiveType;
+import gov.hhs.onc.dcdt.compress.utils.ArchiveUtils.ArchiveEntryDataWriter;
 import gov.hhs.onc.dcdt.compress.utils.ArchiveUtils.ZipArchiveEntryPairTransformer;
 import gov.hhs.onc.dcdt.test.impl.AbstractToolUnitTests;
 import gov.hhs.onc.dcdt.utils.ToolArrayUtils;
-import java.util.Collection;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.compress.archivers.ArchiveException;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,41 +35,63 @@ public class ArchiveUtilsUnitTests extends AbstractToolUnitTests {
     @Value("${dcdt.test.archive.entry.2.value}")
     private String testArchiveEntry2Value;
 
-    private Collection<Pair<ZipArchiveEntry, byte[]>> testEntryPairs;
+    private List<Pair<ZipArchiveEntry, byte[]>> testEntryPairs;
     private byte[] testArchiveData;
 
-    // @formatter:off
-    /*
     @Test(dependsOnMethods = { "testWriteArchive" })
     public void testReadArchive() throws ArchiveException {
         List<Pair<ZipArchiveEntry, byte[]>> testEntryPairsRead = ArchiveUtils.readArchive(ArchiveType.ZIP, new ByteArrayInputStream(this.testArchiveData));
+
+        assertEntryPairsMatch(testEntryPairsRead, this.testEntryPairs);
+    }
+
+    @Test
+    public void testReadWriteArchiveEntries() throws ArchiveException {
+        ZipArchiveEntryPairTransformer testEntryPairTransformer = new ZipArchiveEntryPairTransformer(this.testArchiveEntry1Name::equals);
+        List<Pair<ZipArchiveEntry, byte[]>> testEntryPairs =
+            new ArrayList<>(CollectionUtils.collect(ToolArrayUtils.asList(new ImmutablePair<>(this.testArchiveEntry1Name, this.testArchiveEntry1Value
+                .getBytes()), new ImmutablePair<>(this.testArchiveEntry2Name, this.testArchiveEntry2Value.getBytes())), testEntryPairTransformer));
+        ByteArrayOutputStream testArchiveOutStream = new ByteArrayOutputStream();
+
+        ArchiveUtils.writeArchiveEntries(ArchiveType.ZIP, testArchiveOutStream, ArchiveUtils.COMPRESSION_LEVEL_BEST_SPEED, testEntryPairs.stream()
+            .map(testEntryPair -> new ImmutablePair<ZipArchiveEntry, ArchiveEntryDataWriter>(testEntryPair.getLeft(), (testEntryOutStream -> IOUtils.copy(
+                new ByteArrayInputStream(testEntryPair.getRight()), testEntryOutStream)))).collect(Collectors.toList()));
+
+        List<Pair<ZipArchiveEntry, byte[]>> testEntryPairsRead = new ArrayList<>();
+
+        ArchiveUtils.<ZipArchiveEntry> readArchiveEntries(ArchiveType.ZIP, new ByteArrayInputStream(testArchiveOutStream.toByteArray()), (
+            testEntry, testEntryInStream) -> testEntryPairsRead.add(new ImmutablePair<>(testEntry, IOUtils.toByteArray(testEntryInStream))));
+
+        assertEntryPairsMatch(testEntryPairsRead, testEntryPairs);
+
+        Assert.assertEquals(testEntryPairsRead.get(0).getLeft().getMethod(), ZipEntry.STORED,
+            String.format("Archive entry (name=%s) method does not match.", this.testArchiveEntry1Name));
+        Assert.assertEquals(testEntryPairsRead.get(1).getLeft().getMethod(), ZipEntry.DEFLATED,
+            String.format("Archive entry (name=%s) method does not match.", this.testArchiveEntry2Name));
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    @Test
+    public void testWriteArchive() throws ArchiveException {
+        this.testEntryPairs =
+            new ArrayList<>(CollectionUtils.collect(ToolArrayUtils.asList(new ImmutablePair<>(this.testArchiveEntry1Name, this.testArchiveEntry1Value
+                .getBytes()), new ImmutablePair<>(this.testArchiveEntry2Name, this.testArchiveEntry2Value.getBytes())),
+                ZipArchiveEntryPairTransformer.INSTANCE));
+
+        Assert.assertTrue(((this.testArchiveData = ArchiveUtils.writeArchive(ArchiveType.ZIP, this.testEntryPairs)).length > 0), "No archive data written.");
+    }
+
+    private static void assertEntryPairsMatch(List<Pair<ZipArchiveEntry, byte[]>> testEntryPairsRead, List<Pair<ZipArchiveEntry, byte[]>> testEntryPairs) {
         Pair<ZipArchiveEntry, byte[]> testEntryPair, testEntryPairRead;
         String testEntryName;
 
-        Assert.assertEquals(testEntryPairsRead.size(), this.testEntryPairs.size(), "Number of archive entries does not match.");
+        Assert.assertEquals(testEntryPairsRead.size(), testEntryPairs.size(), "Number of archive entries does not match.");
 
-        for (int a = 0; a < this.testEntryPairs.size(); a++) {
+        for (int a = 0; a < testEntryPairs.size(); a++) {
             Assert.assertEquals((testEntryPairRead = testEntryPairsRead.get(a)).getLeft().getName(),
-                (testEntryName = (testEntryPair = this.testEntryPairs.get(a)).getLeft().getName()), "Archive entry names do not match.");
+                (testEntryName = (testEntryPair = testEntryPairs.get(a)).getLeft().getName()), "Archive entry names do not match.");
             Assert.assertEquals(testEntryPairRead.getRight(), testEntryPair.getRight(),
                 String.format("Archive entry (name=%s) data does not match.", testEntryName));
         }
     }
-    */
-    // @formatter:on
-
-    @SuppressWarnings({ "unchecked" })
-    @Test
-    public void testWriteArchive() throws ArchiveException {
-        Assert
-            .assertTrue(
-                ((this.testArchiveData =
-                    ArchiveUtils.writeArchive(
-                        ArchiveType.ZIP,
-                        (this.testEntryPairs =
-                            CollectionUtils.collect(ToolArrayUtils.asList(
-                                new ImmutablePair<>(this.testArchiveEntry1Name, this.testArchiveEntry1Value.getBytes()), new ImmutablePair<>(
-                                    this.testArchiveEntry2Name, this.testArchiveEntry2Value.getBytes())), ZipArchiveEntryPairTransformer.INSTANCE)))).length > 0),
-                "No archive data written.");
-    }
 }
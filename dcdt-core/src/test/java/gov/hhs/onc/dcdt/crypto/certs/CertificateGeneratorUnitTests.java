@@ -1,12 +1,17 @@
 package gov.hhs.onc.dcdt.crypto.certs;
 
+import gov.hhs.onc.dcdt.crypto.DataEncoding;
 import gov.hhs.onc.dcdt.crypto.credentials.CredentialConfig;
 import gov.hhs.onc.dcdt.crypto.credentials.CredentialInfo;
 import gov.hhs.onc.dcdt.crypto.credentials.impl.CredentialInfoImpl;
 import gov.hhs.onc.dcdt.crypto.keys.KeyConfig;
 import gov.hhs.onc.dcdt.crypto.keys.KeyGenerator;
 import gov.hhs.onc.dcdt.crypto.keys.KeyInfo;
+import gov.hhs.onc.dcdt.crypto.utils.CertificateUtils;
+import gov.hhs.onc.dcdt.crypto.utils.CertificateUtils.ToolCertificateCache;
+import gov.hhs.onc.dcdt.crypto.utils.CryptographyUtils;
 import gov.hhs.onc.dcdt.test.impl.AbstractToolUnitTests;
+import java.security.cert.X509Certificate;
 import javax.annotation.Resource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.testng.Assert;
@@ -59,6 +64,32 @@ public class CertificateGeneratorUnitTests extends AbstractToolUnitTests {
         assertCredentialDescriptorsMatch(this.testCredConfigAddr1, testAddr1CredInfo);
     }
 
+    @Test(dependsOnMethods = { "testGenerateCaCertificate" })
+    public void testReadCertificateInfo() throws Exception {
+        ToolCertificateCache<X509Certificate> testCertCache = new ToolCertificateCache<>(1);
+        // noinspection ConstantConditions
+        X509Certificate testCa1Cert = this.testCredInfoCa1.getCertificateDescriptor().getCertificate();
+        // noinspection ConstantConditions
+        byte[] testCa1CertData = CertificateUtils.writeCertificate(testCa1Cert, DataEncoding.DER);
+        CertificateInfo testCa1CertInfo =
+            CertificateUtils.readCertificateInfo(CryptographyUtils.PROVIDER_HELPER, testCa1CertData, CertificateType.X509, DataEncoding.DER, testCertCache);
+        X509Certificate testCa1CertRead = testCa1CertInfo.getCertificate();
+
+        Assert.assertEquals(testCa1CertRead, testCa1Cert, "Read certificate does not match.");
+        Assert.assertEquals(testCertCache.getMisses(), 1L, "Certificate was not read on a cache miss.");
+
+        CertificateInfo testCa1CertInfoCached =
+            CertificateUtils.readCertificateInfo(CryptographyUtils.PROVIDER_HELPER, testCa1CertData, CertificateType.X509, DataEncoding.DER, testCertCache);
+
+        Assert.assertEquals(testCertCache.getHits(), 1L, "Certificate was not read from the cache.");
+        Assert.assertNotSame(testCa1CertInfoCached, testCa1CertInfo, "Cached certificate information instance was shared.");
+        Assert.assertSame(testCa1CertInfoCached.getCertificate(), testCa1CertRead, "Cached certificate instance was not reused.");
+
+        testCa1CertInfoCached.setCertificate(null);
+
+        Assert.assertSame(testCa1CertInfo.getCertificate(), testCa1CertRead, "Certificate information was modified through another caller's instance.");
+    }
+
     @Test
     public void testGenerateCaCertificate() throws Exception {
         KeyInfo testCa1KeyPairInfo = this.keyGen.generateKeys(this.testCredConfigCa1.getKeyDescriptor());
@@ -49,10 +49,14 @@ public class CrlGeneratorUnitTests extends AbstractToolUnitTests {
 
         CrlInfo testCrlInfoCa1 = this.crlGen.generateCrl(testCa1KeyPairInfo.getPrivateKeyInfo(), testCa1KeyPairInfo.getAuthorityKeyId(), this.testCrlConfigCa1);
 
+        Assert.assertTrue(testCrlInfoCa1.hasEntry(testCrlEntrySerialNum), "CRL entry is not indexed.");
+        Assert.assertFalse(testCrlInfoCa1.hasEntry(testCrlEntrySerialNum.add(BigInteger.ONE)), "Unknown CRL entry is indexed.");
+
+        CrlEntryInfo testCrlEntryInfo = testCrlInfoCa1.getEntry(testCrlEntrySerialNum);
+
         // noinspection ConstantConditions
         Assert.assertEquals(testCrlInfoCa1.getEntries().size(), 1, "Number of CRL entries do not match.");
-
-        CrlEntryInfo testCrlEntryInfo = testCrlInfoCa1.getEntries().get(testCrlEntrySerialNum);
+        Assert.assertSame(testCrlInfoCa1.getEntries().get(testCrlEntrySerialNum), testCrlEntryInfo, "CRL entry info instances do not match.");
 
         Assert.assertEquals(testCrlEntryInfo.getSerialNumber(), testCrlEntrySerialNum, "CRL entry serial numbers do not match.");
         Assert.assertEquals(testCrlEntryInfo.getRevocationReason(), testCrlEntryConfig.getRevocationReason(), "CRL entry revocation reasons do not match.");
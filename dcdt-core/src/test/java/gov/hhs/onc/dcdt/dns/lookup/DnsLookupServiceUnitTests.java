@@ -4,27 +4,132 @@ import gov.hhs.onc.dcdt.dns.DnsException;
 import gov.hhs.onc.dcdt.dns.DnsResultType;
 import gov.hhs.onc.dcdt.dns.DnsServiceProtocol;
 import gov.hhs.onc.dcdt.dns.DnsServiceType;
+import gov.hhs.onc.dcdt.dns.lookup.impl.DnsLookupServiceImpl;
 import gov.hhs.onc.dcdt.dns.utils.ToolDnsNameUtils;
 import gov.hhs.onc.dcdt.test.impl.AbstractToolUnitTests;
+import gov.hhs.onc.dcdt.utils.ToolDateUtils;
 import gov.hhs.onc.dcdt.utils.ToolStringUtils;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Resource;
 import org.apache.commons.lang3.ArrayUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.xbill.DNS.ARecord;
 import org.xbill.DNS.CERTRecord;
 import org.xbill.DNS.CERTRecord.CertificateType;
 import org.xbill.DNS.CNAMERecord;
+import org.xbill.DNS.Cache;
+import org.xbill.DNS.DClass;
+import org.xbill.DNS.Flags;
 import org.xbill.DNS.MXRecord;
+import org.xbill.DNS.Message;
 import org.xbill.DNS.NSRecord;
 import org.xbill.DNS.Name;
 import org.xbill.DNS.Record;
+import org.xbill.DNS.Resolver;
+import org.xbill.DNS.ResolverListener;
 import org.xbill.DNS.SOARecord;
 import org.xbill.DNS.SRVRecord;
+import org.xbill.DNS.Section;
+import org.xbill.DNS.TSIG;
 
 @Test(groups = { "dcdt.test.unit.dns.all", "dcdt.test.unit.dns.lookup.all", "dcdt.test.unit.dns.lookup.service" })
 public class DnsLookupServiceUnitTests extends AbstractToolUnitTests {
+    private static class TestBlockingResolver implements Resolver {
+        private CountDownLatch releaseLatch = new CountDownLatch(1);
+        private AtomicInteger queryCount = new AtomicInteger();
+        private boolean fail;
+
+        public TestBlockingResolver(boolean fail) {
+            this.fail = fail;
+        }
+
+        @Override
+        public Message send(Message query) throws IOException {
+            this.queryCount.incrementAndGet();
+
+            try {
+                if (!this.releaseLatch.await(TEST_LOOKUP_TIMEOUT, TimeUnit.SECONDS)) {
+                    throw new InterruptedIOException("Test DNS resolver was not released.");
+                }
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException(e.getMessage());
+            }
+
+            if (this.fail) {
+                throw new IllegalStateException("Test DNS resolver failure.");
+            }
+
+            Record question = query.getQuestion();
+            Message resp = new Message(query.getHeader().getID());
+            resp.getHeader().setFlag(Flags.QR);
+            resp.getHeader().setFlag(Flags.AA);
+            resp.addRecord(question, Section.QUESTION);
+            resp.addRecord(new ARecord(question.getName(), DClass.IN, ToolDateUtils.SEC_IN_MIN, InetAddress.getByAddress(TEST_ADDR_DATA)),
+                Section.ANSWER);
+
+            return resp;
+        }
+
+        @Override
+        public Object sendAsync(Message query, ResolverListener listener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setPort(int port) {
+        }
+
+        @Override
+        public void setTCP(boolean tcp) {
+        }
+
+        @Override
+        public void setIgnoreTruncation(boolean ignoreTruncation) {
+        }
+
+        @Override
+        public void setEDNS(int level) {
+        }
+
+        @Override
+        @SuppressWarnings({ "rawtypes" })
+        public void setEDNS(int level, int payloadSize, int flags, List opts) {
+        }
+
+        @Override
+        public void setTSIGKey(TSIG key) {
+        }
+
+        @Override
+        public void setTimeout(int secs, int msecs) {
+        }
+
+        @Override
+        public void setTimeout(int secs) {
+        }
+
+        public void release() {
+            this.releaseLatch.countDown();
+        }
+
+        public int getQueryCount() {
+            return this.queryCount.get();
+        }
+    }
+
+    private final static byte[] TEST_ADDR_DATA = { 127, 0, 0, 1 };
+    private final static long TEST_LOOKUP_TIMEOUT = 5L;
+
     @Resource(name = "dnsLookupServiceExternal")
     @SuppressWarnings({ "SpringJavaAutowiringInspection" })
     private DnsLookupService dnsLookupService;
@@ -111,6 +216,97 @@ public class DnsLookupServiceUnitTests extends AbstractToolUnitTests {
         Assert.assertEquals(result.getAnswers().get(0).getTarget(), ToolDnsNameUtils.toAbsolute(this.testDnsLookupDomainSrv1));
     }
 
+    @Test
+    public void testLookupRecordsAsync() throws Exception {
+        CompletableFuture<DnsLookupResult<ARecord>> lookupFuture = this.dnsLookupService.lookupARecordsAsync(this.testDnsLookupDomain1Name);
+        CompletableFuture<DnsLookupResult<ARecord>> aliasLookupFuture = this.dnsLookupService.lookupARecordsAsync(this.testDnsLookupDomainCname2);
+        CompletableFuture<DnsLookupResult<CERTRecord>> certLookupFuture = this.dnsLookupService.lookupCertRecordsAsync(this.testDnsLookupDomain1Name);
+
+        DnsLookupResult<ARecord> result = assertResultValid(lookupFuture.get(TEST_LOOKUP_TIMEOUT, TimeUnit.SECONDS), 1);
+        // noinspection ConstantConditions
+        Assert.assertEquals(result.getAnswers().get(0).getName(), ToolDnsNameUtils.toAbsolute(this.testDnsLookupDomain1Name));
+
+        DnsLookupResult<ARecord> aliasResult = assertResultValid(aliasLookupFuture.get(TEST_LOOKUP_TIMEOUT, TimeUnit.SECONDS), 1);
+        // noinspection ConstantConditions
+        Assert.assertEquals(aliasResult.getAnswers().get(0).getName(), ToolDnsNameUtils.toAbsolute(this.testDnsLookupDomainName2));
+        Assert.assertTrue(aliasResult.hasAliases(), "Asynchronous DNS lookup of an alias did not record the alias.");
+
+        DnsLookupResult<CERTRecord> certResult = assertResultValid(certLookupFuture.get(TEST_LOOKUP_TIMEOUT, TimeUnit.SECONDS), 2);
+        // noinspection ConstantConditions
+        Assert.assertEquals(certResult.getAnswers().get(0).getCertType(), CertificateType.PKIX);
+    }
+
+    @Test
+    public void testLookupRecordsAsyncCoalesced() throws Exception {
+        TestBlockingResolver resolver = new TestBlockingResolver(false);
+        ThreadPoolTaskExecutor taskExec = buildTaskExecutor();
+
+        try {
+            DnsLookupService dnsLookupService = buildDnsLookupService(resolver, taskExec);
+            Name name = Name.fromString("coalesced.lookup.dcdt.test.");
+            CompletableFuture<DnsLookupResult<ARecord>> lookupFuture = dnsLookupService.lookupARecordsAsync(name);
+
+            Assert.assertSame(dnsLookupService.lookupARecordsAsync(name), lookupFuture, "Concurrent identical DNS lookups were not coalesced.");
+
+            resolver.release();
+
+            assertResultValid(lookupFuture.get(TEST_LOOKUP_TIMEOUT, TimeUnit.SECONDS), 1);
+            Assert.assertEquals(resolver.getQueryCount(), 1, "Coalesced DNS lookups sent more than one query.");
+            Assert.assertNotSame(dnsLookupService.lookupARecordsAsync(name), lookupFuture, "Completed DNS lookup was not removed from the in-flight lookups.");
+        } finally {
+            resolver.release();
+            taskExec.shutdown();
+        }
+    }
+
+    @Test
+    public void testLookupRecordsAsyncFailureRemoved() throws Exception {
+        TestBlockingResolver resolver = new TestBlockingResolver(true);
+        ThreadPoolTaskExecutor taskExec = buildTaskExecutor();
+
+        try {
+            DnsLookupService dnsLookupService = buildDnsLookupService(resolver, taskExec);
+            Name name = Name.fromString("failed.lookup.dcdt.test.");
+            CompletableFuture<DnsLookupResult<ARecord>> lookupFuture = dnsLookupService.lookupARecordsAsync(name);
+
+            Assert.assertSame(dnsLookupService.lookupARecordsAsync(name), lookupFuture, "Concurrent identical DNS lookups were not coalesced.");
+
+            resolver.release();
+
+            Assert.assertFalse(lookupFuture.get(TEST_LOOKUP_TIMEOUT, TimeUnit.SECONDS).isSuccess(), "Failed DNS lookup was successful.");
+            Assert.assertEquals(resolver.getQueryCount(), 1, "Coalesced DNS lookups sent more than one query.");
+
+            CompletableFuture<DnsLookupResult<ARecord>> retryLookupFuture = dnsLookupService.lookupARecordsAsync(name);
+
+            Assert.assertNotSame(retryLookupFuture, lookupFuture, "Failed DNS lookup was not removed from the in-flight lookups.");
+
+            retryLookupFuture.get(TEST_LOOKUP_TIMEOUT, TimeUnit.SECONDS);
+
+            Assert.assertEquals(resolver.getQueryCount(), 2, "Failed DNS lookup was not retried.");
+        } finally {
+            resolver.release();
+            taskExec.shutdown();
+        }
+    }
+
+    private static DnsLookupService buildDnsLookupService(Resolver resolver, ThreadPoolTaskExecutor taskExec) {
+        DnsLookupService dnsLookupService = new DnsLookupServiceImpl();
+        dnsLookupService.setCache(new Cache());
+        dnsLookupService.setResolver(resolver);
+        dnsLookupService.setTaskExecutor(taskExec);
+
+        return dnsLookupService;
+    }
+
+    private static ThreadPoolTaskExecutor buildTaskExecutor() {
+        ThreadPoolTaskExecutor taskExec = new ThreadPoolTaskExecutor();
+        taskExec.setCorePoolSize(2);
+        taskExec.setDaemon(true);
+        taskExec.initialize();
+
+        return taskExec;
+    }
+
     private static <T extends Record> DnsLookupResult<T> assertResultValid(DnsLookupResult<T> result, int answersNum) {
         DnsResultType resultType = result.getType();
 
@@ -5,6 +5,7 @@ import gov.hhs.onc.dcdt.dns.config.SrvRecordConfig;
 import gov.hhs.onc.dcdt.test.impl.AbstractToolUnitTests;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import javax.annotation.Resource;
 import org.apache.commons.collections4.IteratorUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +16,8 @@ import org.xbill.DNS.SRVRecord;
 
 @Test(groups = { "dcdt.test.unit.dns.all", "dcdt.test.unit.dns.utils.all", "dcdt.test.unit.dns.utils.record.order" })
 public class ToolDnsRecordOrderUtilsUnitTests extends AbstractToolUnitTests {
+    private final static long SRV_RECORD_SEED = 0L;
+
     @Resource(name = "testSrvRecordConfigs")
     @SuppressWarnings({ "SpringJavaAutowiringInspection" })
     private List<SrvRecordConfig> srvRecordConfigs;
@@ -34,6 +37,17 @@ public class ToolDnsRecordOrderUtilsUnitTests extends AbstractToolUnitTests {
         Assert.assertEquals(srvRecordsOrdered.get(0).getPriority(), Math.min(this.priority1, this.priority2));
     }
 
+    @Test
+    public void testBuildSrvRecordIteratorSeeded() {
+        List<SRVRecord> srvRecordsOrdered1 = IteratorUtils.toList(ToolDnsRecordOrderUtils.buildSrvRecordIterator(this.srvRecords, new Random(SRV_RECORD_SEED)));
+        List<SRVRecord> srvRecordsOrdered2 = IteratorUtils.toList(ToolDnsRecordOrderUtils.buildSrvRecordIterator(this.srvRecords, new Random(SRV_RECORD_SEED)));
+        Assert.assertEquals(srvRecordsOrdered1, srvRecordsOrdered2);
+
+        for (int a = 1; a < srvRecordsOrdered1.size(); a++) {
+            Assert.assertTrue((srvRecordsOrdered1.get((a - 1)).getPriority() <= srvRecordsOrdered1.get(a).getPriority()));
+        }
+    }
+
     @BeforeClass
     public void createSrvRecords() throws DnsException {
         this.srvRecords = new ArrayList<>(this.srvRecordConfigs.size());
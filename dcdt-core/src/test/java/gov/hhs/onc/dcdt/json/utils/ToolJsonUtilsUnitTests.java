@@ -4,13 +4,17 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonSubTypes.Type;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.github.sebhoss.warnings.CompilerWarnings;
 import gov.hhs.onc.dcdt.beans.ToolBean;
 import gov.hhs.onc.dcdt.beans.impl.AbstractToolBean;
+import gov.hhs.onc.dcdt.beans.utils.ToolBeanFactoryUtils;
 import gov.hhs.onc.dcdt.json.ToolJsonException;
+import gov.hhs.onc.dcdt.json.ToolTypeNameIdResolver;
 import gov.hhs.onc.dcdt.json.impl.ToolObjectMapper;
 import gov.hhs.onc.dcdt.mail.MailAddress;
 import gov.hhs.onc.dcdt.mail.impl.MailAddressImpl;
 import gov.hhs.onc.dcdt.test.impl.AbstractToolUnitTests;
+import gov.hhs.onc.dcdt.utils.ToolAnnotationUtils;
 import gov.hhs.onc.dcdt.utils.ToolStringUtils;
 import java.net.InetAddress;
 import org.apache.commons.lang3.StringUtils;
@@ -97,11 +101,35 @@ public class ToolJsonUtilsUnitTests extends AbstractToolUnitTests {
     @Test(dependsOnMethods = { "testToJson" })
     public void testFromJson() throws ToolJsonException {
         ToolTestJsonBean testJsonBeanDeserialized = ToolJsonUtils.fromJson(this.objMapper, this.testJsonBeanJson, ToolTestJsonBean.class);
+        Assert.assertEquals(testJsonBeanDeserialized.getClass(), ToolTestJsonBeanImpl.class, "Types do not match.");
         Assert.assertEquals(testJsonBeanDeserialized.getDomainName(), this.testJsonBean.getDomainName(), "Domain names do not match.");
         Assert.assertEquals(testJsonBeanDeserialized.getIpAddress(), this.testJsonBean.getIpAddress(), "IP addresses do not match.");
         Assert.assertEquals(testJsonBeanDeserialized.getMailAddress(), this.testJsonBean.getMailAddress(), "Mail addresses do not match.");
     }
 
+    @Test(dependsOnMethods = { "testToJson" })
+    @SuppressWarnings({ CompilerWarnings.DEPRECATION })
+    public void testTypeIds() {
+        ToolTypeNameIdResolver typeNameIdResolver =
+            ToolBeanFactoryUtils.createBeanOfType(this.applicationContext, ToolTypeNameIdResolver.class, ToolTestJsonBean.class);
+        Class<?> beanClass;
+        String typeId;
+
+        for (ToolTestJsonBean bean : ToolBeanFactoryUtils.getBeansOfType(this.applicationContext, ToolTestJsonBean.class)) {
+            if ((typeId = ToolAnnotationUtils.getValue(JsonTypeName.class, String.class, (beanClass = bean.getClass()))) == null) {
+                continue;
+            }
+
+            Assert.assertEquals(typeNameIdResolver.idFromType(beanClass), typeId, String.format("Type ID (class=%s) does not match.", beanClass.getName()));
+            Assert.assertEquals(typeNameIdResolver.typeFromId(typeId).getRawClass(), beanClass, String.format("Type (id=%s) does not match.", typeId));
+        }
+
+        this.assertJsonContainsStringValue(typeNameIdResolver.idFromValue(this.testJsonBean));
+
+        Assert.assertEquals(typeNameIdResolver.typeFromId(StringUtils.EMPTY).getRawClass(), ToolTestJsonBean.class,
+            "Unknown type ID does not resolve to the base type.");
+    }
+
     @Test
     public void testToJson() throws ToolJsonException {
         this.testJsonBeanJson = ToolJsonUtils.toJson(this.objMapper, this.testJsonBean);
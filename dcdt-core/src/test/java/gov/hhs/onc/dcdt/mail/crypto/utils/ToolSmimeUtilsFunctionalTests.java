@@ -15,6 +15,7 @@ import gov.hhs.onc.dcdt.crypto.keys.KeyInfo;
 import gov.hhs.onc.dcdt.crypto.keys.KeyType;
 import gov.hhs.onc.dcdt.crypto.keys.impl.KeyInfoImpl;
 import gov.hhs.onc.dcdt.crypto.utils.CertificateUtils;
+import gov.hhs.onc.dcdt.crypto.utils.CryptographyUtils;
 import gov.hhs.onc.dcdt.crypto.utils.KeyUtils;
 import gov.hhs.onc.dcdt.mail.MailAddress;
 import gov.hhs.onc.dcdt.mail.MailContentTypes;
@@ -35,11 +36,16 @@ import gov.hhs.onc.dcdt.utils.ToolCollectionUtils;
 import gov.hhs.onc.dcdt.utils.ToolListUtils;
 import gov.hhs.onc.dcdt.utils.ToolMapUtils;
 import gov.hhs.onc.dcdt.utils.ToolStringUtils;
+import io.netty.util.CharsetUtil;
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.cert.X509Certificate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -52,6 +58,16 @@ import javax.mail.internet.MimeBodyPart;
 import javax.mail.internet.MimeMultipart;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.collections4.comparators.FixedOrderComparator;
+import org.bouncycastle.cert.jcajce.JcaCertStore;
+import org.bouncycastle.cms.CMSSignerDigestMismatchException;
+import org.bouncycastle.cms.SignerId;
+import org.bouncycastle.cms.SignerInformation;
+import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoGeneratorBuilder;
+import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoVerifierBuilder;
+import org.bouncycastle.mail.smime.SMIMESigned;
+import org.bouncycastle.mail.smime.SMIMESignedGenerator;
+import org.bouncycastle.mail.smime.SMIMESignedParser;
+import org.bouncycastle.mail.smime.util.FileBackedMimeBodyPart;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.util.MimeType;
@@ -115,6 +131,32 @@ public class ToolSmimeUtilsFunctionalTests extends AbstractToolFunctionalTests {
             this.testFromAddr, this.testSignerCredInfo, this.testTargetCertInfo)), true, this.testTargetCred);
     }
 
+    @Test
+    public void testDecryptVerifyMailStreaming() throws IOException, MessagingException {
+        MailInfo testMailInfo = this.createSignedAndEncryptedMessage(this.testToAddr, this.testFromAddr, this.testSignerCredInfo, this.testTargetCertInfo);
+        File testSpillDir = new File(System.getProperty("java.io.tmpdir"));
+        // noinspection ConstantConditions
+        FileBackedMimeBodyPart testDecryptedBodyPart =
+            ToolSmimeUtils.decrypt(testMailInfo, ToolSmimeUtils.getEnvelopedParser(testMailInfo), this.testTargetCred.getCredentialInfo().getKeyDescriptor()
+                .getPrivateKey(), this.testTargetCertInfo.getCertificate(), testSpillDir);
+
+        Assert.assertNotNull(testDecryptedBodyPart, "Mail MIME message enveloped content was not decrypted.");
+
+        try {
+            SMIMESignedParser testSignedParser = ToolSmimeUtils.getSignedParser(testMailInfo, testDecryptedBodyPart, testSpillDir);
+
+            try {
+                // noinspection ConstantConditions
+                Assert.assertEquals(ToolListUtils.getFirst(new ArrayList<>(ToolSmimeUtils.verifySignatures(testSignedParser).values())).getCertificate(),
+                    this.testSignerCredInfo.getCertificateDescriptor().getCertificate(), "Mail MIME message signer certificates do not match.");
+            } finally {
+                ToolSmimeUtils.dispose(testSignedParser.getContent());
+            }
+        } finally {
+            ToolSmimeUtils.dispose(testDecryptedBodyPart);
+        }
+    }
+
     @Test
     public void testDecryptMailPkcs7MimeEncryptedWithWrongCertificate() throws IOException, MessagingException {
         this.assertDiscoveryTestcaseResultProperties(this.processDiscoveryTestcaseSubmission(this.createSignedAndEncryptedMessage(this.testToAddr,
@@ -148,6 +190,55 @@ public class ToolSmimeUtilsFunctionalTests extends AbstractToolFunctionalTests {
             null);
     }
 
+    @Test
+    public void testVerifySignaturesCachedVerifier() throws Exception {
+        // noinspection ConstantConditions
+        SMIMESigned testSigned =
+            new SMIMESigned(ToolSmimeUtils.sign(new MailInfoImpl(this.createMimeMessage(this.testToAddr, this.testFromAddr), MailEncoding.UTF_8),
+                this.testSignerCredInfo.getKeyDescriptor().getPrivateKey(), this.testSignerCredInfo.getCertificateDescriptor().getCertificate()));
+
+        this.assertSignerCertificate(ToolSmimeUtils.verifySignatures(testSigned));
+
+        long verifierCacheHits = ToolSmimeUtils.SIGNER_INFO_VERIFIER_CACHE.getHits(), verifierCacheMisses =
+            ToolSmimeUtils.SIGNER_INFO_VERIFIER_CACHE.getMisses();
+
+        this.assertSignerCertificate(ToolSmimeUtils.verifySignatures(testSigned));
+
+        Assert.assertEquals(ToolSmimeUtils.SIGNER_INFO_VERIFIER_CACHE.getHits(), (verifierCacheHits + 1),
+            "Signer information verifier was not reused from the cache.");
+        Assert.assertEquals(ToolSmimeUtils.SIGNER_INFO_VERIFIER_CACHE.getMisses(), verifierCacheMisses,
+            "Signer information verifier was built again for the same signer.");
+    }
+
+    @Test
+    public void testVerifySignaturesDigestMismatch() throws Exception {
+        // noinspection ConstantConditions
+        X509Certificate testSignerCert = this.testSignerCredInfo.getCertificateDescriptor().getCertificate();
+        SMIMESignedGenerator testSigner = new SMIMESignedGenerator();
+        testSigner.addCertificates(new JcaCertStore(Collections.singletonList(testSignerCert)));
+        // noinspection ConstantConditions
+        testSigner.addSignerInfoGenerator(new JcaSimpleSignerInfoGeneratorBuilder().setProvider(CryptographyUtils.PROVIDER).build(
+            this.testSignerCredInfo.getCertificateDescriptor().getSignatureAlgorithm().getId(), this.testSignerCredInfo.getKeyDescriptor().getPrivateKey(),
+            testSignerCert));
+
+        // Signing content whose header has no space after the colon, then presenting it with one, so that only the canonicalized digest matches.
+        MimeMultipart testSignedMultipart = testSigner.generate(this.createTextBodyPart("Content-Type:text/plain"));
+        SMIMESigned testSigned =
+            new SMIMESigned(new MimeMultipart(testSignedMultipart.getContentType().substring(MailContentTypes.MULTIPART_TYPE.length() + 1),
+                this.createTextBodyPart("Content-Type: text/plain"), testSignedMultipart.getBodyPart(1)));
+        SignerInformation testSignerInfo = ToolListUtils.getFirst(new ArrayList<>(ToolSmimeUtils.mapSigners(testSigned).values()));
+
+        try {
+            // noinspection ConstantConditions
+            testSignerInfo.verify(new JcaSimpleSignerInfoVerifierBuilder().setProvider(CryptographyUtils.PROVIDER).build(testSignerCert));
+
+            Assert.fail("Signed content digest should not have matched the signer message digest.");
+        } catch (CMSSignerDigestMismatchException ignored) {
+        }
+
+        this.assertSignerCertificate(ToolSmimeUtils.verifySignatures(testSigned));
+    }
+
     @Test(dependsOnMethods = { "testMimeTypeParamOrder" })
     public void testIsMultipartSigned() {
         Assert.assertTrue(ToolSmimeContentTypeUtils.isMultipartSigned(this.testMultipartSignedMimeType));
@@ -283,6 +374,17 @@ public class ToolSmimeUtilsFunctionalTests extends AbstractToolFunctionalTests {
         return msg;
     }
 
+    private MimeBodyPart createTextBodyPart(String contentTypeHeaderLine) throws MessagingException {
+        return new MimeBodyPart(new ByteArrayInputStream((contentTypeHeaderLine + "\r\n\r\n" + this.testToAddr.toAddress() + "\r\n")
+            .getBytes(CharsetUtil.US_ASCII)));
+    }
+
+    private void assertSignerCertificate(Map<SignerId, CertificateInfo> signerCertMap) {
+        // noinspection ConstantConditions
+        Assert.assertEquals(ToolListUtils.getFirst(new ArrayList<>(signerCertMap.values())).getCertificate(), this.testSignerCredInfo
+            .getCertificateDescriptor().getCertificate(), "Mail MIME message signer certificates do not match.");
+    }
+
     private static Map<String, String> reverseParameterOrder(MimeType mimeType) {
         Map<String, String> params = mimeType.getParameters();
 
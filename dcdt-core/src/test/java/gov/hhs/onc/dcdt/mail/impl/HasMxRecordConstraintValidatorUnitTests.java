@@ -0,0 +1,184 @@
+package gov.hhs.onc.dcdt.mail.impl;
+
+import gov.hhs.onc.dcdt.dns.DnsRecordType;
+import gov.hhs.onc.dcdt.dns.DnsResultType;
+import gov.hhs.onc.dcdt.dns.lookup.DnsLookupResult;
+import gov.hhs.onc.dcdt.dns.lookup.DnsLookupService;
+import gov.hhs.onc.dcdt.dns.lookup.impl.DnsLookupResultImpl;
+import gov.hhs.onc.dcdt.mail.impl.HasMxRecordConstraintValidator.MxRecordCheckResultType;
+import gov.hhs.onc.dcdt.test.impl.AbstractToolUnitTests;
+import gov.hhs.onc.dcdt.utils.ToolDateUtils;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.xbill.DNS.ARecord;
+import org.xbill.DNS.DClass;
+import org.xbill.DNS.MXRecord;
+import org.xbill.DNS.Name;
+import org.xbill.DNS.Record;
+
+@Test(groups = { "dcdt.test.unit.mail.all", "dcdt.test.unit.mail.validation.all", "dcdt.test.unit.mail.validation.mx" })
+public class HasMxRecordConstraintValidatorUnitTests extends AbstractToolUnitTests {
+    private static class TestDnsLookupServiceHandler implements InvocationHandler {
+        private Map<Name, DnsLookupResult<MXRecord>> mxRecordLookupResults = new ConcurrentHashMap<>();
+        private Map<Name, DnsLookupResult<ARecord>> aRecordLookupResults = new ConcurrentHashMap<>();
+        private Map<Name, AtomicInteger> lookupCounts = new ConcurrentHashMap<>();
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Name name = ((Name) args[0]);
+
+            this.lookupCounts.computeIfAbsent(name, lookupCountName -> new AtomicInteger()).incrementAndGet();
+
+            switch (method.getName()) {
+                case "lookupMxRecords":
+                    return this.mxRecordLookupResults.get(name);
+
+                case "lookupARecords":
+                    return this.aRecordLookupResults.get(name);
+
+                case "lookupARecordsAsync":
+                    return (this.aRecordLookupResults.containsKey(name) ? CompletableFuture.completedFuture(this.aRecordLookupResults.get(name))
+                        : new CompletableFuture<DnsLookupResult<ARecord>>());
+
+                default:
+                    throw new UnsupportedOperationException(String.format("Unsupported test DNS lookup service method: %s", method.getName()));
+            }
+        }
+
+        public int getLookupCount(Name name) {
+            return (this.lookupCounts.containsKey(name) ? this.lookupCounts.get(name).get() : 0);
+        }
+    }
+
+    private final static byte[] TEST_ADDR_DATA = { 127, 0, 0, 1 };
+    private final static long TEST_LOOKUP_TIMEOUT = 1L;
+    private final static long TEST_RECORD_TTL = ToolDateUtils.SEC_IN_MIN * 5;
+    private final static long TEST_RECORD_TTL_SHORT = 1L;
+
+    private TestDnsLookupServiceHandler testDnsLookupServiceHandler;
+    private HasMxRecordConstraintValidator validator;
+
+    @DataProvider(name = "mxRecordLookupResultTypesAuthoritative")
+    public Object[][] getMxRecordLookupResultTypesAuthoritative() {
+        return new Object[][] { { DnsResultType.HOST_NOT_FOUND }, { DnsResultType.TYPE_NOT_FOUND } };
+    }
+
+    @DataProvider(name = "mxRecordLookupResultTypesTransient")
+    public Object[][] getMxRecordLookupResultTypesTransient() {
+        return new Object[][] { { DnsResultType.TRY_AGAIN }, { DnsResultType.UNRECOVERABLE } };
+    }
+
+    @Test
+    public void testCacheHit() throws Exception {
+        Name domainName = this.addMxRecord("cache-hit", TEST_RECORD_TTL);
+
+        Assert.assertEquals(this.validator.findMxRecordCheckResultType(domainName), MxRecordCheckResultType.VALID);
+        Assert.assertEquals(this.validator.findMxRecordCheckResultType(domainName), MxRecordCheckResultType.VALID);
+        Assert.assertEquals(this.testDnsLookupServiceHandler.getLookupCount(domainName), 1,
+            String.format("Cached MX record check result (domainName=%s) was not reused.", domainName));
+    }
+
+    @Test
+    public void testCacheExpiry() throws Exception {
+        Name domainName = this.addMxRecord("cache-expiry", TEST_RECORD_TTL_SHORT);
+
+        Assert.assertEquals(this.validator.findMxRecordCheckResultType(domainName), MxRecordCheckResultType.VALID);
+
+        Thread.sleep(((TEST_RECORD_TTL_SHORT * ToolDateUtils.MS_IN_SEC) + (ToolDateUtils.MS_IN_SEC / 10)));
+
+        Assert.assertEquals(this.validator.findMxRecordCheckResultType(domainName), MxRecordCheckResultType.VALID);
+        Assert.assertEquals(this.testDnsLookupServiceHandler.getLookupCount(domainName), 2,
+            String.format("Expired MX record check result (domainName=%s) was reused.", domainName));
+    }
+
+    @Test(dataProvider = "mxRecordLookupResultTypesAuthoritative")
+    public void testNegativeCacheAuthoritative(DnsResultType mxRecordLookupResultType) throws Exception {
+        Name domainName = this.addMxRecordLookupResult(("negative-" + mxRecordLookupResultType.name().toLowerCase()), mxRecordLookupResultType);
+
+        Assert.assertEquals(this.validator.findMxRecordCheckResultType(domainName), MxRecordCheckResultType.NO_RECORDS);
+        Assert.assertEquals(this.validator.findMxRecordCheckResultType(domainName), MxRecordCheckResultType.NO_RECORDS);
+        Assert.assertEquals(this.testDnsLookupServiceHandler.getLookupCount(domainName), 1,
+            String.format("Authoritative negative MX record check result (domainName=%s, type=%s) was not cached.", domainName, mxRecordLookupResultType));
+    }
+
+    @Test(dataProvider = "mxRecordLookupResultTypesTransient")
+    public void testNegativeCacheTransient(DnsResultType mxRecordLookupResultType) throws Exception {
+        Name domainName = this.addMxRecordLookupResult(("transient-" + mxRecordLookupResultType.name().toLowerCase()), mxRecordLookupResultType);
+
+        Assert.assertEquals(this.validator.findMxRecordCheckResultType(domainName), MxRecordCheckResultType.NO_RECORDS);
+        Assert.assertEquals(this.validator.findMxRecordCheckResultType(domainName), MxRecordCheckResultType.NO_RECORDS);
+        Assert.assertEquals(this.testDnsLookupServiceHandler.getLookupCount(domainName), 2,
+            String.format("Transient MX record check result (domainName=%s, type=%s) was cached.", domainName, mxRecordLookupResultType));
+
+        this.addMxRecord(domainName, TEST_RECORD_TTL);
+
+        Assert.assertEquals(this.validator.findMxRecordCheckResultType(domainName), MxRecordCheckResultType.VALID);
+    }
+
+    @Test
+    public void testTargetLookupTimeout() throws Exception {
+        Name domainName = buildDomainName("target-timeout");
+
+        this.testDnsLookupServiceHandler.mxRecordLookupResults.put(domainName, new DnsLookupResultImpl<>(DnsRecordType.MX, MXRecord.class, domainName,
+            DnsResultType.SUCCESSFUL, null, Arrays.<Record> asList(new MXRecord(domainName, DClass.IN, TEST_RECORD_TTL, 10, Name.fromString("mail1",
+                domainName)), new MXRecord(domainName, DClass.IN, TEST_RECORD_TTL, 20, Name.fromString("mail2", domainName)))));
+
+        long startTime = System.currentTimeMillis();
+
+        Assert.assertEquals(this.validator.findMxRecordCheckResultType(domainName), MxRecordCheckResultType.NO_TARGETS);
+        Assert.assertTrue(((System.currentTimeMillis() - startTime) < (TEST_LOOKUP_TIMEOUT * ToolDateUtils.MS_IN_SEC * 2)),
+            String.format("MX record (domainName=%s) target lookups were not bounded by the lookup timeout.", domainName));
+        Assert.assertEquals(this.validator.findMxRecordCheckResultType(domainName), MxRecordCheckResultType.NO_TARGETS);
+        Assert.assertEquals(this.testDnsLookupServiceHandler.getLookupCount(domainName), 2,
+            String.format("Timed out MX record check result (domainName=%s) was cached.", domainName));
+    }
+
+    @BeforeMethod
+    public void initializeValidator() {
+        this.testDnsLookupServiceHandler = new TestDnsLookupServiceHandler();
+        this.validator =
+            new HasMxRecordConstraintValidator(((DnsLookupService) Proxy.newProxyInstance(DnsLookupService.class.getClassLoader(),
+                new Class<?>[] { DnsLookupService.class }, this.testDnsLookupServiceHandler)), TEST_LOOKUP_TIMEOUT);
+    }
+
+    private Name addMxRecordLookupResult(String domainNameLabel, DnsResultType mxRecordLookupResultType) throws Exception {
+        Name domainName = buildDomainName(domainNameLabel);
+
+        this.testDnsLookupServiceHandler.mxRecordLookupResults.put(domainName, new DnsLookupResultImpl<>(DnsRecordType.MX, MXRecord.class, domainName,
+            mxRecordLookupResultType));
+
+        return domainName;
+    }
+
+    private Name addMxRecord(String domainNameLabel, long ttl) throws Exception {
+        return this.addMxRecord(buildDomainName(domainNameLabel), ttl);
+    }
+
+    private Name addMxRecord(Name domainName, long ttl) throws Exception {
+        Name targetName = Name.fromString("mail", domainName);
+
+        this.testDnsLookupServiceHandler.mxRecordLookupResults.put(domainName, new DnsLookupResultImpl<>(DnsRecordType.MX, MXRecord.class, domainName,
+            DnsResultType.SUCCESSFUL, null, Collections.<Record> singletonList(new MXRecord(domainName, DClass.IN, ttl, 10, targetName))));
+        this.testDnsLookupServiceHandler.aRecordLookupResults.put(targetName, new DnsLookupResultImpl<>(DnsRecordType.A, ARecord.class, targetName,
+            DnsResultType.SUCCESSFUL, null, Collections.<Record> singletonList(new ARecord(targetName, DClass.IN, ttl, InetAddress
+                .getByAddress(TEST_ADDR_DATA)))));
+
+        return domainName;
+    }
+
+    private static Name buildDomainName(String domainNameLabel) throws Exception {
+        return Name.fromString(String.format("%s.%d.mx.dcdt.test.", domainNameLabel, System.nanoTime()));
+    }
+}
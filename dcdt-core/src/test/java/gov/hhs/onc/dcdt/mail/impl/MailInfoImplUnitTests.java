@@ -0,0 +1,121 @@
+package gov.hhs.onc.dcdt.mail.impl;
+
+import gov.hhs.onc.dcdt.mail.MailAddress;
+import gov.hhs.onc.dcdt.mail.MailEncoding;
+import gov.hhs.onc.dcdt.mail.MailInfo;
+import gov.hhs.onc.dcdt.mail.MailRecipientType;
+import gov.hhs.onc.dcdt.mail.utils.ToolMailSessionUtils;
+import gov.hhs.onc.dcdt.test.impl.AbstractToolUnitTests;
+import io.netty.util.CharsetUtil;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+@Test(groups = { "dcdt.test.unit.mail.all", "dcdt.test.unit.mail.info" })
+public class MailInfoImplUnitTests extends AbstractToolUnitTests {
+    private static class TestToolMimeMessage extends ToolMimeMessage {
+        private AtomicInteger saveCount = new AtomicInteger();
+
+        public TestToolMimeMessage(Session session, byte ... data) throws MessagingException {
+            super(session, data);
+        }
+
+        @Override
+        public void saveChanges(boolean overrideMsgId) throws MessagingException {
+            this.saveCount.incrementAndGet();
+
+            super.saveChanges(overrideMsgId);
+        }
+    }
+
+    private final static String TEST_MSG_ID_HEADER = "Message-ID: <test1@direct.example.com>\r\n";
+    private final static String TEST_MSG_HEADERS = "MIME-Version: 1.0\r\nDate: Mon, 19 Oct 2026 00:00:00 +0000\r\nFrom: from@direct.example.com\r\n"
+        + "To: to1@direct.example.com\r\nCc: cc1@direct.example.com, cc2@direct.example.com\r\nReply-To: reply1@direct.example.com\r\nSubject: test1\r\n"
+        + "Content-Type: text/plain; charset=us-ascii\r\nContent-Transfer-Encoding: 7bit\r\n\r\ntest1 body\r\n";
+
+    private final static MailAddress TEST_TO_ADDR = new MailAddressImpl("to1@direct.example.com");
+    private final static MailAddress TEST_TO_ADDR_2 = new MailAddressImpl("to2@direct.example.com");
+    private final static MailAddress TEST_CC_ADDR = new MailAddressImpl("cc1@direct.example.com");
+    private final static MailAddress TEST_REPLY_TO_ADDR = new MailAddressImpl("reply1@direct.example.com");
+
+    private Session mailSession;
+
+    @BeforeClass
+    public void setupMailSession() {
+        this.mailSession = ToolMailSessionUtils.buildSession();
+    }
+
+    @Test
+    public void testParseOnDemand() throws Exception {
+        MailInfo mailInfo = new MailInfoImpl(new ToolMimeMessage(this.mailSession, buildData(true)), MailEncoding.UTF_8);
+
+        Assert.assertEquals(mailInfo.getTo(), TEST_TO_ADDR, "Mail To addresses are not equal.");
+
+        MailAddress[] ccAddrs = mailInfo.getRecipients(MailRecipientType.CC);
+
+        Assert.assertNotNull(ccAddrs, "Mail Cc addresses were not parsed.");
+        Assert.assertEquals(ccAddrs.length, 2, "Number of mail Cc addresses is not equal.");
+        Assert.assertEquals(ccAddrs[0], TEST_CC_ADDR, "Mail Cc addresses are not equal.");
+        Assert.assertFalse(mailInfo.hasRecipients(MailRecipientType.BCC), "Mail message should not have Bcc addresses.");
+        Assert.assertEquals(mailInfo.getRecipients().size(), 2, "Number of mail recipient types is not equal.");
+        Assert.assertEquals(mailInfo.getReplyTo(), new MailAddress[] { TEST_REPLY_TO_ADDR }, "Mail Reply-To addresses are not equal.");
+        Assert.assertEquals(mailInfo.getText(), "test1 body\r\n", "Mail text is not equal.");
+    }
+
+    @Test
+    public void testParseMemoized() throws Exception {
+        MailInfo mailInfo = new MailInfoImpl(new ToolMimeMessage(this.mailSession, buildData(true)), MailEncoding.UTF_8);
+
+        Assert.assertSame(mailInfo.getRecipients(MailRecipientType.TO), mailInfo.getRecipients(MailRecipientType.TO),
+            "Mail To addresses were parsed more than once.");
+        Assert.assertSame(mailInfo.getReplyTo(), mailInfo.getReplyTo(), "Mail Reply-To addresses were parsed more than once.");
+        Assert.assertSame(mailInfo.getText(), mailInfo.getText(), "Mail text was parsed more than once.");
+    }
+
+    @Test
+    public void testSetRecipients() throws Exception {
+        MailInfo mailInfo = new MailInfoImpl(new ToolMimeMessage(this.mailSession, buildData(true)), MailEncoding.UTF_8);
+
+        mailInfo.setTo(TEST_TO_ADDR_2);
+
+        Assert.assertEquals(mailInfo.getTo(), TEST_TO_ADDR_2, "Mail To addresses are not equal after being set.");
+        Assert.assertEquals(mailInfo.getMessage().getHeader("To", null), TEST_TO_ADDR_2.toAddress(), "Mail message To header was not set.");
+
+        mailInfo.setRecipients(MailRecipientType.CC);
+
+        Assert.assertFalse(mailInfo.hasRecipients(MailRecipientType.CC), "Mail Cc addresses were not removed.");
+        Assert.assertNull(mailInfo.getMessage().getHeader("Cc"), "Mail message Cc header was not removed.");
+        Assert.assertEquals(mailInfo.getRecipients().size(), 1, "Number of mail recipient types is not equal after being set.");
+
+        MailAddress[] replyToAddrs = new MailAddress[] { TEST_TO_ADDR };
+
+        mailInfo.setReplyTo(replyToAddrs);
+
+        Assert.assertSame(mailInfo.getReplyTo(), replyToAddrs, "Mail Reply-To addresses were re-parsed after being set.");
+    }
+
+    @Test
+    public void testSaveChangesSkipped() throws Exception {
+        byte[] data = buildData(true);
+        TestToolMimeMessage msg = new TestToolMimeMessage(this.mailSession, data);
+
+        new MailInfoImpl(msg, MailEncoding.UTF_8);
+
+        Assert.assertEquals(msg.saveCount.get(), 0, "Parsed mail message with a message ID should not have been saved.");
+        Assert.assertSame(msg.getData(), data, "Parsed mail message data was not reused.");
+
+        msg = new TestToolMimeMessage(this.mailSession, buildData(false));
+
+        MailInfo mailInfo = new MailInfoImpl(msg, MailEncoding.UTF_8);
+
+        Assert.assertEquals(msg.saveCount.get(), 1, "Parsed mail message without a message ID should have been saved.");
+        Assert.assertTrue(mailInfo.hasMessageId(), "Parsed mail message without a message ID was not assigned one.");
+    }
+
+    private static byte[] buildData(boolean msgId) {
+        return ((msgId ? TEST_MSG_ID_HEADER : "") + TEST_MSG_HEADERS).getBytes(CharsetUtil.US_ASCII);
+    }
+}
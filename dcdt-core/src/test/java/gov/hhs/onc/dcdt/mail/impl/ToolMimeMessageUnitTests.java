@@ -0,0 +1,105 @@
+package gov.hhs.onc.dcdt.mail.impl;
+
+import gov.hhs.onc.dcdt.mail.utils.ToolMailSessionUtils;
+import gov.hhs.onc.dcdt.test.impl.AbstractToolUnitTests;
+import io.netty.util.CharsetUtil;
+import javax.mail.Session;
+import org.apache.commons.lang3.StringUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+@Test(groups = { "dcdt.test.unit.mail.all", "dcdt.test.unit.mail.msg" })
+public class ToolMimeMessageUnitTests extends AbstractToolUnitTests {
+    private final static String TEST_MSG_HEADERS = "MIME-Version: 1.0\r\nDate: Mon, 19 Oct 2026 00:00:00 +0000\r\nMessage-ID: <test1@direct.example.com>\r\n"
+        + "From: from@direct.example.com\r\nTo: to@direct.example.com\r\nSubject: test1\r\nContent-Type: text/plain; charset=us-ascii\r\n"
+        + "Content-Transfer-Encoding: 7bit\r\n\r\n";
+    private final static String TEST_MSG_BODY = "test1 body\r\n";
+    private final static String TEST_MSG_SUBJECT = "test2";
+    private final static String TEST_MSG_TEXT = "test2 body";
+
+    private Session mailSession;
+
+    @BeforeClass
+    public void setupMailSession() {
+        this.mailSession = ToolMailSessionUtils.buildSession();
+    }
+
+    @Test
+    public void testSaveChangesReusesData() throws Exception {
+        byte[] data = buildData(TEST_MSG_BODY);
+        ToolMimeMessage msg = new ToolMimeMessage(this.mailSession, data);
+
+        Assert.assertSame(msg.getData(), data, "Mail MIME message data was not the parsed data.");
+
+        msg.saveChanges();
+
+        Assert.assertSame(msg.getData(), data, "Mail MIME message data was not reused after saving unchanged headers.");
+
+        msg.setHeader("MIME-Version", "1.0");
+        msg.removeHeader("Cc");
+
+        Assert.assertSame(msg.getData(), data, "Mail MIME message data was not reused after setting an unchanged header or removing an absent one.");
+    }
+
+    @Test
+    public void testHeaderChangeInvalidatesData() throws Exception {
+        byte[] data = buildData(TEST_MSG_BODY);
+        ToolMimeMessage msg = new ToolMimeMessage(this.mailSession, data);
+
+        msg.setSubject(TEST_MSG_SUBJECT);
+        msg.saveChanges();
+
+        byte[] dataUpdated = msg.getData();
+
+        Assert.assertNotSame(dataUpdated, data, "Mail MIME message data was reused after a header changed.");
+        // noinspection ConstantConditions
+        Assert.assertTrue(new String(dataUpdated, CharsetUtil.US_ASCII).contains(("Subject: " + TEST_MSG_SUBJECT)),
+            String.format("Mail MIME message data does not contain the updated subject (subject=%s).", TEST_MSG_SUBJECT));
+
+        msg.removeHeader("To");
+
+        Assert.assertNotSame(msg.getData(), dataUpdated, "Mail MIME message data was reused after a header was removed.");
+    }
+
+    @Test
+    public void testContentChangeInvalidatesData() throws Exception {
+        byte[] data = buildData(TEST_MSG_BODY);
+        ToolMimeMessage msg = new ToolMimeMessage(this.mailSession, data);
+
+        msg.setText(TEST_MSG_TEXT);
+        msg.saveChanges();
+
+        byte[] dataUpdated = msg.getData();
+
+        Assert.assertNotSame(dataUpdated, data, "Mail MIME message data was reused after its content changed.");
+        // noinspection ConstantConditions
+        Assert.assertTrue(new String(dataUpdated, CharsetUtil.US_ASCII).contains(TEST_MSG_TEXT),
+            String.format("Mail MIME message data does not contain the updated content (text=%s).", TEST_MSG_TEXT));
+    }
+
+    @Test
+    public void testToString() throws Exception {
+        byte[] data = buildData(TEST_MSG_BODY);
+
+        Assert.assertEquals(new ToolMimeMessage(this.mailSession, data).toString(), new String(data, CharsetUtil.US_ASCII),
+            "Mail MIME message string is not equal to its data.");
+
+        data = buildData((StringUtils.repeat('a', 998) + "\r\n"), ((ToolMimeMessage.DATA_STR_LEN_MAX / 1000) + 1));
+
+        String msgStr = new ToolMimeMessage(this.mailSession, data).toString();
+
+        Assert.assertTrue(msgStr.startsWith(new String(data, 0, ToolMimeMessage.DATA_STR_LEN_MAX, CharsetUtil.US_ASCII)),
+            "Mail MIME message string does not start with its leading data.");
+        Assert.assertTrue(msgStr.endsWith(String.format("\n... (truncated, dataLen=%d)", data.length)),
+            String.format("Mail MIME message string was not truncated (dataLen=%d).", data.length));
+    }
+
+    private static byte[] buildData(String bodyLine) {
+        return buildData(bodyLine, 1);
+    }
+
+    private static byte[] buildData(String bodyLine, int numBodyLines) {
+        return (TEST_MSG_HEADERS + StringUtils.repeat(bodyLine, numBodyLines)).getBytes(CharsetUtil.US_ASCII);
+    }
+}
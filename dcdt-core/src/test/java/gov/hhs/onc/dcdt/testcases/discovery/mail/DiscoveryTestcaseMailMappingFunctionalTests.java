@@ -2,10 +2,22 @@ package gov.hhs.onc.dcdt.testcases.discovery.mail;
 
 import gov.hhs.onc.dcdt.beans.utils.ToolBeanFactoryUtils;
 import gov.hhs.onc.dcdt.mail.MailAddress;
+import gov.hhs.onc.dcdt.mail.impl.MailAddressImpl;
 import gov.hhs.onc.dcdt.test.impl.AbstractToolFunctionalTests;
+import gov.hhs.onc.dcdt.utils.ToolClassUtils;
+import gov.hhs.onc.dcdt.utils.ToolDateUtils;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.hibernate.stat.SecondLevelCacheStatistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.util.AopTestUtils;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -13,6 +25,8 @@ import org.testng.annotations.Test;
 @Test(dependsOnGroups = { "dcdt.test.func.config.all" }, groups = { "dcdt.test.func.testcases.all", "dcdt.test.func.testcases.discovery.all",
     "dcdt.test.func.testcases.discovery.testcases", "dcdt.test.func.testcases.discovery.mail.mapping" })
 public class DiscoveryTestcaseMailMappingFunctionalTests extends AbstractToolFunctionalTests {
+    private final static long TEST_LOOKUP_TIMEOUT = ToolDateUtils.MS_IN_SEC * 10;
+
     @Autowired
     @SuppressWarnings({ "SpringJavaAutowiringInspection" })
     private DiscoveryTestcaseMailMappingRegistry discoveryTestcaseMailMappingReg;
@@ -21,6 +35,13 @@ public class DiscoveryTestcaseMailMappingFunctionalTests extends AbstractToolFun
     @SuppressWarnings({ "SpringJavaAutowiringInspection" })
     private DiscoveryTestcaseMailMappingService discoveryTestcaseMailMappingService;
 
+    @Autowired
+    @SuppressWarnings({ "SpringJavaAutowiringInspection" })
+    private DiscoveryTestcaseMailMappingDao discoveryTestcaseMailMappingDao;
+
+    @Value("${dcdt.instance.db.batch.size}")
+    private int dbBatchSize;
+
     @Value("${dcdt.test.discovery.mail.mapping.results.addr}")
     private MailAddress testMailMappingResultsAddr;
 
@@ -47,6 +68,52 @@ public class DiscoveryTestcaseMailMappingFunctionalTests extends AbstractToolFun
     }
 
     @Test(dependsOnMethods = { "testSetBeans" })
+    public void testCacheBeans() {
+        this.discoveryTestcaseMailMappingService.getBeanById(this.testMailMappingDirectAddrRm);
+
+        SecondLevelCacheStatistics beanCacheStats = this.discoveryTestcaseMailMappingDao.getBeanCacheStatistics();
+        Assert.assertNotNull(beanCacheStats, "Discovery testcase mail mapping cache statistics are not available.");
+
+        long beanCacheHitCount = beanCacheStats.getHitCount();
+
+        Assert.assertNotNull(this.discoveryTestcaseMailMappingService.getBeanById(this.testMailMappingDirectAddrRm), String.format(
+            "A discovery testcase mail mapping with a Direct address=%s should have been found.", this.testMailMappingDirectAddrRm));
+        Assert.assertTrue((beanCacheStats.getHitCount() > beanCacheHitCount),
+            String.format("Discovery testcase mail mapping (directAddr=%s) was not served from the cache.", this.testMailMappingDirectAddrRm));
+    }
+
+    @Test(dependsOnMethods = { "testCacheBeans" }, invocationCount = 100, threadPoolSize = 8)
+    public void testGetBeansConcurrent() {
+        Assert.assertEquals(this.discoveryTestcaseMailMappingService.getBeanById(this.testMailMappingDirectAddrRm).getResultsAddress(),
+            this.testMailMappingResultsAddr, "Results addresses are not equal.");
+    }
+
+    @Test(dependsOnMethods = { "testCacheBeans" })
+    public void testGetBeansDaoUnsynchronized() throws Exception {
+        Object daoTarget = AopTestUtils.getUltimateTargetObject(this.discoveryTestcaseMailMappingDao);
+        ExecutorService lookupExecutor = Executors.newSingleThreadExecutor();
+
+        try {
+            // While this thread holds the DAO's monitor, a lookup from another thread only completes if the DAO does not synchronize on itself.
+            // noinspection SynchronizationOnLocalVariableOrMethodParameter
+            synchronized (daoTarget) {
+                Future<DiscoveryTestcaseMailMapping> mailMappingFuture =
+                    lookupExecutor.submit(() -> this.discoveryTestcaseMailMappingService.getBeanById(this.testMailMappingDirectAddrRm));
+
+                try {
+                    Assert.assertEquals(mailMappingFuture.get(TEST_LOOKUP_TIMEOUT, TimeUnit.MILLISECONDS).getResultsAddress(), this.testMailMappingResultsAddr,
+                        "Results addresses are not equal.");
+                } catch (TimeoutException e) {
+                    Assert.fail(String.format("Discovery testcase mail mapping (directAddr=%s) lookup blocked on the DAO (class=%s) monitor for %d ms.",
+                        this.testMailMappingDirectAddrRm, ToolClassUtils.getName(daoTarget), TEST_LOOKUP_TIMEOUT), e);
+                }
+            }
+        } finally {
+            lookupExecutor.shutdownNow();
+        }
+    }
+
+    @Test(dependsOnMethods = { "testGetBeansConcurrent", "testGetBeansDaoUnsynchronized" })
     public void testRegisterBeans() {
         this.mailMapping.setResultsAddress(this.testMailMappingResultsAddrRm);
         this.discoveryTestcaseMailMappingReg.registerBeans(this.mailMapping);
@@ -60,6 +127,44 @@ public class DiscoveryTestcaseMailMappingFunctionalTests extends AbstractToolFun
             String.format("A discovery testcase mail mapping with a Direct address=%s should not have been found.", this.testMailMappingDirectAddrRm));
     }
 
+    @Test(dependsOnMethods = { "testRemoveBeans" })
+    public void testSetBeansBatched() {
+        // Spanning more than one JDBC batch, with a repeated Direct address that must only be written once.
+        List<DiscoveryTestcaseMailMapping> mailMappings = new ArrayList<>();
+        MailAddress directAddr;
+
+        for (int a = 0; a < ((this.dbBatchSize * 2) + 1); a++) {
+            mailMappings.add(this.createMailMapping(new MailAddressImpl(("addr-batch" + a), this.testMailMappingDirectAddrRm.getDomainNamePart()),
+                this.testMailMappingResultsAddr));
+        }
+
+        mailMappings.add(this.createMailMapping((directAddr = mailMappings.get(0).getDirectAddress()), this.testMailMappingResultsAddrRm));
+
+        Assert.assertEquals(this.discoveryTestcaseMailMappingService.setBeans(mailMappings).size(), (mailMappings.size() - 1),
+            "Number of discovery testcase mail mappings added is not equal.");
+        this.assertMailMappingProperties(directAddr, this.testMailMappingResultsAddrRm);
+        this.assertMailMappingProperties(mailMappings.get(this.dbBatchSize).getDirectAddress(), this.testMailMappingResultsAddr);
+
+        mailMappings.add(this.createMailMapping(directAddr, this.testMailMappingResultsAddr));
+
+        Assert.assertEquals(this.discoveryTestcaseMailMappingService.setBeans(mailMappings).size(), (mailMappings.size() - 2),
+            "Number of discovery testcase mail mappings updated is not equal.");
+        this.assertMailMappingProperties(directAddr, this.testMailMappingResultsAddr);
+
+        this.discoveryTestcaseMailMappingService.removeBeans(mailMappings.subList(0, (mailMappings.size() - 2)));
+        Assert.assertNull(getMailMapping(directAddr),
+            String.format("A discovery testcase mail mapping with a Direct address=%s should not have been found.", directAddr));
+    }
+
+    private DiscoveryTestcaseMailMapping createMailMapping(MailAddress directAddr, MailAddress resultsAddr) {
+        DiscoveryTestcaseMailMapping mailMapping = ToolBeanFactoryUtils.createBeanOfType(this.applicationContext, DiscoveryTestcaseMailMapping.class);
+        // noinspection ConstantConditions
+        mailMapping.setDirectAddress(directAddr);
+        mailMapping.setResultsAddress(resultsAddr);
+
+        return mailMapping;
+    }
+
     private void assertMailMappingProperties(MailAddress directAddr, MailAddress resultsAddr) {
         DiscoveryTestcaseMailMapping mailMapping = getMailMapping(directAddr);
         Assert.assertEquals(mailMapping.getDirectAddress(), directAddr, "Direct addresses are not equal.");
@@ -0,0 +1,58 @@
+package gov.hhs.onc.dcdt.utils;
+
+import gov.hhs.onc.dcdt.test.impl.AbstractToolUnitTests;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.stream.LongStream;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+@Test(groups = { "dcdt.test.unit.utils.all", "dcdt.test.unit.utils.dates" })
+public class ToolDateUtilsUnitTests extends AbstractToolUnitTests {
+    // @formatter:off
+    /*
+    Example dates taken from:
+    - RFC 5322 - Internet Message Format - Examples, Appendix A (http://tools.ietf.org/html/rfc5322#appendix-A)
+    */
+    // @formatter:on
+    @DataProvider(name = "rfc5322Dates")
+    public Object[][] getRfc5322Dates() {
+        return new Object[][] { { "Fri, 21 Nov 1997 09:55:06 -0600", "1997-11-21T15:55:06Z" }, { "21 Nov 1997 09:55:06 -0600", "1997-11-21T15:55:06Z" },
+            { "Tue, 1 Jul 2003 10:52:37 +0200", "2003-07-01T08:52:37Z" }, { "Fri, 21 Nov 1997 09:55 -0600", "1997-11-21T15:55:00Z" },
+            { "Thu,\r\n      13\r\n        Feb\r\n          1969\r\n      23:32\r\n               -0330 (Newfoundland Time)", "1969-02-14T03:02:00Z" },
+            { "21 Nov 97 09:55:06 GMT", "1997-11-21T09:55:06Z" }, { "Fri, 21 Nov 1997 09(comment):   55  :  06 -0600", "1997-11-21T15:55:06Z" },
+            { "Mon, 1 Jan 2001 12:00:00 EST", "2001-01-01T17:00:00Z" }, { "1 Jan 101 00:00:00 PDT", "2001-01-01T07:00:00Z" },
+            { "Sat, 31 Dec 2016 23:59:60 +0000", "2016-12-31T23:59:59Z" } };
+    }
+
+    @DataProvider(name = "rfc5322DatesMalformed")
+    public Object[][] getRfc5322DatesMalformed() {
+        return new Object[][] { { "" }, { "21 Foo 1997 09:55:06 -0600" }, { "32 Nov 1997 09:55:06 -0600" }, { "21 Nov 1997 25:55:06 -0600" },
+            { "21 Nov 1997 09:55:06 -2500" }, { "21 Nov 1997 09:55:06 XYZ" }, { "21 Nov 1997 09:55:06" }, { "1997-11-21T09:55:06Z" } };
+    }
+
+    @Test(dataProvider = "rfc5322Dates")
+    public void testParseRfc5322Date(String dateStr, String expectedInstantStr) {
+        Assert.assertEquals(ToolDateUtils.parseRfc5322Date(dateStr).toInstant(), Instant.parse(expectedInstantStr),
+            String.format("Parsed RFC 5322 date does not match: %s", dateStr));
+    }
+
+    @Test(dataProvider = "rfc5322DatesMalformed", expectedExceptions = { DateTimeParseException.class })
+    public void testParseRfc5322DateMalformed(String dateStr) {
+        ToolDateUtils.parseRfc5322Date(dateStr);
+    }
+
+    @Test
+    public void testFormatRfc5322Date() {
+        LongStream.range(0L, 10000L).parallel().mapToObj(dateIndex -> new Date((dateIndex * (ToolDateUtils.MS_IN_DAY + ToolDateUtils.MS_IN_SEC))))
+            .forEach(date -> {
+                String dateStr = ToolDateUtils.formatRfc5322Date(date);
+
+                Assert.assertTrue(dateStr.matches("^[A-Z][a-z]{2}, \\d{1,2} [A-Z][a-z]{2} \\d{4} \\d{2}:\\d{2}:\\d{2} [+-]\\d{4}$"),
+                    String.format("Formatted RFC 5322 date is malformed: %s", dateStr));
+                Assert.assertEquals(ToolDateUtils.parseRfc5322Date(dateStr), date, String.format("Formatted RFC 5322 date does not round trip: %s", dateStr));
+            });
+    }
+}
@@ -1,9 +1,13 @@
 package gov.hhs.onc.dcdt.service.dns;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import gov.hhs.onc.dcdt.dns.DnsTransportProtocol;
 import gov.hhs.onc.dcdt.service.ToolService;
 import gov.hhs.onc.dcdt.service.dns.config.DnsServerConfig;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServer;
+import java.util.Map;
 
 public interface DnsService extends ToolService<DnsTransportProtocol, DnsServerConfig, DnsServer> {
+    @JsonProperty("statistics")
+    public Map<String, Long> getStatistics();
 }
@@ -5,6 +5,7 @@ import gov.hhs.onc.dcdt.dns.DnsRecordType;
 import gov.hhs.onc.dcdt.dns.DnsTransportProtocol;
 import gov.hhs.onc.dcdt.service.config.ToolServerConfig;
 import java.util.List;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import org.xbill.DNS.Name;
 import org.xbill.DNS.Record;
@@ -18,4 +19,24 @@ public interface DnsServerConfig extends ToolServerConfig<DnsTransportProtocol>
 
     @Nullable
     public List<InstanceDnsConfig> getConfigs();
+
+    @Nonnegative
+    public int getEdnsPayloadSize();
+
+    public void setEdnsPayloadSize(@Nonnegative int ednsPayloadSize);
+
+    @Nonnegative
+    public int getTcpConnectionsMax();
+
+    public void setTcpConnectionsMax(@Nonnegative int tcpConnsMax);
+
+    @Nonnegative
+    public int getTcpIdleTimeout();
+
+    public void setTcpIdleTimeout(@Nonnegative int tcpIdleTimeout);
+
+    @Nonnegative
+    public int getTcpPipelinedQueriesMax();
+
+    public void setTcpPipelinedQueriesMax(@Nonnegative int tcpPipelinedQueriesMax);
 }
@@ -9,6 +9,7 @@ import gov.hhs.onc.dcdt.service.dns.config.DnsServerConfig;
 import gov.hhs.onc.dcdt.utils.ToolEnumUtils;
 import java.util.ArrayList;
 import java.util.List;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +20,11 @@ public class DnsServerConfigImpl extends AbstractToolServerConfig<DnsTransportPr
     @Autowired(required = false)
     private List<InstanceDnsConfig> configs;
 
+    private int ednsPayloadSize;
+    private int tcpConnsMax;
+    private int tcpIdleTimeout;
+    private int tcpPipelinedQueriesMax;
+
     public DnsServerConfigImpl() {
         super("DNS");
     }
@@ -45,4 +51,48 @@ public class DnsServerConfigImpl extends AbstractToolServerConfig<DnsTransportPr
     public List<InstanceDnsConfig> getConfigs() {
         return this.configs;
     }
+
+    @Nonnegative
+    @Override
+    public int getEdnsPayloadSize() {
+        return this.ednsPayloadSize;
+    }
+
+    @Override
+    public void setEdnsPayloadSize(@Nonnegative int ednsPayloadSize) {
+        this.ednsPayloadSize = ednsPayloadSize;
+    }
+
+    @Nonnegative
+    @Override
+    public int getTcpConnectionsMax() {
+        return this.tcpConnsMax;
+    }
+
+    @Override
+    public void setTcpConnectionsMax(@Nonnegative int tcpConnsMax) {
+        this.tcpConnsMax = tcpConnsMax;
+    }
+
+    @Nonnegative
+    @Override
+    public int getTcpIdleTimeout() {
+        return this.tcpIdleTimeout;
+    }
+
+    @Override
+    public void setTcpIdleTimeout(@Nonnegative int tcpIdleTimeout) {
+        this.tcpIdleTimeout = tcpIdleTimeout;
+    }
+
+    @Nonnegative
+    @Override
+    public int getTcpPipelinedQueriesMax() {
+        return this.tcpPipelinedQueriesMax;
+    }
+
+    @Override
+    public void setTcpPipelinedQueriesMax(@Nonnegative int tcpPipelinedQueriesMax) {
+        this.tcpPipelinedQueriesMax = tcpPipelinedQueriesMax;
+    }
 }
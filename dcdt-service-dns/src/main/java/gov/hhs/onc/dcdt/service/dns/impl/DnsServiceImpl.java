@@ -8,7 +8,9 @@ import gov.hhs.onc.dcdt.service.dns.DnsService;
 import gov.hhs.onc.dcdt.service.dns.config.DnsServerConfig;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServer;
 import gov.hhs.onc.dcdt.service.impl.AbstractToolService;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Resource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -23,6 +25,19 @@ public class DnsServiceImpl extends AbstractToolService<DnsTransportProtocol, Dn
         super(DnsServer.class);
     }
 
+    @Override
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+
+        if (this.hasServers()) {
+            for (DnsServer server : this.getServers()) {
+                server.getStatistics().toMap().forEach((statName, statValue) -> stats.put((server.getConfig().getName() + "." + statName), statValue));
+            }
+        }
+
+        return stats;
+    }
+
     @Autowired(required = false)
     @Override
     public void setServers(List<DnsServer> servers) {
@@ -5,6 +5,10 @@ import gov.hhs.onc.dcdt.service.dns.config.DnsServerConfig;
 import gov.hhs.onc.dcdt.service.server.ToolServer;
 
 public interface DnsServer extends ToolServer<DnsTransportProtocol, DnsServerConfig> {
+    public DnsServerStatistics getStatistics();
+
+    public void setStatistics(DnsServerStatistics stats);
+
     public DnsServerTcpSocketListener getTcpSocketListener();
 
     public void setTcpSocketListener(DnsServerTcpSocketListener tcpSocketListener);
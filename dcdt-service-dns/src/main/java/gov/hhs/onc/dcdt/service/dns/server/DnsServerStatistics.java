@@ -0,0 +1,20 @@
+package gov.hhs.onc.dcdt.service.dns.server;
+
+import java.util.Map;
+import javax.annotation.Nonnegative;
+
+public interface DnsServerStatistics {
+    public Map<String, Long> toMap();
+
+    @Nonnegative
+    public long incrementEdnsRequestCount();
+
+    @Nonnegative
+    public long getEdnsRequestCount();
+
+    @Nonnegative
+    public long incrementTruncatedResponseCount();
+
+    @Nonnegative
+    public long getTruncatedResponseCount();
+}
@@ -1,7 +1,11 @@
 package gov.hhs.onc.dcdt.service.dns.server;
 
 import gov.hhs.onc.dcdt.net.sockets.TcpSocketListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 public interface DnsServerTcpSocketListener extends
     TcpSocketListener<DnsServerTcpServerSocketAdapter, DnsServerTcpSocketAdapter, DnsServerRequest, DnsServerRequestProcessor> {
+    public ThreadPoolTaskExecutor getQueryTaskExecutor();
+
+    public void setQueryTaskExecutor(ThreadPoolTaskExecutor queryTaskExec);
 }
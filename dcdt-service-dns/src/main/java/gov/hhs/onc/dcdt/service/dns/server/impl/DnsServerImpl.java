@@ -5,6 +5,7 @@ import gov.hhs.onc.dcdt.context.AutoStartup;
 import gov.hhs.onc.dcdt.dns.DnsTransportProtocol;
 import gov.hhs.onc.dcdt.service.dns.config.DnsServerConfig;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServer;
+import gov.hhs.onc.dcdt.service.dns.server.DnsServerStatistics;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerTcpSocketListener;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerUdpSocketListener;
 import gov.hhs.onc.dcdt.service.server.impl.AbstractToolServer;
@@ -12,6 +13,7 @@ import gov.hhs.onc.dcdt.service.server.impl.AbstractToolServer;
 @AutoStartup(false)
 @Phase(Phase.PHASE_PRECEDENCE_HIGHEST + 1)
 public class DnsServerImpl extends AbstractToolServer<DnsTransportProtocol, DnsServerConfig> implements DnsServer {
+    private DnsServerStatistics stats;
     private DnsServerUdpSocketListener udpSocketListener;
     private DnsServerTcpSocketListener tcpSocketListener;
 
@@ -41,6 +43,16 @@ public class DnsServerImpl extends AbstractToolServer<DnsTransportProtocol, DnsS
         super.startInternal();
     }
 
+    @Override
+    public DnsServerStatistics getStatistics() {
+        return this.stats;
+    }
+
+    @Override
+    public void setStatistics(DnsServerStatistics stats) {
+        this.stats = stats;
+    }
+
     @Override
     public DnsServerTcpSocketListener getTcpSocketListener() {
         return this.tcpSocketListener;
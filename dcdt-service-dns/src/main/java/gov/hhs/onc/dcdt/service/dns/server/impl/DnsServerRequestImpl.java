@@ -1,5 +1,6 @@
 package gov.hhs.onc.dcdt.service.dns.server.impl;
 
+import gov.hhs.onc.dcdt.dns.utils.ToolDnsMessageUtils;
 import gov.hhs.onc.dcdt.net.InetProtocol;
 import gov.hhs.onc.dcdt.net.sockets.impl.AbstractSocketRequest;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerRequest;
@@ -17,7 +18,14 @@ public class DnsServerRequestImpl extends AbstractSocketRequest implements DnsSe
     private int querySize = -1;
 
     public DnsServerRequestImpl(InetProtocol protocol) {
-        super(protocol, Message.MAXLENGTH, Message.MAXLENGTH);
+        super(protocol, buildBufferSize(protocol), buildBufferSize(protocol));
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+
+        this.querySize = -1;
     }
 
     @Override
@@ -35,4 +43,9 @@ public class DnsServerRequestImpl extends AbstractSocketRequest implements DnsSe
     public int setQuerySize(@Nonnegative int querySize) {
         return (this.querySize = querySize);
     }
+
+    @Nonnegative
+    private static int buildBufferSize(InetProtocol protocol) {
+        return (Message.MAXLENGTH + ((protocol == InetProtocol.TCP) ? ToolDnsMessageUtils.DATA_SIZE_DNS_MSG_QUERY_SIZE_PREFIX : 0));
+    }
 }
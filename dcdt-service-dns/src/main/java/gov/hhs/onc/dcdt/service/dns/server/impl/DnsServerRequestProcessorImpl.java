@@ -2,8 +2,10 @@ package gov.hhs.onc.dcdt.service.dns.server.impl;
 
 import gov.hhs.onc.dcdt.config.instance.InstanceDnsConfig;
 import gov.hhs.onc.dcdt.dns.DnsException;
+import gov.hhs.onc.dcdt.dns.DnsMessageFlag;
 import gov.hhs.onc.dcdt.dns.DnsMessageOpcode;
 import gov.hhs.onc.dcdt.dns.DnsMessageRcode;
+import gov.hhs.onc.dcdt.dns.DnsMessageSection;
 import gov.hhs.onc.dcdt.dns.DnsRecordType;
 import gov.hhs.onc.dcdt.dns.utils.ToolDnsMessageUtils;
 import gov.hhs.onc.dcdt.dns.utils.ToolDnsRecordUtils.DnsRecordConfigTransformer;
@@ -14,13 +16,16 @@ import gov.hhs.onc.dcdt.service.dns.config.DnsServerConfig;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerRequest;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerRequestProcessingException;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerRequestProcessor;
+import gov.hhs.onc.dcdt.service.dns.server.DnsServerStatistics;
 import gov.hhs.onc.dcdt.utils.ToolClassUtils;
 import gov.hhs.onc.dcdt.utils.ToolCollectionUtils;
 import gov.hhs.onc.dcdt.utils.ToolEnumUtils;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import javax.annotation.Nonnegative;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.collections4.PredicateUtils;
@@ -33,6 +38,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.stereotype.Component;
 import org.xbill.DNS.Message;
 import org.xbill.DNS.Name;
+import org.xbill.DNS.OPTRecord;
 import org.xbill.DNS.Record;
 import org.xbill.DNS.SOARecord;
 
@@ -40,6 +46,8 @@ import org.xbill.DNS.SOARecord;
 @Lazy
 @Scope("prototype")
 public class DnsServerRequestProcessorImpl extends AbstractSocketRequestProcessor<DnsServerRequest> implements DnsServerRequestProcessor {
+    public final static int EDNS_VERSION = 0;
+
     private final static Logger LOGGER = LoggerFactory.getLogger(DnsServerRequestProcessorImpl.class);
 
     @Autowired
@@ -47,34 +55,48 @@ public class DnsServerRequestProcessorImpl extends AbstractSocketRequestProcesso
     private ConversionService convService;
 
     private DnsServerConfig serverConfig;
+    private DnsServerStatistics serverStats;
 
-    public DnsServerRequestProcessorImpl(DnsServerConfig serverConfig, DnsServerRequest req) {
+    public DnsServerRequestProcessorImpl(DnsServerConfig serverConfig, DnsServerStatistics serverStats, DnsServerRequest req) {
         super(req);
 
         this.serverConfig = serverConfig;
+        this.serverStats = serverStats;
     }
 
     @Override
-    protected byte[] processError(byte[] reqData, Exception exception) {
+    protected void processError(ByteBuffer reqBuffer, ByteBuffer respBuffer, Exception exception) {
         LOGGER.error(exception.getMessage(), exception.getCause());
 
-        return ToolDnsMessageUtils.createErrorResponse(((DnsServerRequestProcessingException) exception).getRequestMessage(), DnsMessageRcode.SERVFAIL)
-            .toWire();
+        InetProtocol protocol = this.req.getProtocol();
+
+        ToolDnsMessageUtils.toWire(protocol,
+            ToolDnsMessageUtils.createErrorResponse(((DnsServerRequestProcessingException) exception).getRequestMessage(), DnsMessageRcode.SERVFAIL),
+            protocol.getDataSizeMax(), respBuffer);
     }
 
     @Override
-    protected byte[] processRequestInternal(byte[] reqData) throws Exception {
+    protected void processRequestInternal(ByteBuffer reqBuffer, ByteBuffer respBuffer) throws Exception {
         InetProtocol protocol = this.req.getProtocol();
         Message reqMsg = null, respMsg = null;
-        byte[] respData;
+        int respDataSizeMax;
 
         try {
-            respData = ToolDnsMessageUtils.toWire(protocol, (respMsg = this.resolveQuery((reqMsg = ToolDnsMessageUtils.fromWire(protocol, reqData)))));
+            respMsg = this.negotiateEdns((reqMsg = ToolDnsMessageUtils.fromWire(protocol, reqBuffer)), this.resolveQuery(reqMsg));
+            ToolDnsMessageUtils.toWire(protocol, respMsg, (respDataSizeMax = this.resolveResponseDataSizeMax(protocol, reqMsg)), respBuffer);
 
-            LOGGER.trace(String.format("Resolved (class=%s) DNS server request (protocol=%s, remoteSocketAddr={%s}):\n%s\n%s", ToolClassUtils.getName(this),
-                protocol.name(), this.req.getRemoteAddress(), this.convService.convert(reqMsg, String.class), this.convService.convert(respMsg, String.class)));
+            if ((protocol == InetProtocol.UDP) && ToolDnsMessageUtils.hasFlag(protocol, respBuffer, DnsMessageFlag.TC)) {
+                long numTruncatedResps = this.serverStats.incrementTruncatedResponseCount();
 
-            return respData;
+                LOGGER.debug("Truncated (class={}) DNS server UDP response (remoteSocketAddr={{}}, respDataSizeMax={}, numTruncatedResps={}).",
+                    ToolClassUtils.getName(this), this.req.getRemoteAddress(), respDataSizeMax, numTruncatedResps);
+            }
+
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace("Resolved (class={}) DNS server request (protocol={}, remoteSocketAddr={{}}):\n{}\n{}", ToolClassUtils.getName(this),
+                    protocol.name(), this.req.getRemoteAddress(), this.convService.convert(reqMsg, String.class),
+                    this.convService.convert(respMsg, String.class));
+            }
         } catch (Exception e) {
             throw new DnsServerRequestProcessingException(reqMsg, respMsg, String.format(
                 "Unable to resolve (class=%s) DNS server request (protocol=%s, remoteSocketAddr={%s}):\n%s\n%s", ToolClassUtils.getName(this), protocol.name(),
@@ -82,6 +104,41 @@ public class DnsServerRequestProcessorImpl extends AbstractSocketRequestProcesso
         }
     }
 
+    @Nonnegative
+    private int resolveResponseDataSizeMax(InetProtocol protocol, Message reqMsg) {
+        OPTRecord reqOptRecord;
+
+        if (protocol == InetProtocol.TCP) {
+            return Message.MAXLENGTH;
+        }
+
+        return (((reqOptRecord = reqMsg.getOPT()) != null) ? Math.min(Math.max(reqOptRecord.getPayloadSize(), protocol.getDataSizeMax()),
+            Math.max(this.serverConfig.getEdnsPayloadSize(), protocol.getDataSizeMax())) : protocol.getDataSizeMax());
+    }
+
+    private Message negotiateEdns(Message reqMsg, Message respMsg) {
+        OPTRecord reqOptRecord = reqMsg.getOPT();
+
+        if (reqOptRecord == null) {
+            return respMsg;
+        }
+
+        this.serverStats.incrementEdnsRequestCount();
+
+        // @formatter:off
+        /*
+        Responding to unsupported EDNS versions with an empty "BADVERS" response as per:
+        - RFC 6891 - Extension Mechanisms for DNS (EDNS(0)), Section 6.1.3 (http://tools.ietf.org/html/rfc6891#section-6.1.3)
+        */
+        // @formatter:on
+        if (reqOptRecord.getVersion() > EDNS_VERSION) {
+            return ToolDnsMessageUtils.addRecords(ToolDnsMessageUtils.createResponse(reqMsg), DnsMessageSection.ADDITIONAL,
+                new OPTRecord(this.serverConfig.getEdnsPayloadSize(), (DnsMessageRcode.BADVERS.getCode() >>> 4), EDNS_VERSION));
+        }
+
+        return ToolDnsMessageUtils.addRecords(respMsg, DnsMessageSection.ADDITIONAL, new OPTRecord(this.serverConfig.getEdnsPayloadSize(), 0, EDNS_VERSION));
+    }
+
     private Message resolveQuery(Message reqMsg) throws DnsException {
         Message respMsg = ToolDnsMessageUtils.createResponse(reqMsg);
         Record questionRecord = reqMsg.getQuestion();
@@ -0,0 +1,48 @@
+package gov.hhs.onc.dcdt.service.dns.server.impl;
+
+import gov.hhs.onc.dcdt.service.dns.server.DnsServerStatistics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnegative;
+
+public class DnsServerStatisticsImpl implements DnsServerStatistics {
+    public final static String EDNS_REQ_COUNT_NAME = "ednsRequestCount";
+    public final static String TRUNCATED_RESP_COUNT_NAME = "truncatedResponseCount";
+
+    private AtomicLong ednsReqCount = new AtomicLong();
+    private AtomicLong truncatedRespCount = new AtomicLong();
+
+    @Override
+    public Map<String, Long> toMap() {
+        Map<String, Long> stats = new LinkedHashMap<>(2);
+        stats.put(EDNS_REQ_COUNT_NAME, this.getEdnsRequestCount());
+        stats.put(TRUNCATED_RESP_COUNT_NAME, this.getTruncatedResponseCount());
+
+        return stats;
+    }
+
+    @Nonnegative
+    @Override
+    public long incrementEdnsRequestCount() {
+        return this.ednsReqCount.incrementAndGet();
+    }
+
+    @Nonnegative
+    @Override
+    public long getEdnsRequestCount() {
+        return this.ednsReqCount.get();
+    }
+
+    @Nonnegative
+    @Override
+    public long incrementTruncatedResponseCount() {
+        return this.truncatedRespCount.incrementAndGet();
+    }
+
+    @Nonnegative
+    @Override
+    public long getTruncatedResponseCount() {
+        return this.truncatedRespCount.get();
+    }
+}
@@ -8,53 +8,301 @@ import gov.hhs.onc.dcdt.net.sockets.impl.AbstractTcpSocketListener;
 import gov.hhs.onc.dcdt.service.dns.config.DnsServerConfig;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerRequest;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerRequestProcessor;
+import gov.hhs.onc.dcdt.service.dns.server.DnsServerStatistics;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerTcpServerSocketAdapter;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerTcpSocketAdapter;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerTcpSocketListener;
+import gov.hhs.onc.dcdt.utils.ToolClassUtils;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.ArrayUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @AutoStartup(false)
 @Phase(Phase.PHASE_PRECEDENCE_HIGHEST + 1)
 public class DnsServerTcpSocketListenerImpl extends
     AbstractTcpSocketListener<DnsServerTcpServerSocketAdapter, DnsServerTcpSocketAdapter, DnsServerRequest, DnsServerRequestProcessor> implements
     DnsServerTcpSocketListener {
+    protected class DnsServerTcpConnectionDaemonTask extends SocketRequestDaemonTask {
+        private Semaphore connPermits;
+
+        public DnsServerTcpConnectionDaemonTask(DnsServerTcpConnectionDaemon connDaemon, @Nullable Semaphore connPermits) {
+            super(connDaemon);
+
+            this.connPermits = connPermits;
+        }
+
+        @Override
+        protected void done() {
+            try {
+                super.done();
+            } finally {
+                if (this.connPermits != null) {
+                    this.connPermits.release();
+                }
+            }
+        }
+    }
+
+    protected class DnsServerTcpQueryDaemonTask extends SocketRequestDaemonTask {
+        private DnsServerTcpQueryDaemon queryDaemon;
+        private Semaphore queryPermits;
+
+        public DnsServerTcpQueryDaemonTask(DnsServerTcpQueryDaemon queryDaemon, Semaphore queryPermits) {
+            super(queryDaemon);
+
+            this.queryDaemon = queryDaemon;
+            this.queryPermits = queryPermits;
+        }
+
+        @Override
+        protected void done() {
+            try {
+                super.done();
+            } finally {
+                try {
+                    // A query task cancelled before it could claim its request never processes (and so never releases) it.
+                    if (this.isCancelled() && this.queryDaemon.claimRequest()) {
+                        DnsServerTcpSocketListenerImpl.this.releaseRequest(this.queryDaemon.getRequest());
+                    }
+                } finally {
+                    this.queryPermits.release();
+                }
+            }
+        }
+    }
+
+    protected class DnsServerTcpQueryDaemon extends SocketRequestDaemon {
+        private AtomicBoolean reqClaimed = new AtomicBoolean();
+
+        public DnsServerTcpQueryDaemon(DnsServerTcpSocketAdapter reqSocketAdapter, DnsServerRequest req) {
+            super(reqSocketAdapter, req);
+        }
+
+        @Nullable
+        @Override
+        public Void call() throws Exception {
+            return (this.claimRequest() ? super.call() : null);
+        }
+
+        public boolean claimRequest() {
+            return this.reqClaimed.compareAndSet(false, true);
+        }
+    }
+
+    // @formatter:off
+    /*
+    Serving multiple (optionally pipelined) DNS queries per TCP connection as per:
+    - RFC 7766 - DNS Transport over TCP - Implementation Requirements, Sections 6.2.1-6.2.3 (http://tools.ietf.org/html/rfc7766#section-6.2.1)
+    */
+    // @formatter:on
+    protected class DnsServerTcpConnectionDaemon extends SocketRequestDaemon {
+        public DnsServerTcpConnectionDaemon(DnsServerTcpSocketAdapter reqSocketAdapter, DnsServerRequest req) {
+            super(reqSocketAdapter, req);
+        }
+
+        @Nullable
+        @Override
+        public Void call() throws Exception {
+            int numQueryPermits = DnsServerTcpSocketListenerImpl.this.serverConfig.getTcpPipelinedQueriesMax();
+            Semaphore queryPermits = new Semaphore(numQueryPermits);
+            DnsServerRequest req = this.req;
+
+            this.reqSocketAdapter.setTimeout(DnsServerTcpSocketListenerImpl.this.serverConfig.getTcpIdleTimeout());
+
+            try {
+                while (!this.reqSocketAdapter.isClosed() && DnsServerTcpSocketListenerImpl.this.readQuery(this.reqSocketAdapter, req)) {
+                    queryPermits.acquire();
+
+                    DnsServerTcpQueryDaemonTask queryTask =
+                        new DnsServerTcpQueryDaemonTask(new DnsServerTcpQueryDaemon(this.reqSocketAdapter, req), queryPermits);
+                    req = null;
+
+                    try {
+                        DnsServerTcpSocketListenerImpl.this.queryTaskExec.execute(queryTask);
+                    } catch (RejectedExecutionException ignored) {
+                        // Processing the query on the connection thread when no query thread is available, so that it is always answered.
+                        queryTask.run();
+                    }
+
+                    req = DnsServerTcpSocketListenerImpl.this.obtainRequest(InetProtocol.TCP);
+                }
+            } catch (SocketTimeoutException ignored) {
+                DnsServerTcpSocketListenerImpl.LOGGER.trace("Closing idle DNS server TCP connection (class={}, remoteAddr={{}}, idleTimeout={}).",
+                    ToolClassUtils.getName(this), this.reqSocketAdapter.getRemoteSocketAddress(),
+                    DnsServerTcpSocketListenerImpl.this.serverConfig.getTcpIdleTimeout());
+            } finally {
+                if (req != null) {
+                    DnsServerTcpSocketListenerImpl.this.releaseRequest(req);
+                }
+
+                queryPermits.acquire(numQueryPermits);
+            }
+
+            return null;
+        }
+    }
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(DnsServerTcpSocketListenerImpl.class);
+
     private DnsServerConfig serverConfig;
+    private DnsServerStatistics serverStats;
+    private ThreadPoolTaskExecutor queryTaskExec;
+    private Semaphore connPermits;
 
-    public DnsServerTcpSocketListenerImpl(DnsServerConfig serverConfig) {
+    public DnsServerTcpSocketListenerImpl(DnsServerConfig serverConfig, DnsServerStatistics serverStats) {
         super(DnsServerTcpServerSocketAdapter.class, DnsServerTcpSocketAdapter.class, DnsServerRequest.class, DnsServerRequestProcessor.class, serverConfig
             .toSocketAddress());
 
         this.serverConfig = serverConfig;
+        this.serverStats = serverStats;
+    }
+
+    @Override
+    protected void startInternal() throws Exception {
+        int connsMax = this.serverConfig.getTcpConnectionsMax();
+
+        this.connPermits = ((connsMax > 0) ? new Semaphore(connsMax) : null);
+
+        super.startInternal();
+    }
+
+    @Override
+    protected void writeResponse(DnsServerTcpSocketAdapter reqSocketAdapter, ByteBuffer respBuffer, SocketAddress remoteAddr) throws IOException {
+        // noinspection SynchronizationOnLocalVariableOrMethodParameter
+        synchronized (reqSocketAdapter) {
+            super.writeResponse(reqSocketAdapter, respBuffer, remoteAddr);
+        }
     }
 
     @Override
     protected DnsServerRequestProcessor createRequestProcessor(Object ... reqProcArgs) {
-        return super.createRequestProcessor(ArrayUtils.add(reqProcArgs, 0, this.serverConfig));
+        return super.createRequestProcessor(ArrayUtils.addAll(new Object[] { this.serverConfig, this.serverStats }, reqProcArgs));
     }
 
     @Override
-    protected DnsServerTcpSocketAdapter readRequest(DnsServerTcpServerSocketAdapter listenSocketAdapter, DnsServerRequest req) throws IOException {
-        DnsServerTcpSocketAdapter reqSocketAdapter = super.readRequest(listenSocketAdapter, req);
+    protected SocketRequestDaemonTask createRequestDaemonTask(DnsServerTcpSocketAdapter reqSocketAdapter, DnsServerRequest req) {
+        return new DnsServerTcpConnectionDaemonTask(new DnsServerTcpConnectionDaemon(reqSocketAdapter, req), this.connPermits);
+    }
+
+    protected boolean readQuery(DnsServerTcpSocketAdapter reqSocketAdapter, DnsServerRequest req) throws IOException {
         ByteBuffer reqBuffer = req.getRequestBuffer();
-        int reqQuerySize = req.setQuerySize(ToolDnsMessageUtils.parseQuerySizeData(reqBuffer.get(0), reqBuffer.get(1)));
 
-        reqBuffer.limit(reqBuffer.limit() + reqQuerySize);
-        reqBuffer.put(reqSocketAdapter.read(reqQuerySize).getRight());
+        req.setRemoteAddress(reqSocketAdapter.read(reqBuffer));
+
+        if (reqBuffer.hasRemaining()) {
+            return false;
+        }
+
+        int reqQuerySize = ToolDnsMessageUtils.parseQuerySizeData(reqBuffer.get(0), reqBuffer.get(1));
+
+        if ((reqQuerySize == 0) || (reqQuerySize > (reqBuffer.capacity() - reqBuffer.limit()))) {
+            LOGGER.warn(String.format("Rejecting DNS server TCP query (class=%s, remoteAddr={%s}): invalid query size (%d).", ToolClassUtils.getName(this),
+                reqSocketAdapter.getRemoteSocketAddress(), reqQuerySize));
+
+            return false;
+        }
+
+        reqBuffer.limit(reqBuffer.limit() + req.setQuerySize(reqQuerySize));
+        reqSocketAdapter.read(reqBuffer);
+
+        return !reqBuffer.hasRemaining();
+    }
+
+    @Override
+    protected DnsServerTcpSocketAdapter readRequest(DnsServerTcpServerSocketAdapter listenSocketAdapter, DnsServerRequest req) throws IOException {
+        boolean connPermitted;
+        Socket reqSocket;
+
+        while (true) {
+            // Deferring acceptance of further connections (leaving them queued in the listen backlog) until a connection slot is freed.
+            if (!(connPermitted = ((this.connPermits == null) || this.tryAcquireConnectionPermit(0)))) {
+                LOGGER.warn(String.format("Deferring DNS server TCP connection acceptance (class=%s): maximum number of connections (%d) reached.",
+                    ToolClassUtils.getName(this), this.serverConfig.getTcpConnectionsMax()));
+
+                connPermitted = this.tryAcquireConnectionPermit(this.serverConfig.getTcpIdleTimeout());
+            }
+
+            try {
+                reqSocket = listenSocketAdapter.accept();
+            } catch (IOException | RuntimeException e) {
+                if (connPermitted && (this.connPermits != null)) {
+                    this.connPermits.release();
+                }
+
+                throw e;
+            }
+
+            if (connPermitted || this.tryAcquireConnectionPermit(0)) {
+                break;
+            }
+
+            // Closing the longest queued connection when no connection slot was freed within the idle timeout.
+            LOGGER.warn(String.format("Closing DNS server TCP connection (class=%s, remoteAddr={%s}): no connection slot freed within timeout (%d).",
+                ToolClassUtils.getName(this), reqSocket.getRemoteSocketAddress(), this.serverConfig.getTcpIdleTimeout()));
+
+            reqSocket.close();
+        }
+
+        DnsServerTcpSocketAdapter reqSocketAdapter;
+
+        try {
+            reqSocketAdapter = this.createRequestSocketAdapter(reqSocket);
+        } catch (IOException | RuntimeException e) {
+            if (this.connPermits != null) {
+                this.connPermits.release();
+            }
+
+            reqSocket.close();
+
+            throw e;
+        }
+
+        req.setRemoteAddress(reqSocketAdapter.getRemoteSocketAddress());
 
         return reqSocketAdapter;
     }
 
+    private boolean tryAcquireConnectionPermit(long timeout) throws InterruptedIOException {
+        try {
+            return this.connPermits.tryAcquire(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException(String.format("Interrupted while deferring DNS server TCP connection acceptance (class=%s).",
+                ToolClassUtils.getName(this)));
+        }
+    }
+
     @Override
-    protected DnsServerRequest createRequest(InetProtocol protocol) {
-        DnsServerRequest req = super.createRequest(protocol);
+    protected DnsServerRequest initializeRequest(DnsServerRequest req) {
         req.getRequestBuffer().limit(ToolDnsMessageUtils.DATA_SIZE_DNS_MSG_QUERY_SIZE_PREFIX);
 
         return req;
     }
 
+    @Override
+    public ThreadPoolTaskExecutor getQueryTaskExecutor() {
+        return this.queryTaskExec;
+    }
+
+    @Override
+    public void setQueryTaskExecutor(ThreadPoolTaskExecutor queryTaskExec) {
+        this.queryTaskExec = queryTaskExec;
+    }
+
     @Override
     protected DnsServerTcpServerSocketAdapter createListenSocketAdapter(ServerSocket listenSocket) throws IOException {
         DnsServerTcpServerSocketAdapter listenSocketAdapter = super.createListenSocketAdapter(listenSocket);
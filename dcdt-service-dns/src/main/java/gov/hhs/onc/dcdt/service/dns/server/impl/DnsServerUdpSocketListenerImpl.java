@@ -6,6 +6,7 @@ import gov.hhs.onc.dcdt.net.sockets.impl.AbstractUdpSocketListener;
 import gov.hhs.onc.dcdt.service.dns.config.DnsServerConfig;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerRequest;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerRequestProcessor;
+import gov.hhs.onc.dcdt.service.dns.server.DnsServerStatistics;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerUdpSocketAdapter;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServerUdpSocketListener;
 import org.apache.commons.lang3.ArrayUtils;
@@ -15,15 +16,17 @@ import org.apache.commons.lang3.ArrayUtils;
 public class DnsServerUdpSocketListenerImpl extends AbstractUdpSocketListener<DnsServerUdpSocketAdapter, DnsServerRequest, DnsServerRequestProcessor> implements
     DnsServerUdpSocketListener {
     private DnsServerConfig serverConfig;
+    private DnsServerStatistics serverStats;
 
-    public DnsServerUdpSocketListenerImpl(DnsServerConfig serverConfig) {
+    public DnsServerUdpSocketListenerImpl(DnsServerConfig serverConfig, DnsServerStatistics serverStats) {
         super(DnsServerUdpSocketAdapter.class, DnsServerRequest.class, DnsServerRequestProcessor.class, serverConfig.toSocketAddress());
 
         this.serverConfig = serverConfig;
+        this.serverStats = serverStats;
     }
 
     @Override
     protected DnsServerRequestProcessor createRequestProcessor(Object ... reqProcArgs) {
-        return super.createRequestProcessor(ArrayUtils.add(reqProcArgs, 0, this.serverConfig));
+        return super.createRequestProcessor(ArrayUtils.addAll(new Object[] { this.serverConfig, this.serverStats }, reqProcArgs));
     }
 }
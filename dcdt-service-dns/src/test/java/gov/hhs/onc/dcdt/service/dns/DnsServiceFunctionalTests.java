@@ -8,14 +8,21 @@ import gov.hhs.onc.dcdt.dns.DnsTransportProtocol;
 import gov.hhs.onc.dcdt.dns.config.DnsRecordConfig;
 import gov.hhs.onc.dcdt.dns.lookup.DnsLookupResult;
 import gov.hhs.onc.dcdt.dns.lookup.DnsLookupService;
+import gov.hhs.onc.dcdt.dns.utils.ToolDnsMessageUtils;
 import gov.hhs.onc.dcdt.dns.utils.ToolDnsResolverUtils;
+import gov.hhs.onc.dcdt.net.InetProtocol;
 import gov.hhs.onc.dcdt.service.dns.config.DnsServerConfig;
 import gov.hhs.onc.dcdt.service.dns.server.DnsServer;
+import gov.hhs.onc.dcdt.service.dns.server.impl.DnsServerRequestProcessorImpl;
+import gov.hhs.onc.dcdt.service.dns.server.impl.DnsServerStatisticsImpl;
 import gov.hhs.onc.dcdt.service.test.impl.AbstractToolServiceFunctionalTests;
 import gov.hhs.onc.dcdt.utils.ToolArrayUtils;
 import gov.hhs.onc.dcdt.utils.ToolCollectionUtils;
 import gov.hhs.onc.dcdt.utils.ToolIteratorUtils;
 import gov.hhs.onc.dcdt.utils.ToolStringUtils;
+import java.io.DataInputStream;
+import java.io.OutputStream;
+import java.net.Socket;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -32,7 +39,16 @@ import org.springframework.test.context.ContextConfiguration;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.xbill.DNS.DClass;
+import org.xbill.DNS.Flags;
+import org.xbill.DNS.Message;
+import org.xbill.DNS.Name;
+import org.xbill.DNS.OPTRecord;
+import org.xbill.DNS.Rcode;
 import org.xbill.DNS.Record;
+import org.xbill.DNS.Resolver;
+import org.xbill.DNS.Section;
+import org.xbill.DNS.Type;
 
 @ContextConfiguration({ "spring/spring-service-dns.xml", "spring/spring-service-dns-*.xml" })
 @SuppressWarnings({ "SpringContextConfigurationInspection" })
@@ -93,6 +109,155 @@ public class DnsServiceFunctionalTests extends AbstractToolServiceFunctionalTest
         stopBarrier.await();
     }
 
+    @Test(dependsOnMethods = { "testLookupDnsRecords" })
+    public void testLookupDnsRecordsEdns() throws Exception {
+        Resolver resolver, tcpResolver;
+        Record questionRecord;
+        Message respMsg, badVersionQueryMsg;
+        OPTRecord respOptRecord;
+        int respDataSizeMax;
+        Map<String, Long> stats = this.service.getStatistics();
+        String ednsReqCountName, truncatedRespCountName;
+        boolean respTruncated;
+
+        for (DnsServerConfig serverConfig : this.serverLookupServiceMap.keySet()) {
+            if (!serverConfig.hasConfigs()) {
+                continue;
+            }
+
+            ednsReqCountName = (serverConfig.getName() + "." + DnsServerStatisticsImpl.EDNS_REQ_COUNT_NAME);
+            truncatedRespCountName = (serverConfig.getName() + "." + DnsServerStatisticsImpl.TRUNCATED_RESP_COUNT_NAME);
+            respTruncated = false;
+
+            resolver = buildResolver(serverConfig, false, serverConfig.getEdnsPayloadSize());
+            tcpResolver = buildResolver(serverConfig, true, serverConfig.getEdnsPayloadSize());
+
+            // noinspection ConstantConditions
+            for (InstanceDnsConfig config : serverConfig.getConfigs()) {
+                if (!config.hasCertRecordConfigs()) {
+                    continue;
+                }
+
+                // noinspection ConstantConditions
+                for (DnsRecordConfig<? extends Record> recordConfig : config.getCertRecordConfigs()) {
+                    questionRecord = Record.newRecord(recordConfig.toRecord().getName(), Type.CERT, DClass.IN);
+
+                    respOptRecord = (respMsg = resolver.send(Message.newQuery(questionRecord))).getOPT();
+
+                    Assert.assertNotNull(respOptRecord, String.format("DNS response does not contain an OPT record:\n%s", respMsg));
+                    Assert.assertEquals(respOptRecord.getPayloadSize(), serverConfig.getEdnsPayloadSize(),
+                        String.format("DNS response OPT record payload size does not match:\n%s", respMsg));
+
+                    // @formatter:off
+                    /*
+                    Asserting that UDP responses larger than the negotiated payload size are truncated as per:
+                    - RFC 6891 - Extension Mechanisms for DNS (EDNS(0)), Section 7 (http://tools.ietf.org/html/rfc6891#section-7)
+                    */
+                    // @formatter:on
+                    respDataSizeMax = (tcpResolver.send(Message.newQuery(questionRecord)).numBytes() - 1);
+
+                    if (respDataSizeMax >= InetProtocol.UDP.getDataSizeMax()) {
+                        respMsg = buildResolver(serverConfig, false, respDataSizeMax).send(Message.newQuery(questionRecord));
+
+                        Assert.assertTrue((respTruncated = respMsg.getHeader().getFlag(Flags.TC)),
+                            String.format("DNS UDP response larger than the negotiated payload size (%d) is not truncated:\n%s", respDataSizeMax, respMsg));
+                        Assert.assertTrue((respMsg.numBytes() <= respDataSizeMax), String.format(
+                            "DNS UDP response size (%d) exceeds the negotiated payload size (%d):\n%s", respMsg.numBytes(), respDataSizeMax, respMsg));
+                    }
+
+                    respMsg = buildResolver(serverConfig, false, -1).send(Message.newQuery(questionRecord));
+
+                    Assert.assertNull(respMsg.getOPT(), String.format("DNS response to a query without an OPT record contains an OPT record:\n%s", respMsg));
+                    Assert.assertTrue((respMsg.numBytes() <= InetProtocol.UDP.getDataSizeMax()), String.format(
+                        "DNS UDP response size (%d) to a query without an OPT record exceeds the classic limit (%d):\n%s", respMsg.numBytes(),
+                        InetProtocol.UDP.getDataSizeMax(), respMsg));
+
+                    if (buildResolver(serverConfig, true, -1).send(Message.newQuery(questionRecord)).numBytes() > InetProtocol.UDP.getDataSizeMax()) {
+                        Assert.assertTrue((respTruncated = respMsg.getHeader().getFlag(Flags.TC)),
+                            String.format("DNS UDP response to a query without an OPT record is not truncated:\n%s", respMsg));
+                    }
+
+                    (badVersionQueryMsg = Message.newQuery(questionRecord)).addRecord(
+                        new OPTRecord(serverConfig.getEdnsPayloadSize(), 0, (DnsServerRequestProcessorImpl.EDNS_VERSION + 1)), Section.ADDITIONAL);
+
+                    respMsg = resolver.send(badVersionQueryMsg);
+
+                    Assert.assertEquals(respMsg.getRcode(), Rcode.BADVERS,
+                        String.format("DNS response to a query with an unsupported EDNS version is not BADVERS:\n%s", respMsg));
+                    Assert.assertEquals(respMsg.getSectionArray(Section.ANSWER).length, 0,
+                        String.format("DNS response to a query with an unsupported EDNS version contains answer record(s):\n%s", respMsg));
+                }
+            }
+
+            Map<String, Long> statsUpdated = this.service.getStatistics();
+
+            Assert.assertTrue((statsUpdated.get(ednsReqCountName) > stats.get(ednsReqCountName)),
+                String.format("DNS server EDNS request count was not incremented (serverName=%s).", serverConfig.getName()));
+
+            if (respTruncated) {
+                Assert.assertTrue((statsUpdated.get(truncatedRespCountName) > stats.get(truncatedRespCountName)),
+                    String.format("DNS server truncated response count was not incremented (serverName=%s).", serverConfig.getName()));
+            }
+        }
+    }
+
+    @Test(dependsOnMethods = { "testLookupDnsRecords" })
+    public void testLookupDnsRecordsTcpPipelined() throws Exception {
+        DnsServerConfig serverConfig = this.serverLookupServiceMap.keySet().iterator().next();
+        // noinspection ConstantConditions
+        Name questionName = serverConfig.getConfigs().get(0).getARecordConfigs().get(0).toRecord().getName();
+        int numQueries = (serverConfig.getTcpPipelinedQueriesMax() * 2);
+        Map<Integer, Message> queryMsgs = new HashMap<>(numQueries);
+        Message queryMsg, respMsg;
+
+        try (Socket socket = new Socket()) {
+            socket.connect(serverConfig.toSocketAddress(true));
+            socket.setSoTimeout(serverConfig.getTcpIdleTimeout());
+
+            OutputStream outStream = socket.getOutputStream();
+            DataInputStream inStream = new DataInputStream(socket.getInputStream());
+
+            for (int a = 0; a < numQueries; a++) {
+                (queryMsg = Message.newQuery(Record.newRecord(questionName, Type.A, DClass.IN))).getHeader().setID(a);
+                queryMsgs.put(a, queryMsg);
+
+                outStream.write(ToolDnsMessageUtils.toWire(InetProtocol.TCP, queryMsg));
+            }
+
+            outStream.flush();
+
+            for (int a = 0; a < numQueries; a++) {
+                byte[] respData = new byte[inStream.readUnsignedShort()];
+                inStream.readFully(respData);
+
+                Assert.assertNotNull((queryMsg = queryMsgs.remove((respMsg = new Message(respData)).getHeader().getID())),
+                    String.format("Pipelined DNS TCP response does not match an outstanding query:\n%s", respMsg));
+                Assert.assertEquals(respMsg.getQuestion(), queryMsg.getQuestion(),
+                    String.format("Pipelined DNS TCP response question does not match its query:\n%s", respMsg));
+                Assert.assertEquals(respMsg.getRcode(), Rcode.NOERROR, String.format("Pipelined DNS TCP response was not successful:\n%s", respMsg));
+            }
+        }
+
+        Assert.assertTrue(queryMsgs.isEmpty(), String.format("Pipelined DNS TCP queries (ids=%s) were not answered.", queryMsgs.keySet()));
+    }
+
+    @Test(dependsOnMethods = { "testLookupDnsRecords" })
+    public void testTcpIdleTimeout() throws Exception {
+        DnsServerConfig serverConfig = this.serverLookupServiceMap.keySet().iterator().next();
+        int idleTimeout = serverConfig.getTcpIdleTimeout();
+
+        try (Socket socket = new Socket()) {
+            socket.connect(serverConfig.toSocketAddress(true));
+            socket.setSoTimeout((idleTimeout * 2));
+
+            long startTime = System.currentTimeMillis();
+
+            Assert.assertEquals(socket.getInputStream().read(), -1, "Idle DNS TCP connection was not closed by the server.");
+            Assert.assertTrue(((System.currentTimeMillis() - startTime) >= (idleTimeout / 2)),
+                String.format("Idle DNS TCP connection was closed before the idle timeout (%d) elapsed.", idleTimeout));
+        }
+    }
+
     @Test
     public void testLookupDnsRecords() throws Exception {
         for (DnsServerConfig serverConfig : this.serverLookupServiceMap.keySet()) {
@@ -140,6 +305,18 @@ public class DnsServiceFunctionalTests extends AbstractToolServiceFunctionalTest
         super.startService();
     }
 
+    private static Resolver buildResolver(DnsServerConfig serverConfig, boolean tcp, int ednsPayloadSize) throws Exception {
+        Resolver resolver = ToolDnsResolverUtils.fromSocketAddress(serverConfig.toSocketAddress());
+        resolver.setTCP(tcp);
+        resolver.setIgnoreTruncation(true);
+
+        if (ednsPayloadSize >= 0) {
+            resolver.setEDNS(DnsServerRequestProcessorImpl.EDNS_VERSION, ednsPayloadSize, 0, null);
+        }
+
+        return resolver;
+    }
+
     @SuppressWarnings({ "unchecked" })
     private void assertLookupAnswerRecordsMatch(DnsServerConfig serverConfig, DnsRecordConfig<? extends Record> recordConfig) throws Exception {
         DnsRecordType recordType = recordConfig.getRecordType();
@@ -1,9 +1,13 @@
 package gov.hhs.onc.dcdt.service.ldap;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import gov.hhs.onc.dcdt.ldap.LdapTransportProtocol;
 import gov.hhs.onc.dcdt.service.ToolService;
 import gov.hhs.onc.dcdt.service.ldap.config.LdapServerConfig;
 import gov.hhs.onc.dcdt.service.ldap.server.LdapServer;
+import java.util.Map;
 
 public interface LdapService extends ToolService<LdapTransportProtocol, LdapServerConfig, LdapServer> {
+    @JsonProperty("cacheHitRatios")
+    public Map<String, Double> getCacheHitRatios();
 }
@@ -89,6 +89,8 @@ public class ToolDirectoryServiceBean extends DirectoryServiceBean implements Ap
     private AbstractApplicationContext appContext;
     private CacheService cacheService;
     private Collection<Entry> dataEntries;
+    private boolean dataEntriesBulkLoad;
+    private boolean dataEntriesCacheWarm;
     private InstanceLayout instanceLayout;
     private InstanceLdapConfig ldapConfig;
     private SchemaManager schemaManager;
@@ -148,6 +150,22 @@ public class ToolDirectoryServiceBean extends DirectoryServiceBean implements Ap
         return this.dataEntries;
     }
 
+    public boolean isDataEntriesBulkLoad() {
+        return this.dataEntriesBulkLoad;
+    }
+
+    public void setDataEntriesBulkLoad(boolean dataEntriesBulkLoad) {
+        this.dataEntriesBulkLoad = dataEntriesBulkLoad;
+    }
+
+    public boolean isDataEntriesCacheWarm() {
+        return this.dataEntriesCacheWarm;
+    }
+
+    public void setDataEntriesCacheWarm(boolean dataEntriesCacheWarm) {
+        this.dataEntriesCacheWarm = dataEntriesCacheWarm;
+    }
+
     public InstanceLayout getInstanceLayout() {
         return this.instanceLayout;
     }
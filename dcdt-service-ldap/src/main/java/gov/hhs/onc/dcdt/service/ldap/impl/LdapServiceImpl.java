@@ -8,7 +8,9 @@ import gov.hhs.onc.dcdt.service.impl.AbstractToolService;
 import gov.hhs.onc.dcdt.service.ldap.LdapService;
 import gov.hhs.onc.dcdt.service.ldap.config.LdapServerConfig;
 import gov.hhs.onc.dcdt.service.ldap.server.LdapServer;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Resource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -23,6 +25,20 @@ public class LdapServiceImpl extends AbstractToolService<LdapTransportProtocol,
         super(LdapServer.class);
     }
 
+    @Override
+    public Map<String, Double> getCacheHitRatios() {
+        Map<String, Double> cacheHitRatios = new LinkedHashMap<>();
+
+        if (this.hasServers()) {
+            for (LdapServer server : this.getServers()) {
+                server.getCacheHitRatios().forEach(
+                    (cacheName, cacheHitRatio) -> cacheHitRatios.put((server.getConfig().getName() + "." + cacheName), cacheHitRatio));
+            }
+        }
+
+        return cacheHitRatios;
+    }
+
     @Autowired(required = false)
     @Override
     public void setServers(List<LdapServer> servers) {
@@ -1,18 +1,27 @@
 package gov.hhs.onc.dcdt.service.ldap.impl;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import net.sf.ehcache.Cache;
 import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Statistics;
+import net.sf.ehcache.config.CacheConfiguration;
 import org.apache.directory.server.core.api.CacheService;
 import org.springframework.beans.factory.DisposableBean;
 
 public class ToolCacheService extends CacheService implements DisposableBean {
+    private CacheManager cacheManager;
     private Set<String> disabledCacheNames;
+    private Map<String, Long> cacheSizes = new HashMap<>();
 
     public ToolCacheService(CacheManager cacheManager, Set<String> disabledCacheNames) {
         super(cacheManager);
 
+        this.cacheManager = cacheManager;
         this.disabledCacheNames = disabledCacheNames;
     }
 
@@ -22,6 +31,61 @@ public class ToolCacheService extends CacheService implements DisposableBean {
         return (!this.disabledCacheNames.contains(cacheName) ? super.getCache(cacheName) : null);
     }
 
+    public Map<String, Long> sizeCaches(@Nonnegative long numEntries) {
+        Map<String, Long> cacheSizesApplied = new LinkedHashMap<>(this.cacheSizes.size());
+        Cache cache;
+        CacheConfiguration cacheConfig;
+        long cacheSize;
+
+        for (String cacheName : this.cacheSizes.keySet()) {
+            if ((cache = this.cacheManager.getCache(cacheName)) == null) {
+                continue;
+            }
+
+            cacheConfig = cache.getCacheConfiguration();
+
+            // A non-positive configured size is derived from the number of entries, without shrinking the cache below its Ehcache configured size.
+            if ((cacheSize = this.cacheSizes.get(cacheName)) <= 0) {
+                cacheSize = Math.max(cacheConfig.getMaxEntriesLocalHeap(), numEntries);
+            }
+
+            cacheConfig.setMaxEntriesLocalHeap(cacheSize);
+
+            cacheSizesApplied.put(cacheName, cacheSize);
+        }
+
+        return cacheSizesApplied;
+    }
+
+    public Map<String, Double> getCacheHitRatios() {
+        String[] cacheNames = this.cacheManager.getCacheNames();
+        Map<String, Double> cacheHitRatios = new LinkedHashMap<>(cacheNames.length);
+        Cache cache;
+        Statistics cacheStats;
+        long cacheHits, cacheLookups;
+
+        for (String cacheName : cacheNames) {
+            if (((cache = this.cacheManager.getCache(cacheName)) == null) || !cache.isStatisticsEnabled()) {
+                continue;
+            }
+
+            cacheHits = (cacheStats = cache.getStatistics()).getCacheHits();
+            cacheLookups = (cacheHits + cacheStats.getCacheMisses());
+
+            cacheHitRatios.put(cacheName, ((cacheLookups > 0) ? (((double) cacheHits) / cacheLookups) : 0.0));
+        }
+
+        return cacheHitRatios;
+    }
+
+    public Map<String, Long> getCacheSizes() {
+        return this.cacheSizes;
+    }
+
+    public void setCacheSizes(Map<String, Long> cacheSizes) {
+        this.cacheSizes = cacheSizes;
+    }
+
     public Set<String> getDisabledCacheNames() {
         return this.disabledCacheNames;
     }
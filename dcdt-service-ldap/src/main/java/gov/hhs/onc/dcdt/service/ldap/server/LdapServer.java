@@ -5,9 +5,12 @@ import gov.hhs.onc.dcdt.service.ldap.config.LdapServerConfig;
 import gov.hhs.onc.dcdt.service.ldap.config.impl.ToolDirectoryServiceBean;
 import gov.hhs.onc.dcdt.service.server.ToolServer;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nullable;
 
 public interface LdapServer extends ToolServer<LdapTransportProtocol, LdapServerConfig> {
+    public Map<String, Double> getCacheHitRatios();
+
     public boolean hasDirectoryServiceBeans();
 
     @Nullable
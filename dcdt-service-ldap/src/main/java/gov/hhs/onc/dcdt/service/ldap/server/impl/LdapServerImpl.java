@@ -10,13 +10,16 @@ import gov.hhs.onc.dcdt.ldap.LdapTransportProtocol;
 import gov.hhs.onc.dcdt.service.ldap.LdapServiceException;
 import gov.hhs.onc.dcdt.service.ldap.config.LdapServerConfig;
 import gov.hhs.onc.dcdt.service.ldap.config.impl.ToolDirectoryServiceBean;
+import gov.hhs.onc.dcdt.service.ldap.impl.ToolCacheService;
 import gov.hhs.onc.dcdt.service.ldap.server.LdapServer;
 import gov.hhs.onc.dcdt.service.server.impl.AbstractToolServer;
 import gov.hhs.onc.dcdt.utils.ToolClassUtils;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import javax.annotation.Nullable;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.directory.api.ldap.model.constants.SchemaConstants;
@@ -25,12 +28,20 @@ import org.apache.directory.api.ldap.model.entry.DefaultModification;
 import org.apache.directory.api.ldap.model.entry.Entry;
 import org.apache.directory.api.ldap.model.entry.ModificationOperation;
 import org.apache.directory.api.ldap.model.exception.LdapException;
+import org.apache.directory.api.ldap.model.filter.PresenceNode;
+import org.apache.directory.api.ldap.model.message.AliasDerefMode;
+import org.apache.directory.api.ldap.model.message.SearchScope;
 import org.apache.directory.api.ldap.model.name.Dn;
 import org.apache.directory.api.ldap.model.schema.SchemaManager;
+import org.apache.directory.api.util.DateUtils;
 import org.apache.directory.server.config.beans.LdapServerBean;
 import org.apache.directory.server.config.beans.ServerBean;
+import org.apache.directory.server.core.api.CacheService;
 import org.apache.directory.server.core.api.CoreSession;
 import org.apache.directory.server.core.api.DirectoryService;
+import org.apache.directory.server.core.api.filtering.EntryFilteringCursor;
+import org.apache.directory.server.core.api.interceptor.context.AddOperationContext;
+import org.apache.directory.server.core.api.partition.Partition;
 import org.apache.directory.server.protocol.shared.DirectoryBackedService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +61,8 @@ public class LdapServerImpl extends AbstractToolServer<LdapTransportProtocol, Ld
     @Override
     protected void stopInternal() throws Exception {
         if (this.dirServiceServerMap != null) {
+            CacheService cacheService;
+
             for (DirectoryService dirService : this.dirServiceServerMap.keySet()) {
                 if (dirService.isStarted()) {
                     for (DirectoryBackedService dirServiceServer : this.dirServiceServerMap.get(dirService)) {
@@ -73,6 +86,15 @@ public class LdapServerImpl extends AbstractToolServer<LdapTransportProtocol, Ld
                                 ToolClassUtils.getName(dirService)), e);
                     }
                 }
+
+                if ((cacheService = dirService.getCacheService()) != null) {
+                    try {
+                        cacheService.destroy();
+                    } catch (Exception e) {
+                        LOGGER.error(String.format("Unable to destroy ApacheDS directory service (id=%s, class=%s) cache service (class=%s).",
+                            dirService.getInstanceId(), ToolClassUtils.getName(dirService), ToolClassUtils.getName(cacheService)), e);
+                    }
+                }
             }
         }
     }
@@ -146,6 +168,18 @@ public class LdapServerImpl extends AbstractToolServer<LdapTransportProtocol, Ld
                 ToolClassUtils.getName(dirService)), e);
         }
 
+        CacheService cacheService = dirService.getCacheService();
+
+        if (ToolClassUtils.isAssignable(ToolClassUtils.getClass(cacheService), ToolCacheService.class)) {
+            // Sizing the caches for the data entries plus the data partition context entry.
+            // noinspection ConstantConditions
+            Map<String, Long> cacheSizes =
+                ((ToolCacheService) cacheService).sizeCaches((dirServiceBean.hasDataEntries() ? (dirServiceBean.getDataEntries().size() + 1) : 1));
+
+            LOGGER.debug(String.format("Sized ApacheDS directory service (id=%s, class=%s) caches: %s", dirService.getInstanceId(),
+                ToolClassUtils.getName(dirService), cacheSizes));
+        }
+
         SchemaManager schemaManager = dirService.getSchemaManager();
         InstanceLdapConfig ldapConfig = dirServiceBean.getLdapConfig();
         String dataPartitionId = ldapConfig.getDataPartitionId();
@@ -180,23 +214,140 @@ public class LdapServerImpl extends AbstractToolServer<LdapTransportProtocol, Ld
         }
 
         if (dirServiceBean.hasDataEntries()) {
+            if (dirServiceBean.isDataEntriesBulkLoad()) {
+                this.bulkLoadDataEntries(dirService, dirServiceBean, adminSession);
+            } else {
+                this.addDataEntries(dirServiceBean, adminSession);
+            }
+
+            if (dirServiceBean.isDataEntriesCacheWarm()) {
+                this.warmDataEntries(dirService, dirServiceBean, adminSession);
+            }
+        }
+
+        return dirService;
+    }
+
+    protected void warmDataEntries(DirectoryService dirService, ToolDirectoryServiceBean dirServiceBean, CoreSession adminSession) {
+        InstanceLdapConfig ldapConfig = dirServiceBean.getLdapConfig();
+        String dataPartitionId = ldapConfig.getDataPartitionId();
+        Dn dataPartitionSuffix = ldapConfig.getDataPartitionSuffix();
+        int numDataEntries = 0;
+
+        try {
+            adminSession.lookup(dataPartitionSuffix);
+
             // noinspection ConstantConditions
             for (Entry dataEntry : dirServiceBean.getDataEntries()) {
-                try {
-                    adminSession.add(dataEntry);
-
-                    // noinspection ConstantConditions
-                    LOGGER.debug(String.format("Added data LDAP entry (dn={%s}) to data LDAP partition (id=%s, suffix={%s}):\n%s", dataEntry.getDn(),
-                        dataPartitionId, dataPartitionSuffix, dataEntry));
-                } catch (LdapException e) {
-                    // noinspection ConstantConditions
-                    throw new LdapServiceException(String.format("Unable to add data LDAP entry (dn={%s}) to data LDAP partition (id=%s, suffix={%s}):\n%s",
-                        dataEntry.getDn(), dataPartitionId, dataPartitionSuffix, dataEntry), e);
+                adminSession.lookup(dataEntry.getDn());
+            }
+
+            EntryFilteringCursor dataEntryCursor =
+                adminSession.search(dataPartitionSuffix, SearchScope.SUBTREE, new PresenceNode(SchemaConstants.OBJECT_CLASS_AT),
+                    AliasDerefMode.NEVER_DEREF_ALIASES);
+
+            try {
+                while (dataEntryCursor.next()) {
+                    dataEntryCursor.get();
+
+                    numDataEntries++;
                 }
+            } finally {
+                dataEntryCursor.close();
             }
+
+            LOGGER.debug(String.format("Warmed ApacheDS directory service (id=%s, class=%s) caches with %d data LDAP partition (id=%s, suffix={%s}) entries.",
+                dirService.getInstanceId(), ToolClassUtils.getName(dirService), numDataEntries, dataPartitionId, dataPartitionSuffix));
+        } catch (Exception e) {
+            LOGGER.warn(String.format(
+                "Unable to warm ApacheDS directory service (id=%s, class=%s) caches with data LDAP partition (id=%s, suffix={%s}) entries.",
+                dirService.getInstanceId(), ToolClassUtils.getName(dirService), dataPartitionId, dataPartitionSuffix), e);
         }
+    }
 
-        return dirService;
+    protected void addDataEntries(ToolDirectoryServiceBean dirServiceBean, CoreSession adminSession) throws LdapServiceException {
+        InstanceLdapConfig ldapConfig = dirServiceBean.getLdapConfig();
+        String dataPartitionId = ldapConfig.getDataPartitionId();
+        Dn dataPartitionSuffix = ldapConfig.getDataPartitionSuffix();
+
+        // noinspection ConstantConditions
+        for (Entry dataEntry : dirServiceBean.getDataEntries()) {
+            try {
+                adminSession.add(dataEntry);
+
+                // noinspection ConstantConditions
+                LOGGER.debug(String.format("Added data LDAP entry (dn={%s}) to data LDAP partition (id=%s, suffix={%s}):\n%s", dataEntry.getDn(),
+                    dataPartitionId, dataPartitionSuffix, dataEntry));
+            } catch (LdapException e) {
+                // noinspection ConstantConditions
+                throw new LdapServiceException(String.format("Unable to add data LDAP entry (dn={%s}) to data LDAP partition (id=%s, suffix={%s}):\n%s",
+                    dataEntry.getDn(), dataPartitionId, dataPartitionSuffix, dataEntry), e);
+            }
+        }
+    }
+
+    protected void bulkLoadDataEntries(DirectoryService dirService, ToolDirectoryServiceBean dirServiceBean, CoreSession adminSession)
+        throws LdapServiceException {
+        InstanceLdapConfig ldapConfig = dirServiceBean.getLdapConfig();
+        String dataPartitionId = ldapConfig.getDataPartitionId();
+        Dn dataPartitionSuffix = ldapConfig.getDataPartitionSuffix();
+        Partition dataPartition;
+
+        try {
+            // noinspection ConstantConditions
+            dataPartition = dirService.getPartitionNexus().getPartition(dataPartitionSuffix);
+        } catch (LdapException e) {
+            throw new LdapServiceException(String.format("Unable to find data LDAP partition (id=%s, suffix={%s}).", dataPartitionId, dataPartitionSuffix), e);
+        }
+
+        String creatorsName = adminSession.getAuthenticatedPrincipal().getDn().getNormName(), createTimestamp = DateUtils.getGeneralizedTime();
+        // noinspection ConstantConditions
+        Collection<Entry> dataEntries = dirServiceBean.getDataEntries();
+
+        SchemaManager schemaManager = dirService.getSchemaManager();
+        Entry bulkDataEntry;
+
+        // noinspection ConstantConditions
+        for (Entry dataEntry : dataEntries) {
+            try {
+                // Loading a copy of the entry so that the operational attributes set here do not leak into the configured data entries.
+                bulkDataEntry = new DefaultEntry(schemaManager, dataEntry);
+                bulkDataEntry.put(SchemaConstants.ENTRY_UUID_AT, UUID.randomUUID().toString());
+                bulkDataEntry.put(SchemaConstants.ENTRY_CSN_AT, dirService.getCSN().toString());
+                bulkDataEntry.put(SchemaConstants.CREATORS_NAME_AT, creatorsName);
+                bulkDataEntry.put(SchemaConstants.CREATE_TIMESTAMP_AT, createTimestamp);
+
+                dataPartition.add(new AddOperationContext(adminSession, bulkDataEntry));
+            } catch (LdapException e) {
+                // noinspection ConstantConditions
+                throw new LdapServiceException(String.format("Unable to bulk load data LDAP entry (dn={%s}) into data LDAP partition (id=%s, suffix={%s}):\n%s",
+                    dataEntry.getDn(), dataPartitionId, dataPartitionSuffix, dataEntry), e);
+            }
+        }
+
+        // noinspection ConstantConditions
+        LOGGER.debug(String.format("Bulk loaded %d data LDAP entries into data LDAP partition (id=%s, suffix={%s}).", dataEntries.size(), dataPartitionId,
+            dataPartitionSuffix));
+    }
+
+    @Override
+    public Map<String, Double> getCacheHitRatios() {
+        Map<String, Double> cacheHitRatios = new LinkedHashMap<>();
+
+        if (this.dirServiceServerMap != null) {
+            CacheService cacheService;
+
+            for (DirectoryService dirService : this.dirServiceServerMap.keySet()) {
+                if (!ToolClassUtils.isAssignable(ToolClassUtils.getClass((cacheService = dirService.getCacheService())), ToolCacheService.class)) {
+                    continue;
+                }
+
+                ((ToolCacheService) cacheService).getCacheHitRatios().forEach(
+                    (cacheName, cacheHitRatio) -> cacheHitRatios.put((dirService.getInstanceId() + "." + cacheName), cacheHitRatio));
+            }
+        }
+
+        return cacheHitRatios;
     }
 
     @Override
@@ -5,15 +5,20 @@ import gov.hhs.onc.dcdt.ldap.lookup.LdapEntryLookupResult;
 import gov.hhs.onc.dcdt.ldap.lookup.LdapLookupService;
 import gov.hhs.onc.dcdt.service.ldap.config.LdapServerConfig;
 import gov.hhs.onc.dcdt.service.ldap.config.impl.ToolDirectoryServiceBean;
+import gov.hhs.onc.dcdt.service.ldap.impl.ToolCacheService;
 import gov.hhs.onc.dcdt.service.ldap.server.LdapServer;
 import gov.hhs.onc.dcdt.service.test.impl.AbstractToolServiceFunctionalTests;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
+import net.sf.ehcache.Cache;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.directory.api.ldap.model.entry.Attribute;
 import org.apache.directory.api.ldap.model.entry.Entry;
 import org.apache.directory.api.ldap.model.entry.Value;
 import org.apache.directory.api.ldap.model.message.SearchScope;
+import org.apache.directory.api.ldap.model.name.Dn;
 import org.apache.directory.ldap.client.api.LdapConnectionConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
@@ -25,6 +30,8 @@ import org.testng.annotations.Test;
 @SuppressWarnings({ "SpringContextConfigurationInspection" })
 @Test(groups = { "dcdt.test.func.service.ldap" })
 public class LdapServiceFunctionalTests extends AbstractToolServiceFunctionalTests<LdapTransportProtocol, LdapServerConfig, LdapServer, LdapService> {
+    private final static String CACHE_NAME_DN = "dnCache";
+
     @Autowired
     @SuppressWarnings({ "SpringJavaAutowiringInspection" })
     private LdapLookupService ldapLookupService;
@@ -91,9 +98,107 @@ public class LdapServiceFunctionalTests extends AbstractToolServiceFunctionalTes
         }
     }
 
+    @Test(dependsOnMethods = { "testLookupLdapEntries" })
+    public void testCacheStatistics() throws Exception {
+        if (!this.service.hasServers()) {
+            return;
+        }
+
+        Cache dnCache;
+
+        // noinspection ConstantConditions
+        for (ToolDirectoryServiceBean dirServiceBean : this.service.getServers().stream()
+            .flatMap(ldapServer -> (ldapServer.hasDirectoryServiceBeans() ? ldapServer.getDirectoryServiceBeans().stream() : Stream.empty()))
+            .toArray(ToolDirectoryServiceBean[]::new)) {
+            if (!dirServiceBean.hasDataEntries()) {
+                continue;
+            }
+
+            Assert.assertTrue((dirServiceBean.getCacheService() instanceof ToolCacheService),
+                String.format("LDAP service directory service (id=%s) cache service is not a tool cache service.", dirServiceBean.getDirectoryServiceId()));
+
+            Assert.assertNotNull((dnCache = dirServiceBean.getCacheService().getCache(CACHE_NAME_DN)),
+                String.format("LDAP service directory service (id=%s) DN cache is disabled.", dirServiceBean.getDirectoryServiceId()));
+            // noinspection ConstantConditions
+            Assert.assertTrue((dnCache.getCacheConfiguration().getMaxEntriesLocalHeap() > dirServiceBean.getDataEntries().size()),
+                String.format("LDAP service directory service (id=%s) DN cache size is not derived from its data entries.",
+                    dirServiceBean.getDirectoryServiceId()));
+            Assert.assertTrue((dnCache.getSize() > 0),
+                String.format("LDAP service directory service (id=%s) DN cache is empty.", dirServiceBean.getDirectoryServiceId()));
+            Assert.assertTrue((dnCache.getStatistics().getCacheHits() > 0),
+                String.format("LDAP service directory service (id=%s) DN cache has no hits.", dirServiceBean.getDirectoryServiceId()));
+            Assert.assertTrue(((ToolCacheService) dirServiceBean.getCacheService()).getCacheHitRatios().get(CACHE_NAME_DN) > 0.0,
+                String.format("LDAP service directory service (id=%s) DN cache hit ratio is not positive.", dirServiceBean.getDirectoryServiceId()));
+        }
+    }
+
+    @Test(dependsOnMethods = { "testCacheStatistics" })
+    public void testBulkLoadDataEntries() throws Exception {
+        if (!this.service.hasServers()) {
+            return;
+        }
+
+        Map<Dn, Entry> addedDataResultEntries = new LinkedHashMap<>(), bulkLoadedDataResultEntries = new LinkedHashMap<>();
+
+        // noinspection ConstantConditions
+        for (LdapServer ldapServer : this.service.getServers()) {
+            if (!ldapServer.hasDirectoryServiceBeans()) {
+                continue;
+            }
+
+            // noinspection ConstantConditions
+            List<ToolDirectoryServiceBean> dirServiceBeans = ldapServer.getDirectoryServiceBeans();
+
+            this.lookupDataResultEntries(dirServiceBeans, addedDataResultEntries);
+
+            ldapServer.stop();
+            dirServiceBeans.forEach(dirServiceBean -> dirServiceBean.setDataEntriesBulkLoad(true));
+
+            try {
+                ldapServer.start();
+
+                this.lookupDataResultEntries(dirServiceBeans, bulkLoadedDataResultEntries);
+            } finally {
+                dirServiceBeans.forEach(dirServiceBean -> dirServiceBean.setDataEntriesBulkLoad(false));
+            }
+        }
+
+        Assert.assertEquals(bulkLoadedDataResultEntries.keySet(), addedDataResultEntries.keySet(),
+            "LDAP service bulk loaded data result entry DNs do not match added data result entry DNs.");
+
+        for (Dn dataEntryDn : addedDataResultEntries.keySet()) {
+            Assert.assertEquals(bulkLoadedDataResultEntries.get(dataEntryDn), addedDataResultEntries.get(dataEntryDn),
+                String.format("LDAP service bulk loaded data result entry (dn={%s}) does not match added data result entry.", dataEntryDn));
+        }
+    }
+
     @BeforeClass(dependsOnMethods = { "registerInstanceConfig" }, groups = { "dcdt.test.func.service.ldap" })
     @Override
     public void startService() {
         super.startService();
     }
+
+    private void lookupDataResultEntries(List<ToolDirectoryServiceBean> dirServiceBeans, Map<Dn, Entry> dataResultEntries) throws Exception {
+        LdapConnectionConfig ldapSearchConnConfig;
+        LdapEntryLookupResult dataResultEntriesLookupResult;
+
+        for (ToolDirectoryServiceBean dirServiceBean : dirServiceBeans) {
+            if (!dirServiceBean.hasDataEntries()) {
+                continue;
+            }
+
+            ldapSearchConnConfig = dirServiceBean.getLdapConfig().toConnectionConfigAnonymous();
+
+            // noinspection ConstantConditions
+            for (Entry dataEntry : dirServiceBean.getDataEntries()) {
+                dataResultEntriesLookupResult = this.ldapLookupService.lookupEntries(ldapSearchConnConfig, dataEntry.getDn(), SearchScope.OBJECT, null);
+
+                Assert.assertTrue(dataResultEntriesLookupResult.hasItems(),
+                    String.format("No LDAP service data result entries (dn={%s}) found.", dataEntry.getDn()));
+
+                // noinspection ConstantConditions
+                dataResultEntries.put(dataEntry.getDn(), dataResultEntriesLookupResult.getItems().get(0));
+            }
+        }
+    }
 }
@@ -5,7 +5,16 @@ import gov.hhs.onc.dcdt.mail.smtp.command.SmtpCommandType;
 import gov.hhs.onc.dcdt.service.mail.server.MailServer;
 import gov.hhs.onc.dcdt.service.mail.smtp.command.SmtpCommandProcessor;
 import java.util.Map;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 public interface SmtpServer extends MailServer<SmtpTransportProtocol, SmtpServerConfig> {
     public Map<SmtpCommandType, SmtpCommandProcessor<?>> getCommandProcessors();
+
+    public ThreadPoolTaskExecutor getLocalDeliveryTaskExecutor();
+
+    public void setLocalDeliveryTaskExecutor(ThreadPoolTaskExecutor localDeliveryTaskExec);
+
+    public ThreadPoolTaskExecutor getRemoteDeliveryTaskExecutor();
+
+    public void setRemoteDeliveryTaskExecutor(ThreadPoolTaskExecutor remoteDeliveryTaskExec);
 }
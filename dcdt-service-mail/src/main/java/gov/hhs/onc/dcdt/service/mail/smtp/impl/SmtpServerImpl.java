@@ -63,8 +63,10 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import javax.annotation.Resource;
 import org.apache.commons.codec.binary.Base64;
@@ -72,16 +74,68 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @AutoStartup(false)
 @Phase(Phase.PHASE_PRECEDENCE_HIGHEST + 4)
 public class SmtpServerImpl extends AbstractMailServer<SmtpTransportProtocol, SmtpServerConfig> implements SmtpServer {
+    private class SmtpServerMailDeliveryLane {
+        private String name;
+        private ThreadPoolTaskExecutor taskExec;
+        private AtomicLong numSubmitted = new AtomicLong();
+        private AtomicLong numRejected = new AtomicLong();
+        private AtomicLong numCompleted = new AtomicLong();
+        private AtomicLong queueTimeTotal = new AtomicLong();
+        private AtomicLong queueTimeMax = new AtomicLong();
+
+        public SmtpServerMailDeliveryLane(String name, ThreadPoolTaskExecutor taskExec) {
+            this.name = name;
+            this.taskExec = taskExec;
+        }
+
+        public boolean submit(SmtpServerMailDeliveryTask deliveryTask) {
+            try {
+                this.taskExec.execute(deliveryTask);
+            } catch (TaskRejectedException ignored) {
+                this.numRejected.incrementAndGet();
+
+                return false;
+            }
+
+            this.numSubmitted.incrementAndGet();
+
+            return true;
+        }
+
+        public void complete(@Nonnegative long queueTime) {
+            this.numCompleted.incrementAndGet();
+            this.queueTimeTotal.addAndGet(queueTime);
+            this.queueTimeMax.accumulateAndGet(queueTime, Math::max);
+        }
+
+        @Override
+        public String toString() {
+            long numCompleted = this.numCompleted.get();
+
+            return String.format("name=%s, active=%d, queued=%d, submitted=%d, rejected=%d, completed=%d, queueTimeAvg=%d, queueTimeMax=%d", this.name,
+                this.taskExec.getActiveCount(), this.taskExec.getThreadPoolExecutor().getQueue().size(), this.numSubmitted.get(), this.numRejected.get(),
+                numCompleted, ((numCompleted > 0) ? (this.queueTimeTotal.get() / numCompleted) : 0L), this.queueTimeMax.get());
+        }
+
+        public String getName() {
+            return this.name;
+        }
+    }
+
     private class SmtpServerMailDeliveryTask implements Runnable {
         private MailInfo mailInfo;
         private MailAddress fromAddr;
         private MailAddress toAddr;
         private InstanceMailAddressConfig toConfig;
         private boolean toLocal;
+        private SmtpServerMailDeliveryLane lane;
+        private long submitTime = System.nanoTime();
 
         public SmtpServerMailDeliveryTask(MailInfo mailInfo, MailAddress fromAddr, MailAddress toAddr, @Nullable InstanceMailAddressConfig toConfig,
             boolean toLocal) {
@@ -90,24 +144,39 @@ public class SmtpServerImpl extends AbstractMailServer<SmtpTransportProtocol, Sm
             this.toAddr = toAddr;
             this.toConfig = toConfig;
             this.toLocal = toLocal;
+            this.lane = (toLocal ? SmtpServerImpl.this.localDeliveryLane : SmtpServerImpl.this.remoteDeliveryLane);
         }
 
         @Override
         public void run() {
-            if (this.toLocal) {
-                this.processLocalDelivery();
-            } else {
-                this.processRemoteDelivery();
+            long startTime = System.nanoTime(), queueTime = TimeUnit.NANOSECONDS.toMillis(startTime - this.submitTime);
+
+            try {
+                if (this.toLocal) {
+                    this.processLocalDelivery();
+                } else {
+                    this.processRemoteDelivery();
+                }
+            } finally {
+                this.lane.complete(queueTime);
+
+                LOGGER.info("Mail MIME message (id={}, from={}, to={}) {} delivery (from={}, to={}) completed (queueTime={}, procTime={}).",
+                    this.mailInfo.getMessageId(), this.mailInfo.getFrom(), this.mailInfo.getTo(), this.lane.getName(), this.fromAddr, this.toAddr, queueTime,
+                    TimeUnit.NANOSECONDS.toMillis((System.nanoTime() - startTime)));
             }
         }
 
+        public SmtpServerMailDeliveryLane getLane() {
+            return this.lane;
+        }
+
         private void processRemoteDelivery() {
             try {
                 SmtpServerImpl.this.remoteMailSenderService.send(this.mailInfo, this.fromAddr, this.toAddr,
                     SmtpServerImpl.this.config.getHeloName().toString(true));
 
-                LOGGER.info(String.format("Mail MIME message (id=%s, from=%s, to=%s) remote delivery (from=%s, to=%s) was successful:\n%s",
-                    this.mailInfo.getMessageId(), this.mailInfo.getFrom(), this.mailInfo.getTo(), this.fromAddr, this.toAddr, this.mailInfo.getMessage()));
+                LOGGER.info("Mail MIME message (id={}, from={}, to={}) remote delivery (from={}, to={}) was successful:\n{}", this.mailInfo.getMessageId(),
+                    this.mailInfo.getFrom(), this.mailInfo.getTo(), this.fromAddr, this.toAddr, this.mailInfo.getMessage());
             } catch (Exception e) {
                 LOGGER.error(String.format("Mail MIME message (id=%s, from=%s, to=%s) remote delivery (from=%s, to=%s) failed:\n%s",
                     this.mailInfo.getMessageId(), this.mailInfo.getFrom(), this.mailInfo.getTo(), this.fromAddr, this.toAddr, this.mailInfo.getMessage()), e);
@@ -157,10 +226,10 @@ public class SmtpServerImpl extends AbstractMailServer<SmtpTransportProtocol, Sm
                 SmtpServerImpl.this.discoveryTestcaseResultSenderService.send(SmtpServerImpl.this.discoveryTestcaseProc.process(ToolBeanFactoryUtils
                     .createBeanOfType(SmtpServerImpl.this.appContext, DiscoveryTestcaseSubmission.class, discoveryTestcase, this.mailInfo)), resultsAddr);
 
-                LOGGER.info(String.format(
-                    "Sent Discovery testcase results (resultsAddr=%s) for locally delivered (from=%s, to=%s) mail MIME message (id=%s, from=%s, to=%s):\n%s",
+                LOGGER.info(
+                    "Sent Discovery testcase results (resultsAddr={}) for locally delivered (from={}, to={}) mail MIME message (id={}, from={}, to={}):\n{}",
                     resultsAddr, this.fromAddr, this.toAddr, this.mailInfo.getMessageId(), this.mailInfo.getFrom(), this.mailInfo.getTo(),
-                    this.mailInfo.getMessage()));
+                    this.mailInfo.getMessage());
             } catch (Exception e) {
                 LOGGER
                     .error(
@@ -283,10 +352,23 @@ public class SmtpServerImpl extends AbstractMailServer<SmtpTransportProtocol, Sm
                     }
 
                     if (mailInfo != null) {
-                        SmtpServerImpl.this.reqTaskExec.submit(new SmtpServerMailDeliveryTask(mailInfo, session.getFrom(), session.getTo(), session
-                            .getToConfig(), toLocal));
-
-                        SmtpServerImpl.this.writeResponse(channel, session, new SmtpReplyImpl(SmtpReplyCode.MAIL_OK, SmtpReplyParameters.OK));
+                        SmtpServerMailDeliveryTask deliveryTask =
+                            new SmtpServerMailDeliveryTask(mailInfo, session.getFrom(), session.getTo(), session.getToConfig(), toLocal);
+                        SmtpServerMailDeliveryLane deliveryLane = deliveryTask.getLane();
+
+                        if (deliveryLane.submit(deliveryTask)) {
+                            SmtpServerImpl.this.writeResponse(channel, session, new SmtpReplyImpl(SmtpReplyCode.MAIL_OK, SmtpReplyParameters.OK));
+                        } else {
+                            LOGGER.warn(String.format("Unable to queue SMTP server session (from=%s, to=%s) mail MIME message (id=%s) for delivery: {%s}",
+                                session.getFrom(), session.getTo(), mailInfo.getMessageId(), deliveryLane));
+
+                            SmtpServerImpl.this.writeResponse(
+                                channel,
+                                session,
+                                new SmtpReplyImpl(SmtpReplyCode.LOCAL_ERROR, String.format(
+                                    "Unable to queue mail MIME message for %s delivery; try again later: from=%s, to=%s", deliveryLane.getName(),
+                                    session.getFrom(), session.getTo())));
+                        }
                     }
                 } else {
                     SmtpServerImpl.this.writeResponse(
@@ -380,6 +462,9 @@ public class SmtpServerImpl extends AbstractMailServer<SmtpTransportProtocol, Sm
 
     private final static String REQ_DECODER_NAME = "reqDecoder";
 
+    private final static String DELIVERY_LANE_NAME_LOCAL = "local";
+    private final static String DELIVERY_LANE_NAME_REMOTE = "remote";
+
     private final static Logger LOGGER = LoggerFactory.getLogger(SmtpServerImpl.class);
 
     @Autowired
@@ -395,11 +480,21 @@ public class SmtpServerImpl extends AbstractMailServer<SmtpTransportProtocol, Sm
     private RemoteMailSenderService remoteMailSenderService;
 
     private Map<SmtpCommandType, SmtpCommandProcessor<?>> cmdProcs;
+    private SmtpServerMailDeliveryLane localDeliveryLane;
+    private SmtpServerMailDeliveryLane remoteDeliveryLane;
 
     public SmtpServerImpl(SmtpServerConfig config) {
         super(config);
     }
 
+    @Override
+    protected void stopInternal() throws Exception {
+        super.stopInternal();
+
+        LOGGER.info(String.format("Stopped SMTP server (name=%s) mail delivery lanes: [{%s}, {%s}]", this.config.getName(), this.localDeliveryLane,
+            this.remoteDeliveryLane));
+    }
+
     @Override
     protected ServerBootstrap initializeBootstrap(ServerBootstrap bootstrap) {
         return super.initializeBootstrap(bootstrap).childHandler(new SmtpServerChannelInitializer());
@@ -471,6 +566,26 @@ public class SmtpServerImpl extends AbstractMailServer<SmtpTransportProtocol, Sm
         return this.cmdProcs;
     }
 
+    @Override
+    public ThreadPoolTaskExecutor getLocalDeliveryTaskExecutor() {
+        return this.localDeliveryLane.taskExec;
+    }
+
+    @Override
+    public void setLocalDeliveryTaskExecutor(ThreadPoolTaskExecutor localDeliveryTaskExec) {
+        this.localDeliveryLane = new SmtpServerMailDeliveryLane(DELIVERY_LANE_NAME_LOCAL, localDeliveryTaskExec);
+    }
+
+    @Override
+    public ThreadPoolTaskExecutor getRemoteDeliveryTaskExecutor() {
+        return this.remoteDeliveryLane.taskExec;
+    }
+
+    @Override
+    public void setRemoteDeliveryTaskExecutor(ThreadPoolTaskExecutor remoteDeliveryTaskExec) {
+        this.remoteDeliveryLane = new SmtpServerMailDeliveryLane(DELIVERY_LANE_NAME_REMOTE, remoteDeliveryTaskExec);
+    }
+
     @Autowired
     private void setCommandProcessors(SmtpCommandProcessor<?> ... cmdProcs) {
         this.cmdProcs = Stream.of(cmdProcs).collect(ToolStreamUtils.toMap(SmtpCommandProcessor::getType, Function.identity(), LinkedHashMap::new));
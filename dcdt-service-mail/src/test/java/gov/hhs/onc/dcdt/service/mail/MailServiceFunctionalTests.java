@@ -6,10 +6,13 @@ import gov.hhs.onc.dcdt.crypto.credentials.CredentialInfo;
 import gov.hhs.onc.dcdt.mail.MailAddress;
 import gov.hhs.onc.dcdt.mail.MailEncoding;
 import gov.hhs.onc.dcdt.mail.MailInfo;
+import gov.hhs.onc.dcdt.mail.impl.MailAddressImpl;
 import gov.hhs.onc.dcdt.mail.impl.MailInfoImpl;
+import gov.hhs.onc.dcdt.mail.smtp.SmtpReplyCode;
 import gov.hhs.onc.dcdt.net.TransportProtocol;
 import gov.hhs.onc.dcdt.service.mail.config.MailServerConfig;
 import gov.hhs.onc.dcdt.service.mail.server.MailServer;
+import gov.hhs.onc.dcdt.service.mail.smtp.SmtpServer;
 import gov.hhs.onc.dcdt.service.test.impl.AbstractToolServiceFunctionalTests;
 import gov.hhs.onc.dcdt.testcases.discovery.DiscoveryTestcase;
 import gov.hhs.onc.dcdt.testcases.discovery.DiscoveryTestcaseSubmission;
@@ -20,12 +23,24 @@ import gov.hhs.onc.dcdt.testcases.discovery.mail.sender.DiscoveryTestcaseSubmiss
 import gov.hhs.onc.dcdt.testcases.discovery.results.DiscoveryTestcaseResult;
 import gov.hhs.onc.dcdt.testcases.discovery.results.sender.DiscoveryTestcaseResultSenderService;
 import gov.hhs.onc.dcdt.utils.ToolDateUtils;
+import gov.hhs.onc.dcdt.utils.ToolStringUtils;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Resource;
 import javax.mail.MessagingException;
 import javax.mail.Session;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.context.ContextConfiguration;
+import org.testng.Assert;
 import org.testng.annotations.AfterGroups;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -40,6 +55,11 @@ public class MailServiceFunctionalTests
     @SuppressWarnings({ "SpringJavaAutowiringInspection" })
     private Session mailSession;
 
+    private final static long TEST_DELIVERY_TIMEOUT = ToolDateUtils.MS_IN_SEC * 10;
+    private final static String TEST_EXTERNAL_ADDR = "dcdt-test@example.invalid";
+    private final static String TEST_HELO_NAME = "localhost";
+
+    private SmtpServer smtpServer;
     private DiscoveryTestcaseSubmissionSenderService discoveryTestcaseSubmissionSenderService;
     private MailAddress testSubmissionAddr;
     private DiscoveryTestcaseResultSenderService discoveryTestcaseResultSenderService;
@@ -50,6 +70,44 @@ public class MailServiceFunctionalTests
         super(MailService.class);
     }
 
+    @Test(dependsOnMethods = "testSendDiscoveryTestcaseSubmission")
+    public void testDeliveryLocalSaturated() throws Exception {
+        ThreadPoolTaskExecutor localDeliveryTaskExec = this.smtpServer.getLocalDeliveryTaskExecutor();
+        CountDownLatch releaseLatch = saturateDeliveryTaskExecutor(localDeliveryTaskExec);
+
+        try {
+            Assert.assertEquals(this.sendSmtpMessage(this.discoveryTestcases.get(0).getMailAddress()), SmtpReplyCode.LOCAL_ERROR.getCode(),
+                "Mail MIME message submitted to a saturated local delivery lane was not rejected with a local error reply.");
+        } finally {
+            releaseLatch.countDown();
+        }
+    }
+
+    @Test(dependsOnMethods = "testSendDiscoveryTestcaseSubmission")
+    public void testDeliveryRemoteSaturated() throws Exception {
+        ThreadPoolTaskExecutor localDeliveryTaskExec = this.smtpServer.getLocalDeliveryTaskExecutor();
+        CountDownLatch releaseLatch = saturateDeliveryTaskExecutor(this.smtpServer.getRemoteDeliveryTaskExecutor());
+
+        try {
+            long localDeliveryNumCompleted = localDeliveryTaskExec.getThreadPoolExecutor().getCompletedTaskCount();
+
+            Assert.assertEquals(this.sendSmtpMessage(this.discoveryTestcases.get(0).getMailAddress()), SmtpReplyCode.MAIL_OK.getCode(),
+                "Mail MIME message submitted to the local delivery lane was not accepted while the remote delivery lane was saturated.");
+
+            long timeoutTime = (System.currentTimeMillis() + TEST_DELIVERY_TIMEOUT);
+
+            while ((localDeliveryTaskExec.getThreadPoolExecutor().getCompletedTaskCount() <= localDeliveryNumCompleted)
+                && (System.currentTimeMillis() < timeoutTime)) {
+                Thread.sleep((ToolDateUtils.MS_IN_SEC / 10));
+            }
+
+            Assert.assertTrue((localDeliveryTaskExec.getThreadPoolExecutor().getCompletedTaskCount() > localDeliveryNumCompleted),
+                "Local delivery was blocked while the remote delivery lane was saturated.");
+        } finally {
+            releaseLatch.countDown();
+        }
+    }
+
     @Test(dependsOnMethods = "testSendDiscoveryTestcaseResults")
     public void testSendDiscoveryTestcaseSubmission() throws Exception {
         MailAddress to;
@@ -110,6 +168,10 @@ public class MailServiceFunctionalTests
 
     @BeforeClass(dependsOnMethods = { "startService" }, groups = { "dcdt.test.func.service.mail" })
     public void setupMailMapping() {
+        // noinspection ConstantConditions
+        this.smtpServer =
+            this.service.getServers().stream().filter(SmtpServer.class::isInstance).map(SmtpServer.class::cast).findFirst()
+                .orElseThrow(() -> new AssertionError("Mail service does not have an SMTP server."));
         this.discoveryTestcaseSubmissionSenderService =
             ToolBeanFactoryUtils.getBeanOfType(this.applicationContext, DiscoveryTestcaseSubmissionSenderService.class);
         this.discoveryTestcaseResultSenderService = ToolBeanFactoryUtils.getBeanOfType(this.applicationContext, DiscoveryTestcaseResultSenderService.class);
@@ -128,6 +190,78 @@ public class MailServiceFunctionalTests
         super.startService();
     }
 
+    private int sendSmtpMessage(MailAddress toAddr) throws Exception {
+        MailAddress fromAddr = new MailAddressImpl(TEST_EXTERNAL_ADDR);
+
+        try (Socket socket = new Socket()) {
+            socket.connect(this.smtpServer.getConfig().toSocketAddress(true));
+            socket.setSoTimeout(((int) TEST_DELIVERY_TIMEOUT));
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            OutputStream outStream = socket.getOutputStream();
+
+            Assert.assertEquals(readSmtpReplyCode(reader), SmtpReplyCode.SERVICE_READY.getCode(), "SMTP server greeting was not received.");
+
+            for (String cmd : new String[] { ("HELO " + TEST_HELO_NAME), ("MAIL FROM:<" + fromAddr.toAddress() + ">"),
+                ("RCPT TO:<" + toAddr.toAddress() + ">") }) {
+                writeSmtpLine(outStream, cmd);
+
+                Assert.assertEquals(readSmtpReplyCode(reader), SmtpReplyCode.MAIL_OK.getCode(), String.format("SMTP command was not accepted: %s", cmd));
+            }
+
+            writeSmtpLine(outStream, "DATA");
+
+            Assert.assertEquals(readSmtpReplyCode(reader), SmtpReplyCode.DATA_READY.getCode(), "SMTP DATA command was not accepted.");
+
+            this.buildMailInfo(fromAddr, toAddr).getMessage().writeTo(outStream);
+            writeSmtpLine(outStream, (ToolStringUtils.CRLF + "."));
+
+            return readSmtpReplyCode(reader);
+        }
+    }
+
+    private static void writeSmtpLine(OutputStream outStream, String line) throws IOException {
+        outStream.write((line + ToolStringUtils.CRLF).getBytes(StandardCharsets.US_ASCII));
+        outStream.flush();
+    }
+
+    private static int readSmtpReplyCode(BufferedReader reader) throws IOException {
+        String line;
+
+        // Skipping all but the last line of multi-line replies.
+        do {
+            Assert.assertNotNull((line = reader.readLine()), "SMTP server closed the connection.");
+        } while ((line.length() > 3) && (line.charAt(3) == '-'));
+
+        return Integer.parseInt(line.substring(0, 3));
+    }
+
+    private static CountDownLatch saturateDeliveryTaskExecutor(ThreadPoolTaskExecutor deliveryTaskExec) throws Exception {
+        CountDownLatch startLatch = new CountDownLatch(deliveryTaskExec.getCorePoolSize()), releaseLatch = new CountDownLatch(1);
+        Runnable blockingTask = () -> {
+            startLatch.countDown();
+
+            try {
+                releaseLatch.await();
+            } catch (InterruptedException ignored) {
+            }
+        };
+
+        for (int a = 0; a < deliveryTaskExec.getCorePoolSize(); a++) {
+            deliveryTaskExec.execute(blockingTask);
+        }
+
+        Assert.assertTrue(startLatch.await(TEST_DELIVERY_TIMEOUT, TimeUnit.MILLISECONDS), "Delivery lane threads were not all occupied.");
+
+        BlockingQueue<Runnable> deliveryQueue = deliveryTaskExec.getThreadPoolExecutor().getQueue();
+
+        while (deliveryQueue.remainingCapacity() > 0) {
+            deliveryTaskExec.execute(blockingTask);
+        }
+
+        return releaseLatch;
+    }
+
     private MailInfo buildMailInfo(MailAddress fromAddr, MailAddress toAddr) throws MessagingException {
         MailInfo mailInfo = new MailInfoImpl(this.mailSession, MailEncoding.UTF_8);
         mailInfo.setFrom(fromAddr);
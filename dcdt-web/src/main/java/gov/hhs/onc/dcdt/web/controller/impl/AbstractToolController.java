@@ -6,6 +6,7 @@ import gov.hhs.onc.dcdt.web.HttpHeaderNames;
 import gov.hhs.onc.dcdt.web.ToolWebException;
 import gov.hhs.onc.dcdt.web.controller.ToolController;
 import java.io.IOException;
+import java.io.OutputStream;
 import javax.annotation.Resource;
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
@@ -29,15 +30,32 @@ public abstract class AbstractToolController extends AbstractToolBean implements
 
     protected AbstractApplicationContext appContext;
 
+    @FunctionalInterface
+    protected interface FileDataWriter {
+        public void writeData(OutputStream outStream) throws Exception;
+    }
+
+    protected static void buildFileResponse(HttpServletResponse servletResp, String fileName, MimeType fileContentType, FileDataWriter fileDataWriter)
+        throws ToolWebException {
+        ServletOutputStream servletOutStream;
+
+        try {
+            buildFileResponseHeaders(servletResp, fileName, fileContentType);
+
+            fileDataWriter.writeData((servletOutStream = servletResp.getOutputStream()));
+            servletOutStream.flush();
+        } catch (Exception e) {
+            throw new ToolWebException(String.format("Unable to stream file (name=%s, contentType={%s}) data to servlet output stream.", fileName,
+                fileContentType), e);
+        }
+    }
+
     protected static void buildFileResponse(HttpServletResponse servletResp, String fileName, MimeType fileContentType, byte[] fileData)
         throws ToolWebException {
         ServletOutputStream servletOutStream;
 
         try {
-            servletResp.setHeader(HttpHeaderNames.HEADER_NAME_CONTENT_DISPOSITION, (HttpHeaderNames.HEADER_VALUE_CONTENT_DISPOSITION_ATTACHMENT
-                + HttpHeaderNames.DELIM_HEADER_VALUE + HttpHeaderNames.HEADER_VALUE_PARAM_NAME_CONTENT_DISPOSITION_FILENAME
-                + HttpHeaderNames.DELIM_HEADER_VALUE_PARAM + ToolStringUtils.quote(fileName)));
-            servletResp.setContentType(fileContentType.toString());
+            buildFileResponseHeaders(servletResp, fileName, fileContentType);
             servletResp.setContentLength(fileData.length);
 
             IOUtils.write(fileData, (servletOutStream = servletResp.getOutputStream()));
@@ -48,6 +66,13 @@ public abstract class AbstractToolController extends AbstractToolBean implements
         }
     }
 
+    private static void buildFileResponseHeaders(HttpServletResponse servletResp, String fileName, MimeType fileContentType) {
+        servletResp.setHeader(HttpHeaderNames.HEADER_NAME_CONTENT_DISPOSITION, (HttpHeaderNames.HEADER_VALUE_CONTENT_DISPOSITION_ATTACHMENT
+            + HttpHeaderNames.DELIM_HEADER_VALUE + HttpHeaderNames.HEADER_VALUE_PARAM_NAME_CONTENT_DISPOSITION_FILENAME
+            + HttpHeaderNames.DELIM_HEADER_VALUE_PARAM + ToolStringUtils.quote(fileName)));
+        servletResp.setContentType(fileContentType.toString());
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext appContext) throws BeansException {
         this.appContext = (AbstractApplicationContext) appContext;
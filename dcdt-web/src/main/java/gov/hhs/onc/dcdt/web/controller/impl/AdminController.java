@@ -15,6 +15,7 @@ import gov.hhs.onc.dcdt.crypto.utils.KeyUtils;
 import gov.hhs.onc.dcdt.testcases.discovery.DiscoveryTestcase;
 import gov.hhs.onc.dcdt.testcases.discovery.credentials.DiscoveryTestcaseCredential;
 import gov.hhs.onc.dcdt.web.ToolWebException;
+import gov.hhs.onc.dcdt.web.ToolWebRuntimeException;
 import gov.hhs.onc.dcdt.web.controller.DisplayController;
 import gov.hhs.onc.dcdt.web.view.RequestView;
 import java.security.cert.X509Certificate;
@@ -24,9 +25,9 @@ import java.util.Map.Entry;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.servlet.http.HttpServletResponse;
-import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.compress.archivers.ArchiveException;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -38,6 +39,11 @@ public class AdminController extends AbstractToolController {
     private final static String FILE_NAME_SUFFIX_CREDS_ARCHIVE = "_creds";
     private final static String FILE_NAME_SUFFIX_CRED_KEY = "_key";
 
+    private final static int CREDS_ARCHIVE_COMPRESSION_LEVEL = ArchiveUtils.COMPRESSION_LEVEL_BEST_SPEED;
+
+    private final static ZipArchiveEntryPairTransformer CRED_ENTRY_PAIR_TRANSFORMER = new ZipArchiveEntryPairTransformer(credEntryName -> credEntryName
+        .endsWith(DataEncoding.DER.getFileExtension()));
+
     @RequestMapping(value = { "/admin/instance/creds" }, method = { RequestMethod.GET })
     public void downloadInstanceCredentials(HttpServletResponse servletResp) throws ToolWebException {
         InstanceConfig instanceConfig = ToolBeanFactoryUtils.getBeanOfType(this.appContext, InstanceConfig.class);
@@ -57,53 +63,12 @@ public class AdminController extends AbstractToolController {
                         .filter(discoveryTestcaseCred -> discoveryTestcaseCred.getType().isCa())).filter(DiscoveryTestcaseCredential::hasCredentialInfo)
                 .collect(Collectors.toList());
 
-        List<Entry<String, byte[]>> credEntryDescPairs = new ArrayList<>(creds.size() * 3);
-        String credName;
-        CredentialInfo credInfo;
-        KeyInfo keyInfo;
-        CertificateInfo certInfo;
-        X509Certificate cert;
-
-        for (DiscoveryTestcaseCredential cred : creds) {
-            credName = cred.getName();
-
-            // noinspection ConstantConditions
-            if ((credInfo = cred.getCredentialInfo()).hasKeyDescriptor() && (keyInfo = credInfo.getKeyDescriptor()).hasPrivateKey()) {
-                for (DataEncoding dataEnc : DataEncoding.values()) {
-                    try {
-                        credEntryDescPairs.add(new ImmutablePair<>((credName + FILE_NAME_SUFFIX_CRED_KEY + dataEnc.getFileExtension()), KeyUtils.writeKey(
-                            keyInfo.getPrivateKey(), dataEnc)));
-                    } catch (CryptographyException e) {
-                        throw new ToolWebException(String.format("Unable to write Discovery credential (name=%s) private key data.", credName), e);
-                    }
-                }
-            }
-
-            // noinspection ConstantConditions
-            if ((certInfo = credInfo.getCertificateDescriptor()).hasCertificate()) {
-                cert = certInfo.getCertificate();
-
-                for (DataEncoding dataEnc : DataEncoding.values()) {
-                    try {
-                        credEntryDescPairs.add(new ImmutablePair<>((credName + dataEnc.getFileExtension()), CertificateUtils.writeCertificate(
-                            certInfo.getCertificate(), dataEnc)));
-                    } catch (CryptographyException e) {
-                        // noinspection ConstantConditions
-                        throw new ToolWebException(String.format(
-                            "Unable to write Discovery credential (name=%s) certificate (subjDn={%s}, serialNum=%s, issuerDn={%s}) data.", credName,
-                            cert.getSubjectDN(), certInfo.getSerialNumber(), cert.getIssuerDN()), e);
-                    }
-                }
-            }
-        }
+        Iterable<Pair<ZipArchiveEntry, byte[]>> credEntryPairs =
+            () -> creds.stream().flatMap(AdminController::buildCredentialEntryDescriptorPairs).map(CRED_ENTRY_PAIR_TRANSFORMER::transform).iterator();
 
-        try {
-            buildFileResponse(servletResp, (instanceConfig.getDomainName() + FILE_NAME_SUFFIX_CREDS_ARCHIVE + ArchiveType.ZIP.getFileExtension()),
-                ArchiveType.ZIP.getContentType(),
-                ArchiveUtils.writeArchive(ArchiveType.ZIP, CollectionUtils.collect(credEntryDescPairs, ZipArchiveEntryPairTransformer.INSTANCE)));
-        } catch (ArchiveException e) {
-            throw new ToolWebException("Unable to write Discovery credentials archive data.", e);
-        }
+        buildFileResponse(servletResp, (instanceConfig.getDomainName() + FILE_NAME_SUFFIX_CREDS_ARCHIVE + ArchiveType.ZIP.getFileExtension()),
+            ArchiveType.ZIP.getContentType(), servletOutStream -> ArchiveUtils.writeArchive(ArchiveType.ZIP, servletOutStream, CREDS_ARCHIVE_COMPRESSION_LEVEL,
+                credEntryPairs));
     }
 
     @RequestMapping(value = { "/admin/login" }, method = { RequestMethod.GET })
@@ -117,4 +82,44 @@ public class AdminController extends AbstractToolController {
     public ModelAndView displayAdmin() {
         return new ModelAndView();
     }
+
+    private static Stream<Entry<String, byte[]>> buildCredentialEntryDescriptorPairs(DiscoveryTestcaseCredential cred) {
+        List<Entry<String, byte[]>> credEntryDescPairs = new ArrayList<>(DataEncoding.values().length * 2);
+        String credName = cred.getName();
+        CredentialInfo credInfo;
+        KeyInfo keyInfo;
+        CertificateInfo certInfo;
+        X509Certificate cert;
+
+        // noinspection ConstantConditions
+        if ((credInfo = cred.getCredentialInfo()).hasKeyDescriptor() && (keyInfo = credInfo.getKeyDescriptor()).hasPrivateKey()) {
+            for (DataEncoding dataEnc : DataEncoding.values()) {
+                try {
+                    credEntryDescPairs.add(new ImmutablePair<>((credName + FILE_NAME_SUFFIX_CRED_KEY + dataEnc.getFileExtension()), KeyUtils.writeKey(
+                        keyInfo.getPrivateKey(), dataEnc)));
+                } catch (CryptographyException e) {
+                    throw new ToolWebRuntimeException(String.format("Unable to write Discovery credential (name=%s) private key data.", credName), e);
+                }
+            }
+        }
+
+        // noinspection ConstantConditions
+        if ((certInfo = credInfo.getCertificateDescriptor()).hasCertificate()) {
+            cert = certInfo.getCertificate();
+
+            for (DataEncoding dataEnc : DataEncoding.values()) {
+                try {
+                    credEntryDescPairs.add(new ImmutablePair<>((credName + dataEnc.getFileExtension()), CertificateUtils.writeCertificate(
+                        certInfo.getCertificate(), dataEnc)));
+                } catch (CryptographyException e) {
+                    // noinspection ConstantConditions
+                    throw new ToolWebRuntimeException(String.format(
+                        "Unable to write Discovery credential (name=%s) certificate (subjDn={%s}, serialNum=%s, issuerDn={%s}) data.", credName,
+                        cert.getSubjectDN(), certInfo.getSerialNumber(), cert.getIssuerDN()), e);
+                }
+            }
+        }
+
+        return credEntryDescPairs.stream();
+    }
 }